@@ -0,0 +1,172 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.jwt.revocation.local.LocalTokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청당 JWT 인증 비용과 토큰 크기 비교
+ * <p>
+ * {@code legacyValidateThenParse}는 처음 {@code JwtAuthenticationFilter} 경로(요청마다 MACVerifier 생성, JWS 세 번
+ * 파싱, iat/exp/userDto를 ObjectMapper로 변환)를, {@code fullClaimsSingleParse}는 사용자 정보 전체를 담은 토큰을 한 번만
+ * 파싱하던 경로를 재현한다. {@code authenticateCacheMiss}/{@code authenticateCacheHit}은 sub/role/ver/jti만 담은 토큰을
+ * 검증하고 {@link UserSnapshotCache}에서 인증 주체를 찾는 현재 경로다.
+ * <p>
+ * 실행: {@code ./gradlew jmh} (토큰 크기는 시작 시 출력된다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+  private ObjectMapper objectMapper;
+  private JwtBlacklist jwtBlacklist;
+  private JwtService cachedJwtService;
+  private JwtService uncachedJwtService;
+  private UserSnapshotCache userSnapshotCache;
+  private MACVerifier verifier;
+  private String legacyToken;
+  private String compactToken;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    jwtBlacklist = new JwtBlacklist(new LocalTokenRevocationStore(), 100_000,
+        new SimpleMeterRegistry());
+    cachedJwtService = createJwtService(10_000);
+    uncachedJwtService = createJwtService(0);
+    verifier = new MACVerifier(SECRET);
+
+    UUID userId = UUID.randomUUID();
+    User user = new User("benchmark", "benchmark@example.com", "password", null);
+    UserDto userDto = new UserDto(userId, "benchmark", "benchmark@example.com",
+        new BinaryContentDto(UUID.randomUUID(), "profile-image.png", 48_213L, "image/png",
+            BinaryContentUploadStatus.SUCCESS), null, Role.USER);
+    userSnapshotCache = new UserSnapshotCache(
+        stub(UserRepository.class, Optional.of(user)), stub(UserMapper.class, userDto),
+        10_000, Duration.ofHours(1), new SimpleMeterRegistry());
+
+    Instant issueTime = Instant.now();
+    Date iat = new Date(issueTime.toEpochMilli());
+    Date exp = new Date(issueTime.plus(Duration.ofHours(1)).toEpochMilli());
+    legacyToken = sign(new JWTClaimsSet.Builder()
+        .subject(userDto.username())
+        .claim("userDto", objectMapper.convertValue(userDto, Map.class))
+        .issueTime(iat)
+        .expirationTime(exp)
+        .build());
+    compactToken = sign(new JWTClaimsSet.Builder()
+        .subject(userId.toString())
+        .jwtID(UUID.randomUUID().toString())
+        .claim(JwtService.ROLE_CLAIM, Role.USER.name())
+        .claim(JwtService.VERSION_CLAIM, 0L)
+        .issueTime(iat)
+        .expirationTime(exp)
+        .build());
+    System.out.printf("Authorization 헤더 크기: legacy=%d bytes, compact=%d bytes%n",
+        ("Bearer " + legacyToken).length(), ("Bearer " + compactToken).length());
+  }
+
+  @Benchmark
+  public UserDto legacyValidateThenParse() throws Exception {
+    JWSObject jwsObject = JWSObject.parse(legacyToken);
+    boolean verified = jwsObject.verify(new MACVerifier(SECRET));
+    if (verified) {
+      Map<String, Object> claims = JWSObject.parse(legacyToken).getPayload().toJSONObject();
+      Instant expirationTime = objectMapper.convertValue(claims.get("exp"), Instant.class);
+      verified = !expirationTime.isBefore(Instant.now()) && !jwtBlacklist.contains(legacyToken);
+    }
+    if (!verified) {
+      throw new IllegalStateException();
+    }
+    Map<String, Object> claims = JWSObject.parse(legacyToken).getPayload().toJSONObject();
+    objectMapper.convertValue(claims.get("iat"), Instant.class);
+    objectMapper.convertValue(claims.get("exp"), Instant.class);
+    return objectMapper.convertValue(claims.get("userDto"), UserDto.class);
+  }
+
+  @Benchmark
+  public UserDto fullClaimsSingleParse() throws Exception {
+    if (jwtBlacklist.contains(legacyToken)) {
+      throw new IllegalStateException();
+    }
+    SignedJWT signedJWT = SignedJWT.parse(legacyToken);
+    if (!signedJWT.verify(verifier)) {
+      throw new IllegalStateException();
+    }
+    JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+    claimsSet.getIssueTime();
+    claimsSet.getExpirationTime();
+    return objectMapper.convertValue(claimsSet.getJSONObjectClaim("userDto"), UserDto.class);
+  }
+
+  @Benchmark
+  public UserDto authenticateCacheMiss() {
+    JwtObject jwtObject = uncachedJwtService.authenticate(compactToken).orElseThrow();
+    return userSnapshotCache.get(jwtObject.userId(), jwtObject.version()).orElseThrow();
+  }
+
+  @Benchmark
+  public UserDto authenticateCacheHit() {
+    JwtObject jwtObject = cachedJwtService.authenticate(compactToken).orElseThrow();
+    return userSnapshotCache.get(jwtObject.userId(), jwtObject.version()).orElseThrow();
+  }
+
+  private String sign(JWTClaimsSet claimsSet) throws Exception {
+    SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+    signedJWT.sign(new MACSigner(SECRET));
+    return signedJWT.serialize();
+  }
+
+  // 벤치마크 경로에서 호출되는 메서드는 모두 같은 값을 반환한다.
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, Object value) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+        (proxy, method, args) -> value);
+  }
+
+  private JwtService createJwtService(int cacheSize) throws Exception {
+    JwtService jwtService = new JwtService(null, null, null, objectMapper, jwtBlacklist,
+        new VerifiedTokenCache(cacheSize, new SimpleMeterRegistry()));
+    Field secret = JwtService.class.getDeclaredField("secret");
+    secret.setAccessible(true);
+    secret.set(jwtService, SECRET);
+    return jwtService;
+  }
+}
@@ -0,0 +1,100 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.service.MessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * WebSocket 메시지 전송 시 건별 커밋과 group commit의 처리량/지연 시간 비교
+ * <p>
+ * 실제 DB 대신 커밋마다 WAL flush처럼 하나의 잠금 안에서 {@code commitMicros}만큼 기다리고, 메시지마다
+ * {@code rowMicros}만큼 더 기다리는 {@link MessageService}로 측정한다. 건별 커밋은 메시지마다 flush를 기다리고,
+ * group commit은 한 번의 flush를 묶음 전체가 나눠 쓴다. 32개 스레드가 동시에 전송하며, 처리량과 함께
+ * {@code Mode.SampleTime}으로 p50/p99 지연 시간을 본다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class MessageGroupCommitBenchmark {
+
+  @Param({"false", "true"})
+  private boolean groupCommit;
+
+  @Param({"1000"})
+  private long commitMicros;
+
+  @Param({"20"})
+  private long rowMicros;
+
+  private final ReentrantLock walLock = new ReentrantLock();
+  private MessageGroupCommitter committer;
+  private MessageCreateRequest request;
+
+  @Setup
+  public void setUp() {
+    committer = new MessageGroupCommitter(simulatedMessageService(), groupCommit, 100,
+        Duration.ofMillis(5), 10_000, Duration.ofSeconds(1), new SimpleMeterRegistry());
+    committer.start();
+    request = new MessageCreateRequest("content", UUID.randomUUID(), UUID.randomUUID());
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    committer.stop();
+  }
+
+  @Benchmark
+  public MessageDto send() {
+    return committer.send(request).join();
+  }
+
+  private MessageService simulatedMessageService() {
+    return (MessageService) Proxy.newProxyInstance(MessageService.class.getClassLoader(),
+        new Class<?>[]{MessageService.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "create" -> commit(List.of((MessageCreateRequest) args[0])).get(0);
+          case "createAll" -> {
+            @SuppressWarnings("unchecked")
+            List<MessageCreateRequest> requests = (List<MessageCreateRequest>) args[0];
+            yield commit(requests);
+          }
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  private List<MessageDto> commit(List<MessageCreateRequest> requests) {
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(rowMicros * requests.size()));
+    walLock.lock();
+    try {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(commitMicros));
+    } finally {
+      walLock.unlock();
+    }
+    Instant now = Instant.now();
+    return requests.stream()
+        .map(request -> new MessageDto(UUID.randomUUID(), now, now, request.content(),
+            request.channelId(), null, List.of()))
+        .toList();
+  }
+}
@@ -0,0 +1,119 @@
+package com.sprint.mission.discodeit.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결 수별 수신자 조회와 전송 비용, 연결당 힙 사용량
+ * <p>
+ * {@code legacyScanLookup}은 변경 전 {@code findAllByReceiverIdsIn}처럼 전체 항목을 훑으며 수신자 3명을 찾고,
+ * {@code indexedLookup}은 수신자별 직접 조회로 찾는다. {@code sendToThreeReceivers}는 {@link SseService}의 다중 수신자
+ * 전송 전체 경로다. 전송은 실제 응답 대신 아무것도 하지 않는 연결로 측정한다.
+ * <p>
+ * 연결당 힙 사용량(연결 객체 포함 / 레지스트리만)은 시작 시 GC 후 사용량 차이로 계산해 출력한다. 정확한 값이 필요하면
+ * {@code -prof gc}와 함께 실행한다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseEmitterRegistryBenchmark {
+
+  @Param({"10000", "100000", "500000"})
+  private int emitters;
+
+  private SseEmitterRepository sseEmitterRepository;
+  private Map<UUID, List<SseEmitter>> legacyData;
+  private SseService sseService;
+  private Set<UUID> receiverIds;
+
+  @Setup
+  public void setUp() throws Exception {
+    UUID[] userIds = new UUID[emitters];
+    for (int i = 0; i < emitters; i++) {
+      userIds[i] = UUID.randomUUID();
+    }
+
+    long baseline = usedHeap();
+    SseEmitter[] created = new SseEmitter[emitters];
+    for (int i = 0; i < emitters; i++) {
+      created[i] = new NoopSseEmitter();
+    }
+    long withEmitters = usedHeap();
+
+    sseEmitterRepository = new SseEmitterRepository();
+    for (int i = 0; i < emitters; i++) {
+      sseEmitterRepository.save(userIds[i], created[i]);
+    }
+    long withRegistry = usedHeap();
+    System.out.printf("emitters=%d, 연결당 힙: 전체 %d bytes, 레지스트리 %d bytes%n", emitters,
+        (withRegistry - baseline) / emitters, (withRegistry - withEmitters) / emitters);
+
+    legacyData = new ConcurrentHashMap<>();
+    for (int i = 0; i < emitters; i++) {
+      legacyData.computeIfAbsent(userIds[i], id -> new CopyOnWriteArrayList<>()).add(created[i]);
+    }
+
+    SseMessageRepository sseMessageRepository = new SseMessageRepository(new ObjectMapper(),
+        Duration.ofMinutes(5), DataSize.ofMegabytes(16), new SimpleMeterRegistry());
+    sseService = new SseService(sseEmitterRepository, sseMessageRepository, null);
+
+    receiverIds = Set.of(userIds[0], userIds[emitters / 2], userIds[emitters - 1]);
+  }
+
+  @Benchmark
+  public List<SseEmitter> legacyScanLookup() {
+    return legacyData.entrySet().stream()
+        .filter(entry -> receiverIds.contains(entry.getKey()))
+        .map(Map.Entry::getValue)
+        .flatMap(Collection::stream)
+        .toList();
+  }
+
+  @Benchmark
+  public List<SseEmitter> indexedLookup() {
+    return sseEmitterRepository.findAllByReceiverIdsIn(receiverIds);
+  }
+
+  @Benchmark
+  public void sendToThreeReceivers() {
+    sseService.send(receiverIds, "notifications", "benchmark");
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static class NoopSseEmitter extends SseEmitter {
+
+    @Override
+    public void send(Set<DataWithMediaType> items) {
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
+import com.sprint.mission.discodeit.repository.ChannelMemberView;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채널별로 알림을 켠 참여자 id를 메모리에 보관해 새 메시지 알림 대상을 DB 조회 없이 구한다.
+ * <p>
+ * 참여자 집합은 UUID 하나를 long 두 개로 펼친 배열(copy-on-write)로 저장하므로 참여 관계 하나에 16바이트가 든다.
+ * {@code HashSet<UUID>}로 보관하면 노드와 UUID 객체 때문에 참여 관계마다 약 80바이트가 필요하다. 채널마다 맵 항목,
+ * 키, 배열 헤더로 약 {@value #CHANNEL_OVERHEAD_BYTES}바이트가 추가된다.
+ * <p>
+ * 읽음 상태 생성/수정/삭제 시 {@link ChannelMembershipChangedEvent}로 갱신하고, 다른 노드에서 놓친 변경은
+ * {@code rebuild-interval-ms}마다 DB에서 다시 만들어 맞춘다. 처음 만들어지기 전이거나 비활성화되어 있으면 호출자가 DB를
+ * 조회하도록 빈 값을 반환한다.
+ */
+@Slf4j
+@Component
+public class ChannelMembershipIndex {
+
+  public static final String METRIC_PREFIX = "discodeit.channel.membership-index";
+
+  private static final long[] EMPTY = new long[0];
+  // ConcurrentHashMap 노드, UUID 키, long[] 헤더를 합친 대략적인 크기
+  private static final long CHANNEL_OVERHEAD_BYTES = 96;
+  private static final long MEMBERSHIP_BYTES = 2 * Long.BYTES;
+
+  private final ReadStatusRepository readStatusRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+
+  private volatile Map<UUID, long[]> members = new ConcurrentHashMap<>();
+  private volatile boolean ready;
+
+  // 재구성 중에 들어온 변경. 새 인덱스에 다시 적용한다. lock으로 보호한다.
+  private final Object lock = new Object();
+  private List<ChannelMembershipChangedEvent> pendingDuringRebuild;
+
+  public ChannelMembershipIndex(
+      ReadStatusRepository readStatusRepository,
+      TransactionTemplate transactionTemplate,
+      @Value("${discodeit.channel.membership-index.enabled:true}") boolean enabled,
+      MeterRegistry meterRegistry
+  ) {
+    this.readStatusRepository = readStatusRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+
+    Gauge.builder(METRIC_PREFIX + ".channels", this, index -> index.members.size())
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".memberships", this, ChannelMembershipIndex::getMembershipCount)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".memory", this, ChannelMembershipIndex::getMemoryBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 채널에서 알림을 켠 참여자 id. 인덱스를 사용할 수 없으면 빈 값을 반환한다.
+   */
+  public Optional<Set<UUID>> findNotificationTargets(UUID channelId) {
+    if (!enabled || !ready) {
+      return Optional.empty();
+    }
+    long[] packed = members.getOrDefault(channelId, EMPTY);
+    Set<UUID> userIds = new HashSet<>(packed.length);
+    for (int i = 0; i < packed.length; i += 2) {
+      userIds.add(new UUID(packed[i], packed[i + 1]));
+    }
+    return Optional.of(userIds);
+  }
+
+  public void apply(ChannelMembershipChangedEvent event) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (lock) {
+      if (pendingDuringRebuild != null) {
+        pendingDuringRebuild.add(event);
+      }
+      applyTo(members, event);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${discodeit.channel.membership-index.rebuild-interval-ms:600000}",
+      initialDelayString = "${discodeit.channel.membership-index.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+    long startedAt = System.nanoTime();
+    synchronized (lock) {
+      pendingDuringRebuild = new ArrayList<>();
+    }
+
+    Map<UUID, long[]> rebuilt;
+    try {
+      rebuilt = load();
+    } catch (RuntimeException e) {
+      synchronized (lock) {
+        pendingDuringRebuild = null;
+      }
+      log.error("채널 참여자 인덱스 재구성 실패", e);
+      return;
+    }
+
+    synchronized (lock) {
+      pendingDuringRebuild.forEach(event -> applyTo(rebuilt, event));
+      pendingDuringRebuild = null;
+      members = rebuilt;
+      ready = true;
+    }
+    log.info("채널 참여자 인덱스 재구성 완료: channels={}, memberships={}, memoryBytes={}, elapsedMs={}",
+        rebuilt.size(), getMembershipCount(), getMemoryBytes(),
+        (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  public long getMembershipCount() {
+    return members.values().stream().mapToLong(packed -> packed.length / 2).sum();
+  }
+
+  // 배열 길이와 고정 오버헤드로 계산한 추정치. 실제 힙 사용량은 JVM 설정(압축 포인터, 정렬)에 따라 다르다.
+  public long getMemoryBytes() {
+    return members.size() * CHANNEL_OVERHEAD_BYTES + getMembershipCount() * MEMBERSHIP_BYTES;
+  }
+
+  private Map<UUID, long[]> load() {
+    Map<UUID, PackedBuilder> builders = new HashMap<>();
+    transactionTemplate.executeWithoutResult(status -> {
+      try (Stream<ChannelMemberView> rows = readStatusRepository.streamAllNotificationEnabled()) {
+        rows.forEach(row -> builders.computeIfAbsent(row.channelId(), id -> new PackedBuilder())
+            .add(row.userId()));
+      }
+    });
+
+    Map<UUID, long[]> loaded = new ConcurrentHashMap<>(Math.max(16, builders.size() * 4 / 3));
+    builders.forEach((channelId, builder) -> loaded.put(channelId, builder.build()));
+    return loaded;
+  }
+
+  private static void applyTo(Map<UUID, long[]> target, ChannelMembershipChangedEvent event) {
+    if (event.channelId() == null) {
+      target.replaceAll((channelId, packed) -> without(packed, event.userId()));
+      target.values().removeIf(packed -> packed.length == 0);
+    } else if (event.userId() == null) {
+      target.remove(event.channelId());
+    } else if (event.notificationEnabled()) {
+      target.compute(event.channelId(), (channelId, packed) -> with(packed, event.userId()));
+    } else {
+      target.computeIfPresent(event.channelId(), (channelId, packed) -> {
+        long[] removed = without(packed, event.userId());
+        return removed.length == 0 ? null : removed;
+      });
+    }
+  }
+
+  private static long[] with(long[] packed, UUID userId) {
+    if (packed == null) {
+      return new long[]{userId.getMostSignificantBits(), userId.getLeastSignificantBits()};
+    }
+    if (indexOf(packed, userId) >= 0) {
+      return packed;
+    }
+    long[] added = Arrays.copyOf(packed, packed.length + 2);
+    added[packed.length] = userId.getMostSignificantBits();
+    added[packed.length + 1] = userId.getLeastSignificantBits();
+    return added;
+  }
+
+  private static long[] without(long[] packed, UUID userId) {
+    int index = indexOf(packed, userId);
+    if (index < 0) {
+      return packed;
+    }
+    long[] removed = new long[packed.length - 2];
+    System.arraycopy(packed, 0, removed, 0, index);
+    System.arraycopy(packed, index + 2, removed, index, packed.length - index - 2);
+    return removed;
+  }
+
+  private static int indexOf(long[] packed, UUID userId) {
+    long msb = userId.getMostSignificantBits();
+    long lsb = userId.getLeastSignificantBits();
+    for (int i = 0; i < packed.length; i += 2) {
+      if (packed[i] == msb && packed[i + 1] == lsb) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static class PackedBuilder {
+
+    private long[] packed = new long[8];
+    private int size;
+
+    void add(UUID userId) {
+      if (size == packed.length) {
+        packed = Arrays.copyOf(packed, size * 2);
+      }
+      packed[size++] = userId.getMostSignificantBits();
+      packed[size++] = userId.getLeastSignificantBits();
+    }
+
+    long[] build() {
+      return Arrays.copyOf(packed, size);
+    }
+  }
+}
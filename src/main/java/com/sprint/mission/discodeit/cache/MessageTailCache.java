@@ -0,0 +1,350 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 채널별 최신 메시지(hot tail)를 메모리에 보관해 커서 없는 첫 페이지 조회를 DB 없이 처리한다.
+ * <p>
+ * 채널마다 최신순으로 정렬된 최대 {@code capacity}개의 {@link MessageDto}를 보관하고, 전체 추정 메모리가
+ * {@code max-memory}를 넘으면 가장 오래 사용되지 않은 채널부터 제거한다(LRU).
+ * <p>
+ * DB 조회 결과로 채우는 동안 다른 요청이 같은 채널을 변경하면 오래된 결과가 저장될 수 있으므로, 채널별 버전(스트라이프)을
+ * 조회 전에 기록해두고 그 사이 변경이 있었다면 저장하지 않는다.
+ * <p>
+ * 다른 노드의 메시지 생성/수정/삭제는 Kafka 이벤트로 반영하고, 이벤트로 전달되지 않는 변경(작성자 정보, 첨부파일 상태 등)과
+ * 이벤트 순서가 뒤바뀐 경우는 채널을 채운 지 {@code ttl}이 지나면 다시 조회해 바로잡는다.
+ */
+@Slf4j
+@Component
+public class MessageTailCache {
+
+  public static final String METRIC_PREFIX = "discodeit.message.tail-cache";
+
+  private static final int VERSION_STRIPES = 1024;
+  private static final Comparator<MessageDto> NEWEST_FIRST = Comparator
+      .comparing(MessageDto::createdAt)
+      .thenComparing(MessageDto::id)
+      .reversed();
+
+  // 객체 헤더, 참조 필드, Instant/UUID 등을 포함한 대략적인 크기
+  private static final long MESSAGE_OVERHEAD_BYTES = 200;
+  private static final long USER_OVERHEAD_BYTES = 120;
+  private static final long ATTACHMENT_OVERHEAD_BYTES = 120;
+  private static final long STRING_OVERHEAD_BYTES = 40;
+
+  private final boolean enabled;
+  private final int capacity;
+  private final long maxMemoryBytes;
+  private final Duration ttl;
+
+  private final LinkedHashMap<UUID, Tail> tails = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+  private long memoryBytes;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public MessageTailCache(
+      @Value("${discodeit.message.tail-cache.enabled:true}") boolean enabled,
+      @Value("${discodeit.message.tail-cache.capacity:100}") int capacity,
+      @Value("${discodeit.message.tail-cache.max-memory:64MB}") DataSize maxMemory,
+      @Value("${discodeit.message.tail-cache.ttl:PT5M}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this.enabled = enabled;
+    this.capacity = capacity;
+    this.maxMemoryBytes = maxMemory.toBytes();
+    this.ttl = ttl;
+
+    this.hitCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, MessageTailCache::getHitRatio)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".memory", this, MessageTailCache::getMemoryBytes)
+        .description("캐시된 메시지의 추정 메모리 사용량")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".channels", this, MessageTailCache::getChannelCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 채널의 최신 메시지 {@code size}개를 반환한다. 캐시만으로 페이지를 완성할 수 없으면 비어있는 값을 반환한다.
+   */
+  public synchronized Optional<Slice<MessageDto>> findLatest(UUID channelId, int size) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    Tail tail = tails.get(channelId);
+    if (tail != null && !tail.expiresAt.isAfter(Instant.now())) {
+      tails.remove(channelId);
+      memoryBytes -= tail.bytes;
+      tail = null;
+    }
+    if (tail == null || (tail.messages.size() <= size && !tail.complete)) {
+      missCounter.increment();
+      return Optional.empty();
+    }
+
+    hitCounter.increment();
+    boolean hasNext = tail.messages.size() > size;
+    List<MessageDto> content = List.copyOf(
+        tail.messages.subList(0, Math.min(size, tail.messages.size())));
+    return Optional.of(new SliceImpl<>(content, PageRequest.of(0, size), hasNext));
+  }
+
+  /**
+   * 캐시를 채울 때 조회할 메시지 수. 페이지 크기만큼만 채우면 다음 요청에서 다음 페이지 존재 여부를 알 수 없어 매번 캐시를
+   * 놓치므로 용량만큼 조회한다.
+   */
+  public int getFillSize() {
+    return enabled ? capacity : 0;
+  }
+
+  /**
+   * {@link #populate}에 전달할 채널 버전. DB 조회 전에 호출해야 한다.
+   */
+  public long version(UUID channelId) {
+    return versions.get(stripe(channelId));
+  }
+
+  /**
+   * DB에서 조회한 최신 메시지 첫 페이지로 캐시를 채운다.
+   */
+  public synchronized void populate(UUID channelId, long version, Slice<MessageDto> latest) {
+    if (!enabled || version != version(channelId) || tails.containsKey(channelId)) {
+      return;
+    }
+
+    Tail tail = new Tail(Instant.now().plus(ttl));
+    latest.getContent().stream()
+        .limit(capacity)
+        .forEach(tail::add);
+    tail.complete = !latest.hasNext() && latest.getNumberOfElements() <= capacity;
+    tails.put(channelId, tail);
+    memoryBytes += tail.bytes;
+    evictIfNecessary();
+  }
+
+  /**
+   * 새 메시지를 반영한다. 같은 메시지가 이 노드와 Kafka로 두 번 전달되어도 한 번만 보관한다.
+   */
+  public synchronized void put(MessageDto message) {
+    UUID channelId = message.channelId();
+    bumpVersion(channelId);
+    Tail tail = tails.get(channelId);
+    if (tail == null || !tail.covers(message)) {
+      return;
+    }
+
+    long before = tail.bytes;
+    tail.remove(message.id());
+    tail.add(message);
+    tail.trim(capacity);
+    memoryBytes += tail.bytes - before;
+    evictIfNecessary();
+  }
+
+  public synchronized void replace(MessageDto message) {
+    UUID channelId = message.channelId();
+    bumpVersion(channelId);
+    Tail tail = tails.get(channelId);
+    if (tail == null) {
+      return;
+    }
+
+    long before = tail.bytes;
+    if (tail.remove(message.id())) {
+      tail.add(message);
+    }
+    memoryBytes += tail.bytes - before;
+    evictIfNecessary();
+  }
+
+  public synchronized void remove(UUID messageId) {
+    tails.forEach((channelId, tail) -> {
+      long before = tail.bytes;
+      if (tail.remove(messageId)) {
+        bumpVersion(channelId);
+        memoryBytes += tail.bytes - before;
+      }
+    });
+  }
+
+  public synchronized void evictChannel(UUID channelId) {
+    bumpVersion(channelId);
+    Tail tail = tails.remove(channelId);
+    if (tail != null) {
+      memoryBytes -= tail.bytes;
+    }
+  }
+
+  /**
+   * 사용자 정보가 바뀌면 해당 사용자가 작성한 메시지를 가진 채널을 제거한다.
+   */
+  public synchronized void evictAuthor(UUID authorId) {
+    Iterator<Map.Entry<UUID, Tail>> iterator = tails.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<UUID, Tail> entry = iterator.next();
+      boolean written = entry.getValue().messages.stream()
+          .anyMatch(message -> message.author() != null
+              && authorId.equals(message.author().id()));
+      if (written) {
+        bumpVersion(entry.getKey());
+        memoryBytes -= entry.getValue().bytes;
+        iterator.remove();
+      }
+    }
+  }
+
+  public synchronized void updateAttachmentStatus(UUID binaryContentId,
+      BinaryContentUploadStatus status) {
+    tails.forEach((channelId, tail) -> {
+      for (int i = 0; i < tail.messages.size(); i++) {
+        MessageDto message = tail.messages.get(i);
+        if (message.attachments() == null || message.attachments().stream()
+            .noneMatch(attachment -> binaryContentId.equals(attachment.id()))) {
+          continue;
+        }
+
+        List<BinaryContentDto> attachments = message.attachments().stream()
+            .map(attachment -> binaryContentId.equals(attachment.id())
+                ? new BinaryContentDto(attachment.id(), attachment.fileName(), attachment.size(),
+                attachment.contentType(), status)
+                : attachment)
+            .toList();
+        tail.messages.set(i, new MessageDto(message.id(), message.createdAt(),
+            message.updatedAt(), message.content(), message.channelId(), message.author(),
+            attachments));
+        bumpVersion(channelId);
+      }
+    });
+  }
+
+  public double getHitRatio() {
+    double hits = hitCounter.count();
+    double total = hits + missCounter.count();
+    return total == 0 ? 0 : hits / total;
+  }
+
+  public synchronized long getMemoryBytes() {
+    return memoryBytes;
+  }
+
+  public synchronized int getChannelCount() {
+    return tails.size();
+  }
+
+  private void evictIfNecessary() {
+    Iterator<Map.Entry<UUID, Tail>> iterator = tails.entrySet().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      Map.Entry<UUID, Tail> eldest = iterator.next();
+      memoryBytes -= eldest.getValue().bytes;
+      iterator.remove();
+      log.debug("메시지 캐시 용량 초과로 채널 제거: channelId={}, memoryBytes={}",
+          eldest.getKey(), memoryBytes);
+    }
+  }
+
+  private void bumpVersion(UUID channelId) {
+    versions.incrementAndGet(stripe(channelId));
+  }
+
+  private static int stripe(UUID channelId) {
+    return Math.floorMod(channelId.hashCode(), VERSION_STRIPES);
+  }
+
+  private static long estimateSize(MessageDto message) {
+    long size = MESSAGE_OVERHEAD_BYTES + estimateSize(message.content());
+    UserDto author = message.author();
+    if (author != null) {
+      size += USER_OVERHEAD_BYTES + estimateSize(author.username()) + estimateSize(author.email());
+    }
+    if (message.attachments() != null) {
+      for (BinaryContentDto attachment : message.attachments()) {
+        size += ATTACHMENT_OVERHEAD_BYTES + estimateSize(attachment.fileName())
+            + estimateSize(attachment.contentType());
+      }
+    }
+    return size;
+  }
+
+  private static long estimateSize(String value) {
+    return value == null ? 0 : STRING_OVERHEAD_BYTES + 2L * value.length();
+  }
+
+  private static class Tail {
+
+    // 최신순 정렬
+    private final List<MessageDto> messages = new ArrayList<>();
+    private final Instant expiresAt;
+    // 채널의 모든 메시지를 보관하고 있는지 여부
+    private boolean complete;
+    private long bytes;
+
+    private Tail(Instant expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+
+    // 보관 범위보다 오래된 메시지는 중간에 빠진 메시지가 있을 수 있으므로 추가하지 않는다.
+    private boolean covers(MessageDto message) {
+      return complete || messages.isEmpty()
+          || NEWEST_FIRST.compare(message, messages.get(messages.size() - 1)) < 0;
+    }
+
+    private void add(MessageDto message) {
+      int index = 0;
+      while (index < messages.size() && NEWEST_FIRST.compare(messages.get(index), message) < 0) {
+        index++;
+      }
+      messages.add(index, message);
+      bytes += estimateSize(message);
+    }
+
+    private boolean remove(UUID messageId) {
+      for (int i = 0; i < messages.size(); i++) {
+        if (messages.get(i).id().equals(messageId)) {
+          bytes -= estimateSize(messages.remove(i));
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void trim(int capacity) {
+      while (messages.size() > capacity) {
+        bytes -= estimateSize(messages.remove(messages.size() - 1));
+        complete = false;
+      }
+    }
+  }
+}
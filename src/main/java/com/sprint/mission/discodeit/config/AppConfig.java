@@ -1,5 +1,9 @@
 package com.sprint.mission.discodeit.config;
 
+import com.sprint.mission.discodeit.entity.id.IdGenerator;
+import com.sprint.mission.discodeit.entity.id.IdStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.retry.annotation.EnableRetry;
@@ -11,4 +15,12 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableRetry
 public class AppConfig {
 
+  /**
+   * JPA를 거치지 않고 저장하는 경로(JDBC 배치 등)에서 엔티티와 같은 id 생성기를 사용하기 위한 빈
+   */
+  @Bean
+  public IdGenerator idGenerator(
+      @Value("${spring.jpa.properties." + IdStrategy.PROPERTY + ":uuid-v7}") String strategy) {
+    return IdStrategy.from(strategy).generator();
+  }
 }
\ No newline at end of file
@@ -43,6 +43,18 @@ public class AsyncConfig {
         return executor;
     }
 
+  @Bean(name = "channelPurgeTaskExecutor")
+  public TaskExecutor channelPurgeTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1000);
+    executor.setThreadNamePrefix("channel-purge-");
+    executor.setTaskDecorator(mdcTaskDecorator());
+    executor.initialize();
+    return executor;
+  }
+
   public TaskDecorator mdcTaskDecorator() {
     return runnable -> {
       Optional<String> requestId = Optional.ofNullable(MDC.get(MDCLoggingInterceptor.REQUEST_ID)).map(String.class::cast);
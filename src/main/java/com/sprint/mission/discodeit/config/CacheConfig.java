@@ -4,7 +4,10 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.sprint.mission.discodeit.service.basic.UserDirectoryLoader;
 import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,4 +38,19 @@ public class CacheConfig {
         .entryTtl(Duration.ofSeconds(600))
         .disableCachingNullValues();
   }
+
+  /**
+   * 사용자 프로필 목록은 생성/수정/삭제 시 명시적으로 비우므로 기본 TTL보다 오래 보관한다.
+   */
+  @Bean
+  public RedisCacheManagerBuilderCustomizer userDirectoryCacheCustomizer(
+      RedisCacheConfiguration redisCacheConfiguration,
+      @Value("${discodeit.cache.user-directory-ttl:PT6H}") Duration userDirectoryTtl
+  ) {
+    RedisCacheConfiguration userDirectoryConfiguration = redisCacheConfiguration.entryTtl(
+        userDirectoryTtl);
+    return builder -> builder
+        .withCacheConfiguration(UserDirectoryLoader.USERS, userDirectoryConfiguration)
+        .withCacheConfiguration(UserDirectoryLoader.USER_DIRECTORY, userDirectoryConfiguration);
+  }
 }
\ No newline at end of file
@@ -1,10 +1,28 @@
 package com.sprint.mission.discodeit.config;
 
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 
+@Slf4j
 @EnableKafka
 @Configuration
 public class KafkaConfig {
 
-}
\ No newline at end of file
+  /**
+   * {@code discodeit.node-id}가 없으면 프로세스마다 임의 id를 만든다. 노드들이 같은 그룹에 들어가 파티션을 나눠 받는 일을 막기
+   * 위해서이며, 이 그룹을 쓰는 리스너는 {@code auto.offset.reset=latest}라 새 그룹도 시작 이후 메시지만 받는다.
+   */
+  @Bean
+  public NodeId nodeId(@Value("${discodeit.node-id:}") String nodeId) {
+    if (nodeId.isBlank()) {
+      String generated = UUID.randomUUID().toString();
+      log.info("discodeit.node-id가 없어 임의 노드 id를 사용: nodeId={}", generated);
+      return new NodeId(generated);
+    }
+    return new NodeId(nodeId);
+  }
+}
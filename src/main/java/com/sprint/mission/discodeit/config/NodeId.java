@@ -0,0 +1,8 @@
+package com.sprint.mission.discodeit.config;
+
+/**
+ * 이 프로세스를 구분하는 노드 id. 노드마다 따로 두는 Kafka 컨슈머 그룹 이름에 쓴다.
+ */
+public record NodeId(String value) {
+
+}
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.BoundedPasswordEncoder;
 import com.sprint.mission.discodeit.security.CustomLoginFailureHandler;
 import com.sprint.mission.discodeit.security.JsonUsernamePasswordAuthenticationFilter;
 import com.sprint.mission.discodeit.security.SecurityMatchers;
@@ -9,9 +10,13 @@ import com.sprint.mission.discodeit.security.jwt.JwtAuthenticationFilter;
 import com.sprint.mission.discodeit.security.jwt.JwtLoginSuccessHandler;
 import com.sprint.mission.discodeit.security.jwt.JwtLogoutHandler;
 import com.sprint.mission.discodeit.security.jwt.JwtService;
+import com.sprint.mission.discodeit.security.jwt.UserSnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
@@ -25,8 +30,8 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
@@ -45,7 +50,8 @@ public class SecurityConfig {
       HttpSecurity http,
       ObjectMapper objectMapper,
       DaoAuthenticationProvider daoAuthenticationProvider,
-      JwtService jwtService
+      JwtService jwtService,
+      UserSnapshotCache userSnapshotCache
   )
       throws Exception {
     http
@@ -78,7 +84,7 @@ public class SecurityConfig {
             session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
         )
-        .addFilterBefore(new JwtAuthenticationFilter(jwtService, objectMapper),
+        .addFilterBefore(new JwtAuthenticationFilter(jwtService, userSnapshotCache, objectMapper),
             JsonUsernamePasswordAuthenticationFilter.class)
     ;
 
@@ -97,19 +103,28 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${discodeit.security.password.bcrypt-strength:10}") int strength,
+      @Value("${discodeit.security.password.hashing-threads:4}") int threads,
+      @Value("${discodeit.security.password.queue-capacity:64}") int queueCapacity,
+      @Value("${discodeit.security.password.timeout:PT2S}") Duration timeout,
+      MeterRegistry meterRegistry
+  ) {
+    return new BoundedPasswordEncoder(strength, threads, queueCapacity, timeout, meterRegistry);
   }
 
   @Bean
   public DaoAuthenticationProvider daoAuthenticationProvider(
       UserDetailsService userDetailsService,
+      UserDetailsPasswordService userDetailsPasswordService,
       PasswordEncoder passwordEncoder,
       RoleHierarchy roleHierarchy
   ) {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
     provider.setUserDetailsService(userDetailsService);
     provider.setPasswordEncoder(passwordEncoder);
+    // 저장된 해시의 cost가 설정과 다르면 로그인 성공 시 새 cost로 다시 저장한다.
+    provider.setUserDetailsPasswordService(userDetailsPasswordService);
     provider.setAuthoritiesMapper(new RoleHierarchyAuthoritiesMapper(roleHierarchy));
     return provider;
   }
@@ -2,9 +2,12 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.ChannelApi;
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.ChannelService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -82,4 +85,35 @@ public class ChannelController implements ChannelApi {
         .status(HttpStatus.OK)
         .body(channels);
   }
+
+  @GetMapping("page")
+  public ResponseEntity<PageResponse<ChannelDto>> findPage(
+      @RequestParam("userId") UUID userId,
+      @RequestParam(value = "sort", defaultValue = "LAST_MESSAGE_AT") ChannelSort sort,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "50") int size) {
+    log.info("사용자별 채널 페이지 조회 요청: userId={}, sort={}, cursor={}, size={}", userId, sort,
+        cursor, size);
+    PageResponse<ChannelDto> channels = channelService.findAllByUserId(userId, sort, cursor, size);
+    log.debug("사용자별 채널 페이지 조회 응답: size={}, hasNext={}", channels.content().size(),
+        channels.hasNext());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(channels);
+  }
+
+  @GetMapping("versions")
+  public ResponseEntity<PageResponse<ChannelVersionDto>> findVersions(
+      @RequestParam("userId") UUID userId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "1000") int size) {
+    log.info("사용자별 채널 버전 조회 요청: userId={}, cursor={}, size={}", userId, cursor, size);
+    PageResponse<ChannelVersionDto> versions = channelService.findVersionsByUserId(userId, cursor,
+        size);
+    log.debug("사용자별 채널 버전 조회 응답: size={}, hasNext={}", versions.content().size(),
+        versions.hasNext());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(versions);
+  }
 }
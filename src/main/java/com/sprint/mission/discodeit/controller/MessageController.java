@@ -1,16 +1,26 @@
 package com.sprint.mission.discodeit.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.controller.api.MessageApi;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
-import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageImportRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
+import com.sprint.mission.discodeit.dto.response.MessageChangesResponse;
+import com.sprint.mission.discodeit.dto.response.MessageImportResult;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.service.MessageImportService;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.MessageSyncService;
+import com.sprint.mission.discodeit.storage.UploadSpool;
 import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import java.io.IOException;
-import java.time.Instant;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +32,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -42,6 +53,10 @@ import lombok.extern.slf4j.Slf4j;
 public class MessageController implements MessageApi {
 
   private final MessageService messageService;
+  private final MessageImportService messageImportService;
+  private final MessageSyncService messageSyncService;
+  private final UploadSpool uploadSpool;
+  private final ObjectMapper objectMapper;
 
   @Timed("message.create.async")
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -52,21 +67,15 @@ public class MessageController implements MessageApi {
     log.info("메시지 생성 요청: request={}, attachmentCount={}",
         messageCreateRequest, attachments != null ? attachments.size() : 0);
 
-    List<BinaryContentCreateRequest> attachmentRequests = Optional.ofNullable(attachments)
-        .map(files -> files.stream()
-            .map(file -> {
-              try {
-                return new BinaryContentCreateRequest(
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getBytes()
-                );
-              } catch (IOException e) {
-                throw new RuntimeException(e);
-              }
-            })
-            .toList())
-        .orElse(new ArrayList<>());
+    List<BinaryContentUploadRequest> attachmentRequests = new ArrayList<>();
+    try {
+      Optional.ofNullable(attachments)
+          .ifPresent(files -> files.forEach(
+              file -> attachmentRequests.add(uploadSpool.spool(file))));
+    } catch (RuntimeException e) {
+      attachmentRequests.forEach(uploadSpool::release);
+      throw e;
+    }
     MessageDto createdMessage = messageService.create(messageCreateRequest, attachmentRequests);
     log.debug("메시지 생성 응답: {}", createdMessage);
     return ResponseEntity
@@ -74,6 +83,24 @@ public class MessageController implements MessageApi {
         .body(createdMessage);
   }
 
+  @PostMapping(path = "import", consumes = "application/x-ndjson")
+  public ResponseEntity<MessageImportResult> importMessages(
+      @RequestParam("channelId") UUID channelId,
+      InputStream body
+  ) throws IOException {
+    log.info("메시지 가져오기 요청: channelId={}", channelId);
+    MessageImportResult result;
+    try (MappingIterator<MessageImportRequest> messages = objectMapper
+        .readerFor(MessageImportRequest.class)
+        .readValues(body)) {
+      result = messageImportService.importMessages(channelId, messages);
+    }
+    log.debug("메시지 가져오기 응답: {}", result);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(result);
+  }
+
   @PatchMapping(path = "{messageId}")
   public ResponseEntity<MessageDto> update(
       @PathVariable("messageId") UUID messageId,
@@ -99,20 +126,54 @@ public class MessageController implements MessageApi {
   @GetMapping
   public ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @RequestParam("channelId") UUID channelId,
-      @RequestParam(value = "cursor", required = false) Instant cursor,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "direction", defaultValue = "OLDER") PageDirection direction,
       @PageableDefault(
           size = 50,
           page = 0,
           sort = "createdAt",
           direction = Direction.DESC
       ) Pageable pageable) {
-    log.info("채널별 메시지 목록 조회 요청: channelId={}, cursor={}, pageable={}",
-        channelId, cursor, pageable);
+    log.info("채널별 메시지 목록 조회 요청: channelId={}, cursor={}, direction={}, pageable={}",
+        channelId, cursor, direction, pageable);
     PageResponse<MessageDto> messages = messageService.findAllByChannelId(channelId, cursor,
-        pageable);
+        direction, pageable);
     log.debug("채널별 메시지 목록 조회 응답: totalElements={}", messages.totalElements());
     return ResponseEntity
         .status(HttpStatus.OK)
         .body(messages);
   }
+
+  @GetMapping("changes")
+  public ResponseEntity<MessageChangesResponse> findChanges(
+      @RequestParam("channelId") UUID channelId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "100") int size) {
+    log.info("채널별 메시지 변경 이력 조회 요청: channelId={}, cursor={}, size={}", channelId, cursor,
+        size);
+    MessageChangesResponse changes = messageSyncService.findChanges(channelId, cursor, size);
+    log.debug("채널별 메시지 변경 이력 조회 응답: size={}, nextCursor={}, hasNext={}",
+        changes.changes().size(), changes.nextCursor(), changes.hasNext());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(changes);
+  }
+
+  @GetMapping("search")
+  public ResponseEntity<PageResponse<MessageDto>> search(
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails,
+      @RequestParam("query") String query,
+      @RequestParam(value = "channelId", required = false) UUID channelId,
+      @RequestParam(value = "authorId", required = false) UUID authorId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    log.info("메시지 검색 요청: query={}, channelId={}, authorId={}, cursor={}, size={}",
+        query, channelId, authorId, cursor, size);
+    PageResponse<MessageDto> messages = messageService.search(userDetails.getUserDto().id(),
+        query, channelId, authorId, cursor, size);
+    log.debug("메시지 검색 응답: size={}, hasNext={}", messages.size(), messages.hasNext());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(messages);
+  }
 }
@@ -2,27 +2,26 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
-import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.basic.MessageGroupCommitter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Controller;
 
-import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class MessageWebSocketController {
 
-    private final MessageService messageService;
+    private final MessageGroupCommitter messageGroupCommitter;
 
     @MessageMapping("messages")
-    public MessageDto sendMessage(@Payload MessageCreateRequest messageCreateRequest) {
+    public CompletableFuture<MessageDto> sendMessage(@Payload MessageCreateRequest messageCreateRequest) {
         log.info("텍스트 메시지 생성 요청: request={}", messageCreateRequest);
-        MessageDto createdMessage = messageService.create(messageCreateRequest, new ArrayList<>());
-        log.debug("텍스트 메시지 생성 응답: {}", createdMessage);
-        return createdMessage;
+        return messageGroupCommitter.send(messageCreateRequest)
+                .whenComplete((createdMessage, ex) -> log.debug("텍스트 메시지 생성 응답: {}", createdMessage));
     }
 }
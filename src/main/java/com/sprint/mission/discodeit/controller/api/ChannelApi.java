@@ -1,9 +1,12 @@
 package com.sprint.mission.discodeit.controller.api;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -86,4 +89,36 @@ public interface ChannelApi {
   ResponseEntity<List<ChannelDto>> findAll(
       @Parameter(description = "조회할 User ID") UUID userId
   );
+
+  @Operation(summary = "User가 참여 중인 Channel 목록 페이지 조회")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Channel 목록 페이지 조회 성공",
+          content = @Content(schema = @Schema(implementation = PageResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 커서",
+          content = @Content(examples = @ExampleObject(value = "Invalid request"))
+      )
+  })
+  ResponseEntity<PageResponse<ChannelDto>> findPage(
+      @Parameter(description = "조회할 User ID") UUID userId,
+      @Parameter(description = "정렬 기준 (LAST_MESSAGE_AT, NAME)") ChannelSort sort,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+      @Parameter(description = "페이지 크기") int size
+  );
+
+  @Operation(summary = "User가 참여 중인 Channel의 id와 버전 목록 조회",
+      description = "클라이언트가 보관 중인 목록과 비교해 버전이 바뀐 Channel만 다시 조회할 수 있도록 id 오름차순으로 반환한다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Channel 버전 목록 조회 성공",
+          content = @Content(schema = @Schema(implementation = PageResponse.class))
+      )
+  })
+  ResponseEntity<PageResponse<ChannelVersionDto>> findVersions(
+      @Parameter(description = "조회할 User ID") UUID userId,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+      @Parameter(description = "페이지 크기") int size
+  );
 } 
\ No newline at end of file
@@ -3,7 +3,11 @@ package com.sprint.mission.discodeit.controller.api;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
+import com.sprint.mission.discodeit.dto.response.MessageChangesResponse;
+import com.sprint.mission.discodeit.dto.response.MessageImportResult;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +16,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.Instant;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -84,7 +89,61 @@ public interface MessageApi {
   })
   ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @Parameter(description = "조회할 Channel ID") UUID channelId,
-      @Parameter(description = "페이징 커서 정보") Instant cursor,
+      @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "페이징 방향 (OLDER: 커서 이전 메시지, NEWER: 커서 이후 메시지)") PageDirection direction,
       @Parameter(description = "페이징 정보", example = "{\"size\": 50, \"sort\": \"createdAt,desc\"}") Pageable pageable
   );
-} 
\ No newline at end of file
+
+  @Operation(summary = "Message 대량 가져오기", description = "NDJSON 형식으로 전달된 메시지를 실시간 전파 없이 일괄 저장합니다. "
+      + "각 줄에 id를 지정하면 이미 저장된 메시지는 건너뛰므로 실패한 가져오기를 같은 입력으로 다시 실행할 수 있습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Message 가져오기 성공",
+          content = @Content(schema = @Schema(implementation = MessageImportResult.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 줄 (details.index). 그 전 청크까지 커밋된 메시지 수는 details.importedMessages"
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "Channel을 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+      ),
+  })
+  ResponseEntity<MessageImportResult> importMessages(
+      @Parameter(description = "가져올 Channel ID") UUID channelId,
+      @Parameter(
+          description = "한 줄에 하나의 메시지(authorId, content, createdAt, attachments)",
+          content = @Content(mediaType = "application/x-ndjson")
+      ) InputStream body
+  ) throws IOException;
+
+  @Operation(summary = "Channel의 Message 변경 이력 조회",
+      description = "cursor 이후의 Message 생성, 수정, 삭제를 순서대로 반환합니다. cursor 없이 호출하면 현재 커서만 반환합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Message 변경 이력 조회 성공",
+          content = @Content(schema = @Schema(implementation = MessageChangesResponse.class))
+      )
+  })
+  ResponseEntity<MessageChangesResponse> findChanges(
+      @Parameter(description = "조회할 Channel ID") UUID channelId,
+      @Parameter(description = "동기화 커서 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "최대 변경 이력 수") int size
+  );
+
+  @Operation(summary = "Message 전문 검색", description = "조회자가 볼 수 있는 Channel의 Message를 관련도순으로 검색합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Message 검색 성공",
+          content = @Content(schema = @Schema(implementation = PageResponse.class))
+      )
+  })
+  ResponseEntity<PageResponse<MessageDto>> search(
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails,
+      @Parameter(description = "검색어 (websearch 문법: \"정확한 구문\", OR, -제외)") String query,
+      @Parameter(description = "검색할 Channel ID (선택)") UUID channelId,
+      @Parameter(description = "작성자 ID (선택)") UUID authorId,
+      @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "페이지 크기") int size
+  );
+}
@@ -3,6 +3,7 @@ package com.sprint.mission.discodeit.controller.api;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -88,4 +90,32 @@ public interface UserApi {
       )
   })
   ResponseEntity<List<UserDto>> findAll();
+
+  @Operation(summary = "User 프로필 목록 페이지 조회",
+      description = "username 오름차순으로 조회한다. 접속 여부(online)는 포함하지 않으므로 접속 중인 User 조회 결과와 합쳐서 사용한다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "User 프로필 목록 페이지 조회 성공",
+          content = @Content(schema = @Schema(implementation = PageResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 커서",
+          content = @Content(examples = @ExampleObject(value = "Invalid request"))
+      )
+  })
+  ResponseEntity<PageResponse<UserDto>> findPage(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+      @Parameter(description = "페이지 크기 (1~100, 100보다 크면 100으로 제한)") int size
+  );
+
+  @Operation(summary = "접속 중인 User ID 목록 조회",
+      description = "변경 사항은 하트비트마다 SSE users.presence 이벤트({online, offline})로 모아 전달된다. "
+          + "재전송되지 않으므로 SSE 재연결 후에는 다시 조회한다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "접속 중인 User ID 목록 조회 성공",
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+      )
+  })
+  ResponseEntity<Set<UUID>> findOnlineUserIds();
 }
@@ -0,0 +1,66 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 채널 목록 키셋 페이지네이션 커서 (정렬 키, id)
+ * <p>
+ * 정렬 키는 {@link ChannelSort#LAST_MESSAGE_AT}이면 마지막 메시지 시각(메시지가 없으면 {@link #NO_MESSAGE_AT}),
+ * {@link ChannelSort#NAME}이면 채널 이름(없으면 빈 문자열)이다. 이름에 구분자가 들어갈 수 있으므로 id를 앞에 둔다.
+ */
+public record ChannelCursor(
+    UUID id,
+    String sortKey
+) {
+
+  // 메시지가 없는 채널의 정렬 키. 어떤 메시지 시각보다도 앞선다.
+  public static final Instant NO_MESSAGE_AT = Instant.EPOCH;
+  // 첫 페이지: 어떤 메시지 시각보다도 뒤
+  public static final Instant LAST_MESSAGE_AT_UPPER_BOUND = Instant.parse("9999-12-31T00:00:00Z");
+
+  private static final String DELIMITER = "|";
+
+  public static ChannelCursor first(ChannelSort sort) {
+    return switch (sort) {
+      case LAST_MESSAGE_AT -> new ChannelCursor(MessageCursor.MAX_ID,
+          LAST_MESSAGE_AT_UPPER_BOUND.toString());
+      case NAME -> new ChannelCursor(MessageCursor.MIN_ID, "");
+    };
+  }
+
+  public static ChannelCursor from(ChannelDto channelDto, ChannelSort sort) {
+    return switch (sort) {
+      case LAST_MESSAGE_AT -> new ChannelCursor(channelDto.id(),
+          (channelDto.lastMessageAt().equals(Instant.MIN) ? NO_MESSAGE_AT
+              : channelDto.lastMessageAt()).toString());
+      case NAME -> new ChannelCursor(channelDto.id(),
+          channelDto.name() == null ? "" : channelDto.name());
+    };
+  }
+
+  public Instant lastMessageAt() {
+    return Instant.parse(sortKey);
+  }
+
+  public String encode() {
+    String raw = id + DELIMITER + sortKey;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ChannelCursor decode(String cursor) {
+    String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    int delimiterIndex = raw.indexOf(DELIMITER);
+    if (delimiterIndex < 0) {
+      throw new IllegalArgumentException("Malformed channel cursor: " + cursor);
+    }
+    return new ChannelCursor(
+        UUID.fromString(raw.substring(0, delimiterIndex)),
+        raw.substring(delimiterIndex + 1)
+    );
+  }
+}
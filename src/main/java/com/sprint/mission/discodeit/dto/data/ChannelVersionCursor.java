@@ -0,0 +1,25 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 채널 버전 목록 키셋 페이지네이션 커서. 채널 id 오름차순이므로 마지막 id만으로 위치가 정해진다.
+ */
+public record ChannelVersionCursor(
+    UUID id
+) {
+
+  public static final ChannelVersionCursor FIRST = new ChannelVersionCursor(new UUID(0L, 0L));
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ChannelVersionCursor decode(String cursor) {
+    return new ChannelVersionCursor(UUID.fromString(
+        new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 클라이언트가 보관 중인 채널 목록과 비교하기 위한 최소 정보. {@code version}은 채널 수정, 비공개 채널 참여자 변경,
+ * 마지막 메시지 시각 중 가장 늦은 값이며, 값이 바뀐 채널만 다시 조회하면 된다.
+ */
+public record ChannelVersionDto(
+    UUID id,
+    Instant version
+) {
+
+}
@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 메시지 변경 이력 동기화 커서 (xid, seq, issuedAt)
+ * <p>
+ * 이력은 기록한 트랜잭션 id(xid)와 seq 순으로 반환되며, 커서는 마지막으로 반환한 위치를 가리킨다. {@code issuedAt}은 커서를
+ * 처음 발급한 시각으로, 그 사이 보관 기간이 지나 이력이 삭제되었을 수 있는지 판단하는 데 사용한다. 클라이언트에는
+ * Base64(URL-safe) 문자열로 전달된다.
+ */
+public record MessageChangeCursor(
+    long xid,
+    long seq,
+    Instant issuedAt
+) {
+
+  private static final String DELIMITER = "|";
+
+  public String encode() {
+    String raw = xid + DELIMITER + seq + DELIMITER + issuedAt;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MessageChangeCursor decode(String cursor) {
+    String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    String[] parts = raw.split("\\|", -1);
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("Malformed message change cursor: " + cursor);
+    }
+    return new MessageChangeCursor(
+        Long.parseLong(parts[0]),
+        Long.parseLong(parts[1]),
+        Instant.parse(parts[2])
+    );
+  }
+}
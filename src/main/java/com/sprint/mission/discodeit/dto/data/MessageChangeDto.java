@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.entity.MessageChangeType;
+import java.util.UUID;
+
+/**
+ * CREATED, UPDATED는 조회 시점의 메시지 상태를 담고, DELETED는 {@code message}가 null이다.
+ */
+public record MessageChangeDto(
+    long seq,
+    MessageChangeType type,
+    UUID messageId,
+    MessageDto message
+) {
+
+}
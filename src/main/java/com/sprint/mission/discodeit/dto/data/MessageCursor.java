@@ -0,0 +1,61 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 메시지 키셋 페이지네이션 커서 (createdAt, id)
+ * <p>
+ * 같은 createdAt을 가진 메시지가 여러 개여도 id로 순서가 결정되므로 누락/중복 없이 페이지를 넘길 수 있다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 이전 버전의 ISO-8601 Instant 커서도 해석한다.
+ */
+public record MessageCursor(
+    Instant createdAt,
+    UUID id
+) {
+
+  public static final UUID MIN_ID = new UUID(0L, 0L);
+  public static final UUID MAX_ID = new UUID(-1L, -1L);
+
+  private static final String DELIMITER = "|";
+
+  public static MessageCursor from(MessageDto messageDto) {
+    return new MessageCursor(messageDto.createdAt(), messageDto.id());
+  }
+
+  /**
+   * id가 없는 커서(이전 버전의 Instant 커서)는 방향에 맞는 경계값으로 보정한다. OLDER 방향은 createdAt 미만, NEWER 방향은
+   * createdAt 초과와 동일하게 동작한다.
+   */
+  public UUID idOrDefault(UUID defaultId) {
+    return Optional.ofNullable(id).orElse(defaultId);
+  }
+
+  public String encode() {
+    String raw = createdAt.toString() + DELIMITER + idOrDefault(MIN_ID);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MessageCursor decode(String cursor) {
+    try {
+      return new MessageCursor(Instant.parse(cursor), null);
+    } catch (DateTimeParseException ignored) {
+      // 키셋 커서 형식으로 해석
+    }
+
+    String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    int delimiterIndex = raw.indexOf(DELIMITER);
+    if (delimiterIndex < 0) {
+      throw new IllegalArgumentException("Malformed message cursor: " + cursor);
+    }
+    return new MessageCursor(
+        Instant.parse(raw.substring(0, delimiterIndex)),
+        UUID.fromString(raw.substring(delimiterIndex + 1))
+    );
+  }
+}
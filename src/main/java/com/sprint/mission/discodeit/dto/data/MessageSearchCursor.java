@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메시지 검색 키셋 페이지네이션 커서 (rank, createdAt, id)
+ * <p>
+ * 검색 결과는 관련도 내림차순, 같은 관련도에서는 최신순으로 정렬된다. 클라이언트에는 Base64(URL-safe) 문자열로 전달된다.
+ */
+public record MessageSearchCursor(
+    float rank,
+    Instant createdAt,
+    UUID id
+) {
+
+  // 첫 페이지: 어떤 관련도보다도 큰 값
+  public static final MessageSearchCursor FIRST = new MessageSearchCursor(Float.MAX_VALUE,
+      Instant.EPOCH, MessageCursor.MIN_ID);
+
+  private static final String DELIMITER = "|";
+
+  public String encode() {
+    String raw = rank + DELIMITER + createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MessageSearchCursor decode(String cursor) {
+    String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    String[] parts = raw.split("\\|");
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("Malformed message search cursor: " + cursor);
+    }
+    return new MessageSearchCursor(
+        Float.parseFloat(parts[0]),
+        Instant.parse(parts[1]),
+        UUID.fromString(parts[2])
+    );
+  }
+}
@@ -8,7 +8,8 @@ public record ReadStatusDto(
     UUID userId,
     UUID channelId,
     Instant lastReadAt,
-    boolean notificationEnabled
+    boolean notificationEnabled,
+    long unreadCount
 ) {
 
 }
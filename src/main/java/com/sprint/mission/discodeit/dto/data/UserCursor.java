@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 키셋 페이지네이션 커서. 사용자 이름은 유일하므로 이름만으로 위치가 정해진다.
+ */
+public record UserCursor(
+    String username
+) {
+
+  public static final UserCursor FIRST = new UserCursor("");
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(username.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static UserCursor decode(String cursor) {
+    return new UserCursor(
+        new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+  }
+}
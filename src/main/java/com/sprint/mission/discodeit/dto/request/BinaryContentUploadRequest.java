@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크에 임시 저장(spool)된 업로드 파일 정보
+ * <p>
+ * 파일 내용을 힙에 올리지 않고 경로만 전달하며, 스토리지 업로드가 끝나면 {@code UploadSpool#release}로 정리한다.
+ */
+public record BinaryContentUploadRequest(
+    String fileName,
+    String contentType,
+    long size,
+    Path spoolFile
+) {
+
+}
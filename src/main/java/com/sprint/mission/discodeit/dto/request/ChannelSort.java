@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.dto.request;
+
+public enum ChannelSort {
+  LAST_MESSAGE_AT,  // 마지막 메시지가 최근인 채널부터 (메시지가 없는 채널은 마지막)
+  NAME              // 이름 오름차순 (이름이 없는 비공개 채널이 먼저)
+}
@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 메시지 일괄 가져오기 항목 (NDJSON 한 줄)
+ * <p>
+ * {@code id}를 지정하면 같은 id의 메시지가 이미 있을 때 건너뛰므로, 중간에 실패한 가져오기를 처음부터 다시 실행해도 중복되지
+ * 않는다. 지정하지 않으면 새 id를 발급한다. 첨부파일은 메타데이터만 기록하므로, 파일 내용은 같은 id를 키로 스토리지에 미리
+ * 옮겨두어야 한다.
+ */
+public record MessageImportRequest(
+    UUID id,
+    UUID authorId,
+    String content,
+    Instant createdAt,
+    List<Attachment> attachments
+) {
+
+  public record Attachment(
+      UUID id,
+      String fileName,
+      String contentType,
+      Long size
+  ) {
+
+  }
+}
@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.dto.request;
+
+public enum PageDirection {
+  OLDER,  // 커서보다 오래된 항목 (최신순 정렬)
+  NEWER   // 커서보다 새로운 항목 (오래된순 정렬)
+}
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import com.sprint.mission.discodeit.dto.data.MessageChangeDto;
+import java.util.List;
+
+/**
+ * @param resyncRequired 커서 이후의 이력이 보관 기간이 지나 삭제되었을 수 있음. 클라이언트는 목록을 처음부터 다시 조회해야 한다.
+ */
+public record MessageChangesResponse(
+    List<MessageChangeDto> changes,
+    String nextCursor,
+    boolean hasNext,
+    boolean resyncRequired
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.util.UUID;
+
+public record MessageImportResult(
+    UUID channelId,
+    long importedMessages,
+    long importedAttachments,
+    int chunks,
+    long elapsedMillis,
+    double messagesPerSecond
+) {
+
+}
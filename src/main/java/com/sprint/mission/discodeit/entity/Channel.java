@@ -6,12 +6,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "channels")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Channel extends BaseUpdatableEntity {
@@ -23,6 +26,12 @@ public class Channel extends BaseUpdatableEntity {
   private String name;
   @Column(length = 500)
   private String description;
+  // 삭제 요청 시각. 값이 있으면 조회되지 않으며, 메시지 정리가 끝나면 행이 삭제된다.
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant deletedAt;
+  // 비공개 채널 참여자가 마지막으로 바뀐 시각. 채널 버전에 포함된다.
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant participantsChangedAt;
 
   public Channel(ChannelType type, String name, String description) {
     this.type = type;
@@ -30,6 +39,14 @@ public class Channel extends BaseUpdatableEntity {
     this.description = description;
   }
 
+  public void markDeleted() {
+    this.deletedAt = Instant.now();
+  }
+
+  public void markParticipantsChanged() {
+    this.participantsChangedAt = Instant.now();
+  }
+
   public void update(String newName, String newDescription) {
     if (newName != null && !newName.equals(this.name)) {
       this.name = newName;
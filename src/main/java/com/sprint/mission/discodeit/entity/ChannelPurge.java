@@ -0,0 +1,46 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 채널의 메시지 정리 작업 진행 상황. 완료되지 않은 작업은 재시작 후에도 이어서 처리된다.
+ * <p>
+ * 여러 노드가 같은 작업을 동시에 처리하지 않도록 정리하는 쪽이 {@code claimedBy}와 {@code claimedUntil}로 작업을 선점한다.
+ * 선점한 노드가 중단되면 {@code claimedUntil}이 지난 뒤 다른 노드가 이어받는다.
+ */
+@Entity
+@Table(name = "channel_purges")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChannelPurge extends BaseUpdatableEntity {
+
+  @Column(columnDefinition = "uuid", nullable = false, unique = true)
+  private UUID channelId;
+
+  @Column(nullable = false)
+  private long purgedMessages;
+
+  @Column(nullable = false)
+  private long purgedAttachments;
+
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant completedAt;
+
+  @Column(columnDefinition = "uuid")
+  private UUID claimedBy;
+
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant claimedUntil;
+
+  public ChannelPurge(UUID channelId) {
+    this.channelId = channelId;
+  }
+}
@@ -0,0 +1,50 @@
+package com.sprint.mission.discodeit.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 생성, 수정, 삭제 이력(append-only). {@code seq}는 전체 채널에서 단조 증가하지만 INSERT 시점에 발급되므로 커밋
+ * 순서와 다를 수 있다. 증분 동기화는 행을 기록한 트랜잭션 id({@code xid})와 {@code seq} 순으로 읽는다.
+ * <p>
+ * 행은 {@link com.sprint.mission.discodeit.repository.MessageChangeRepository}의 INSERT 쿼리로만 추가하며, {@code xid}는
+ * DB 기본값({@code pg_current_xact_id()})으로 채워진다.
+ */
+@Entity
+@Table(name = "message_changes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageChange {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(updatable = false, nullable = false)
+  private Long seq;
+
+  @Column(insertable = false, updatable = false)
+  private Long xid;
+
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+  private UUID channelId;
+
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+  private UUID messageId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 10, updatable = false, nullable = false)
+  private MessageChangeType type;
+
+  @Column(columnDefinition = "timestamp with time zone", updatable = false, nullable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.entity;
+
+public enum MessageChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -36,6 +36,20 @@ public class ReadStatus extends BaseUpdatableEntity {
   @Column(nullable = false)
   private boolean notificationEnabled;
 
+  /**
+   * lastReadAt 이후 다른 사용자가 작성한 메시지 수. 읽음 처리 시 다시 계산하고, 새 메시지는
+   * {@link com.sprint.mission.discodeit.service.basic.UnreadCountUpdater}가 커밋 후 모아서 늘린다.
+   */
+  @Column(nullable = false)
+  private long unreadCount;
+
+  /**
+   * unreadCount를 마지막으로 다시 계산한 기준 시각. 이 시각까지 작성된 메시지는 계산에 포함되었으므로 모아서 늘릴 때는 그
+   * 이후 메시지만 센다.
+   */
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant unreadCountedAt;
+
   public ReadStatus(User user, Channel channel, Instant lastReadAt) {
     this.user = user;
     this.channel = channel;
@@ -51,4 +65,9 @@ public class ReadStatus extends BaseUpdatableEntity {
       this.notificationEnabled = notificationEnabled;
     }
   }
+
+  public void updateUnreadCount(long unreadCount, Instant countedAt) {
+    this.unreadCount = unreadCount;
+    this.unreadCountedAt = countedAt;
+  }
 }
\ No newline at end of file
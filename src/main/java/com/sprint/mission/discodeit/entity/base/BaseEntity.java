@@ -1,9 +1,8 @@
 package com.sprint.mission.discodeit.entity.base;
 
+import com.sprint.mission.discodeit.entity.id.GeneratedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import java.time.Instant;
@@ -21,7 +20,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public abstract class BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedId
   @Column(columnDefinition = "uuid", updatable = false, nullable = false)
   private UUID id;
 
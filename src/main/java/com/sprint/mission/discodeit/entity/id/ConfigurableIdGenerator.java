@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * {@link GeneratedId}를 Hibernate id 생성기로 연결한다. 전략은 Hibernate 설정({@code spring.jpa.properties.*})에서
+ * 읽는다.
+ */
+public class ConfigurableIdGenerator implements BeforeExecutionGenerator {
+
+  private final IdGenerator idGenerator;
+
+  public ConfigurableIdGenerator(GeneratedId config, Member member,
+      CustomIdGeneratorCreationContext context) {
+    Object strategy = context.getServiceRegistry()
+        .requireService(ConfigurationService.class)
+        .getSettings()
+        .get(IdStrategy.PROPERTY);
+    this.idGenerator = IdStrategy.from(strategy == null ? null : strategy.toString())
+        .generator();
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner,
+      Object currentValue, EventType eventType) {
+    return idGenerator.generate();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * {@link IdStrategy}에 따라 INSERT 전에 UUID id를 생성한다.
+ */
+@IdGeneratorType(ConfigurableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedId {
+
+}
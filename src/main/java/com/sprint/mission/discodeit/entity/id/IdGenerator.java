@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 id 생성 전략. 구현체는 여러 스레드에서 동시에 호출될 수 있다.
+ */
+public interface IdGenerator {
+
+  UUID generate();
+}
@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.util.Arrays;
+
+/**
+ * {@code spring.jpa.properties.discodeit.id.strategy} 설정값. 같은 전략은 애플리케이션 전체에서 하나의 생성기를 공유해
+ * UUIDv7의 노드 단위 단조성을 보장한다.
+ */
+public enum IdStrategy {
+  UUID_V7("uuid-v7", new UuidV7Generator()),
+  RANDOM("random", new RandomUuidGenerator());
+
+  public static final String PROPERTY = "discodeit.id.strategy";
+
+  private final String value;
+  private final IdGenerator generator;
+
+  IdStrategy(String value, IdGenerator generator) {
+    this.value = value;
+    this.generator = generator;
+  }
+
+  public IdGenerator generator() {
+    return generator;
+  }
+
+  public static IdStrategy from(String value) {
+    if (value == null || value.isBlank()) {
+      return UUID_V7;
+    }
+    return Arrays.stream(values())
+        .filter(strategy -> strategy.value.equalsIgnoreCase(value.trim()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(
+            "지원하지 않는 id 생성 전략: " + PROPERTY + "=" + value));
+  }
+}
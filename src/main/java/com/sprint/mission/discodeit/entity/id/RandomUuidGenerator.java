@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.util.UUID;
+
+/**
+ * 무작위 UUID(v4). 기존 {@code GenerationType.UUID}와 같은 값을 만든다.
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+  @Override
+  public UUID generate() {
+    return UUID.randomUUID();
+  }
+}
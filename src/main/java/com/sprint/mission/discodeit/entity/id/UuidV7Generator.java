@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 정렬되는 UUID(v7, RFC 9562).
+ * <p>
+ * 상위 48비트는 밀리초 단위 Unix 시각, 다음 12비트(rand_a)는 같은 밀리초 안에서 증가하는 카운터, 하위 62비트(rand_b)는
+ * 난수다. 타임스탬프와 카운터를 하나의 {@link AtomicLong}으로 갱신하므로 한 인스턴스가 만드는 값은 여러 스레드에서 호출해도
+ * 항상 증가한다. 카운터가 넘치거나 시계가 뒤로 가면 타임스탬프를 1ms씩 앞당겨 단조성을 유지한다.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final Clock clock;
+  private final SecureRandom random = new SecureRandom();
+  // (unixMillis << COUNTER_BITS) | counter
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+  public UuidV7Generator() {
+    this(Clock.systemUTC());
+  }
+
+  UuidV7Generator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID generate() {
+    long now = clock.millis() << COUNTER_BITS;
+    long timestampAndCounter = lastTimestampAndCounter.updateAndGet(
+        last -> Math.max(now, last + 1));
+
+    long timestamp = timestampAndCounter >>> COUNTER_BITS;
+    long counter = timestampAndCounter & COUNTER_MASK;
+    long mostSigBits = (timestamp << 16) | VERSION | counter;
+    long leastSigBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param participantIds 비공개 채널이었다면 삭제 직전의 참여자 id, 공개 채널이면 빈 목록
+ */
+public record ChannelDeletedEvent(UUID channelId, List<UUID> participantIds) {
+
+}
@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 채널 알림 수신자 구성이 바뀌었음을 알린다. 변경 후 상태를 담으므로 여러 번 적용해도 결과가 같다.
+ * <p>
+ * {@code userId}가 null이면 채널 전체가, {@code channelId}가 null이면 사용자의 모든 참여가 제거되었음을 뜻한다.
+ */
+public record ChannelMembershipChangedEvent(
+    UUID channelId,
+    UUID userId,
+    boolean notificationEnabled
+) {
+
+  public static ChannelMembershipChangedEvent channelRemoved(UUID channelId) {
+    return new ChannelMembershipChangedEvent(channelId, null, false);
+  }
+
+  public static ChannelMembershipChangedEvent userRemoved(UUID userId) {
+    return new ChannelMembershipChangedEvent(null, userId, false);
+  }
+}
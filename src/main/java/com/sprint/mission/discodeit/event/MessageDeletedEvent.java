@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+public record MessageDeletedEvent(UUID messageId) {
+
+}
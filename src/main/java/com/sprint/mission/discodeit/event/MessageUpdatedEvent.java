@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+
+public record MessageUpdatedEvent(MessageDto messageDto) {
+
+}
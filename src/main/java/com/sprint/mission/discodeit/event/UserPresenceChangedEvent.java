@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 하트비트 한 주기 동안 접속 상태가 바뀐 사용자. 주기 안에 접속했다가 끊긴 사용자는 포함되지 않는다.
+ */
+public record UserPresenceChangedEvent(Set<UUID> onlineUserIds, Set<UUID> offlineUserIds) {
+
+}
@@ -1,7 +1,17 @@
 package com.sprint.mission.discodeit.event.listener;
 
+import com.sprint.mission.discodeit.cache.MessageTailCache;
+import com.sprint.mission.discodeit.event.BinaryContentStatusUpdatedEvent;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
 import com.sprint.mission.discodeit.event.MultipleNotificationCreatedEvent;
 import com.sprint.mission.discodeit.event.PrivateChannelCreatedEvent;
+import com.sprint.mission.discodeit.event.PublicChannelMutationEvent;
+import com.sprint.mission.discodeit.event.RoleChangedEvent;
+import com.sprint.mission.discodeit.event.UserMutationEvent;
+import com.sprint.mission.discodeit.security.jwt.UserSnapshotCache;
+import com.sprint.mission.discodeit.service.basic.ChannelListLoader;
+import com.sprint.mission.discodeit.service.basic.UserDirectoryLoader;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -9,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -20,6 +31,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class CacheEvictListener {
 
   private final CacheManager cacheManager;
+  private final MessageTailCache messageTailCache;
+  private final UserSnapshotCache userSnapshotCache;
 
   @Async("eventTaskExecutor")
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -27,16 +40,29 @@ public class CacheEvictListener {
     log.debug("PRIVATE 채널 생성 이벤트 처리 시작: channelId={}", event.channel().id());
 
     Set<UUID> receiverIds = new HashSet<>(event.participantIds());
-    Cache cache = cacheManager.getCache("channelsByUser");
+    evictPrivateChannels(receiverIds);
 
-    if (cache != null) {
-      receiverIds.forEach(receiverId -> {
-        cache.evict(receiverId);
-        log.debug("캐시 무효화 완료: receiverId={}", receiverId);
-      });
+    log.info("PRIVATE 채널 생성 이벤트 처리 완료: receiverIds={}", receiverIds);
+  }
+
+  @Async("eventTaskExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(ChannelDeletedEvent event) {
+    if (event.participantIds().isEmpty()) {
+      return;
     }
+    log.debug("PRIVATE 채널 삭제 이벤트 처리 시작: channelId={}", event.channelId());
+    evictPrivateChannels(new HashSet<>(event.participantIds()));
+    log.info("PRIVATE 채널 삭제 이벤트 처리 완료: receiverIds={}", event.participantIds());
+  }
 
-    log.info("PRIVATE 채널 생성 이벤트 처리 완료: receiverIds={}", receiverIds);
+  // 읽음 상태 삭제처럼 메서드 인자만으로 사용자를 알 수 없는 참여 변경도 비공개 채널 목록을 무효화한다.
+  // 알림 설정만 바뀐 경우도 포함되지만, 드문 변경이라 다시 조회하는 비용은 작다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(ChannelMembershipChangedEvent event) {
+    if (event.userId() != null && event.channelId() != null) {
+      evictPrivateChannels(Set.of(event.userId()));
+    }
   }
 
   @Async("eventTaskExecutor")
@@ -56,4 +82,49 @@ public class CacheEvictListener {
 
     log.info("알림 생성 이벤트 처리 완료: receiverIds={}", receiverIds);
   }
-}
\ No newline at end of file
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(UserMutationEvent event) {
+    messageTailCache.evictAuthor(event.mutatedUserId());
+    userSnapshotCache.evict(event.mutatedUserId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(RoleChangedEvent event) {
+    userSnapshotCache.evict(event.userId());
+    // 사용자 목록의 프로필에도 권한이 들어 있다.
+    evictUserDirectory();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(PublicChannelMutationEvent event) {
+    messageTailCache.evictChannel(event.mutatedChannelId());
+  }
+
+  @EventListener
+  public void handle(BinaryContentStatusUpdatedEvent event) {
+    messageTailCache.updateAttachmentStatus(event.binaryContentId(), event.status());
+  }
+
+  private void evictUserDirectory() {
+    Cache users = cacheManager.getCache(UserDirectoryLoader.USERS);
+    if (users != null) {
+      users.evict("all");
+    }
+    Cache userDirectory = cacheManager.getCache(UserDirectoryLoader.USER_DIRECTORY);
+    if (userDirectory != null) {
+      userDirectory.clear();
+    }
+  }
+
+  private void evictPrivateChannels(Set<UUID> userIds) {
+    Cache cache = cacheManager.getCache(ChannelListLoader.PRIVATE_CHANNELS_BY_USER);
+
+    if (cache != null) {
+      userIds.forEach(userId -> {
+        cache.evict(userId);
+        log.debug("캐시 무효화 완료: receiverId={}", userId);
+      });
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.event.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.cache.ChannelMembershipIndex;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채널 참여 변경을 {@link ChannelMembershipIndex}에 반영한다. 커밋한 노드는 즉시 반영하고, 다른 노드는 노드마다 고정된
+ * 컨슈머 그룹으로 Kafka 메시지를 모두 받아 반영한다. 이벤트는 변경 후 상태를 담으므로 중복 적용되어도 괜찮다.
+ * <p>
+ * 인덱스는 시작할 때 DB에서 다시 만들어지므로, 재시작 전에 쌓인 이전 메시지를 다시 적용해 최신 상태를 되돌리지 않도록 파티션을
+ * 할당받으면 끝으로 이동한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelMembershipListener implements ConsumerSeekAware {
+
+  private final ChannelMembershipIndex channelMembershipIndex;
+  private final ObjectMapper objectMapper;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(ChannelMembershipChangedEvent event) {
+    channelMembershipIndex.apply(event);
+  }
+
+  @KafkaListener(
+      topics = "discodeit.channel_membership",
+      groupId = "discodeit-membership-#{@nodeId.value()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void handleChannelMembershipChangedEvent(String kafkaEvent)
+      throws JsonProcessingException {
+    ChannelMembershipChangedEvent event = objectMapper.readValue(kafkaEvent,
+        ChannelMembershipChangedEvent.class);
+    log.debug("채널 참여 변경 수신: channelId={}, userId={}, notificationEnabled={}",
+        event.channelId(), event.userId(), event.notificationEnabled());
+    channelMembershipIndex.apply(event);
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments,
+      ConsumerSeekCallback callback) {
+    callback.seekToEnd(assignments.keySet());
+  }
+}
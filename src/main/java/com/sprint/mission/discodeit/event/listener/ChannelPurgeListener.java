@@ -0,0 +1,25 @@
+package com.sprint.mission.discodeit.event.listener;
+
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
+import com.sprint.mission.discodeit.service.basic.ChannelPurger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelPurgeListener {
+
+  private final ChannelPurger channelPurger;
+
+  @Async("channelPurgeTaskExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(ChannelDeletedEvent event) {
+    log.debug("채널 삭제 이벤트 처리 시작: channelId={}", event.channelId());
+    channelPurger.purge(event.channelId());
+  }
+}
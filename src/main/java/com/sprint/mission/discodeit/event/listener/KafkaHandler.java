@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.event.listener;
 
 import com.sprint.mission.discodeit.event.AuthenticatedAsyncTaskFailedEvent;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
 import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import java.util.UUID;
 import org.springframework.context.event.EventListener;
@@ -14,6 +15,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.event.AsyncTaskFailedEvent;
+import com.sprint.mission.discodeit.event.MessageDeletedEvent;
+import com.sprint.mission.discodeit.event.MessageUpdatedEvent;
 import com.sprint.mission.discodeit.event.NewMessageEvent;
 import com.sprint.mission.discodeit.event.RoleChangedEvent;
 
@@ -42,6 +45,31 @@ public class KafkaHandler {
     }
   }
 
+  // 같은 메시지의 수정과 삭제가 순서대로 전달되도록 커밋한 스레드에서 바로 전송한다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(MessageUpdatedEvent event) {
+    try {
+      String payload = objectMapper.writeValueAsString(event);
+      kafkaTemplate.send("discodeit.message_updated", event.messageDto().id().toString(), payload);
+      log.debug("메시지 수정 Kafka 전송 완료: messageId={}", event.messageDto().id());
+    } catch (Exception e) {
+      log.error("메시지 수정 Kafka 전송 실패: messageId={}, error={}",
+          event.messageDto().id(), e.getMessage(), e);
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(MessageDeletedEvent event) {
+    try {
+      String payload = objectMapper.writeValueAsString(event);
+      kafkaTemplate.send("discodeit.message_deleted", event.messageId().toString(), payload);
+      log.debug("메시지 삭제 Kafka 전송 완료: messageId={}", event.messageId());
+    } catch (Exception e) {
+      log.error("메시지 삭제 Kafka 전송 실패: messageId={}, error={}",
+          event.messageId(), e.getMessage(), e);
+    }
+  }
+
   @Async("eventTaskExecutor")
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handle(RoleChangedEvent event) {
@@ -56,6 +84,21 @@ public class KafkaHandler {
     }
   }
 
+  // 같은 채널의 변경이 커밋 순서대로 전달되도록 커밋한 스레드에서 바로, 채널 id를 키로 전송한다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(ChannelMembershipChangedEvent event) {
+    UUID key = event.channelId() != null ? event.channelId() : event.userId();
+    try {
+      String payload = objectMapper.writeValueAsString(event);
+      kafkaTemplate.send("discodeit.channel_membership", key.toString(), payload);
+      log.debug("채널 참여 변경 Kafka 전송 완료: channelId={}, userId={}",
+          event.channelId(), event.userId());
+    } catch (Exception e) {
+      log.error("채널 참여 변경 Kafka 전송 실패: channelId={}, userId={}, error={}",
+          event.channelId(), event.userId(), e.getMessage(), e);
+    }
+  }
+
   @Async("eventTaskExecutor")
   @EventListener
   public void handle(AsyncTaskFailedEvent event) {
@@ -0,0 +1,72 @@
+package com.sprint.mission.discodeit.event.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.cache.MessageTailCache;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
+import com.sprint.mission.discodeit.event.MessageDeletedEvent;
+import com.sprint.mission.discodeit.event.MessageUpdatedEvent;
+import com.sprint.mission.discodeit.event.NewMessageEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드의 메시지 생성/수정/삭제와 채널 삭제를 {@link MessageTailCache}에 반영한다. 노드마다 고정된 컨슈머 그룹으로
+ * 모든 메시지를 받으며, 자신이 커밋한 변경도 다시 받지만 캐시 반영은 여러 번 적용해도 결과가 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageTailCacheListener {
+
+  private final MessageTailCache messageTailCache;
+  private final ObjectMapper objectMapper;
+
+  @KafkaListener(
+      topics = "discodeit.new_message",
+      groupId = "discodeit-message-tail-#{@nodeId.value()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void handleNewMessageEvent(String kafkaEvent) throws JsonProcessingException {
+    NewMessageEvent event = objectMapper.readValue(kafkaEvent, NewMessageEvent.class);
+    messageTailCache.put(event.messageDto());
+  }
+
+  @KafkaListener(
+      topics = "discodeit.message_updated",
+      groupId = "discodeit-message-tail-#{@nodeId.value()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void handleMessageUpdatedEvent(String kafkaEvent) throws JsonProcessingException {
+    MessageUpdatedEvent event = objectMapper.readValue(kafkaEvent, MessageUpdatedEvent.class);
+    messageTailCache.replace(event.messageDto());
+  }
+
+  @KafkaListener(
+      topics = "discodeit.message_deleted",
+      groupId = "discodeit-message-tail-#{@nodeId.value()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void handleMessageDeletedEvent(String kafkaEvent) throws JsonProcessingException {
+    MessageDeletedEvent event = objectMapper.readValue(kafkaEvent, MessageDeletedEvent.class);
+    log.debug("메시지 삭제 수신: messageId={}", event.messageId());
+    messageTailCache.remove(event.messageId());
+  }
+
+  @KafkaListener(
+      topics = "discodeit.channel_membership",
+      groupId = "discodeit-message-tail-#{@nodeId.value()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void handleChannelMembershipChangedEvent(String kafkaEvent)
+      throws JsonProcessingException {
+    ChannelMembershipChangedEvent event = objectMapper.readValue(kafkaEvent,
+        ChannelMembershipChangedEvent.class);
+    // 채널 전체의 참여가 제거된 경우는 채널 삭제뿐이다.
+    if (event.userId() == null) {
+      messageTailCache.evictChannel(event.channelId());
+    }
+  }
+}
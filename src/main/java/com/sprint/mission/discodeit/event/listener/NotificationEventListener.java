@@ -3,24 +3,24 @@ package com.sprint.mission.discodeit.event.listener;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.cache.ChannelMembershipIndex;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.AsyncTaskFailure;
+import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.NotificationType;
-import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.Role;
-import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.event.AuthenticatedAsyncTaskFailedEvent;
 import com.sprint.mission.discodeit.event.NewMessageEvent;
 import com.sprint.mission.discodeit.event.RoleChangedEvent;
+import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
-import com.sprint.mission.discodeit.service.ChannelService;
 import com.sprint.mission.discodeit.service.NotificationService;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -36,7 +36,8 @@ public class NotificationEventListener {
 
   private final NotificationService notificationService;
   private final ReadStatusRepository readStatusRepository;
-  private final ChannelService channelService;
+  private final ChannelRepository channelRepository;
+  private final ChannelMembershipIndex channelMembershipIndex;
   private final ObjectMapper objectMapper;
 
   @Async("eventTaskExecutor")
@@ -49,21 +50,20 @@ public class NotificationEventListener {
   public void handleNewMessageEvent(String kafkaEvent) throws JsonProcessingException {
     NewMessageEvent event = objectMapper.readValue(kafkaEvent, NewMessageEvent.class);
     MessageDto messageDto = event.messageDto();
-    ChannelDto channelDto = channelService.find(messageDto.channelId());
+    Channel channel = channelRepository.findById(messageDto.channelId())
+        .orElseThrow(() -> ChannelNotFoundException.withId(messageDto.channelId()));
     log.info("새 메시지 알림 이벤트 처리 시작: channelId={}, messageId={}",
-        channelDto.id(), messageDto.id());
+        channel.getId(), messageDto.id());
     try {
-      Set<UUID> receiverIds = readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(
-              channelDto.id())
-          .stream()
-          .map(ReadStatus::getUser)
-          .map(User::getId)
-          .filter(id -> !id.equals(messageDto.author().id()))
-          .collect(Collectors.toSet());
+      Set<UUID> receiverIds = new HashSet<>(channelMembershipIndex
+          .findNotificationTargets(channel.getId())
+          .orElseGet(() -> Set.copyOf(
+              readStatusRepository.findNotificationEnabledUserIdsByChannelId(channel.getId()))));
+      receiverIds.remove(messageDto.author().id());
 
       UserDto authorDto = messageDto.author();
-      String title = channelDto.type().equals(ChannelType.PUBLIC)
-          ? String.format("%s (# %s)", authorDto.username(), channelDto.name())
+      String title = channel.getType().equals(ChannelType.PUBLIC)
+          ? String.format("%s (# %s)", authorDto.username(), channel.getName())
           : authorDto.username();
       String content = messageDto.content();
 
@@ -72,7 +72,7 @@ public class NotificationEventListener {
           title,
           content,
           NotificationType.NEW_MESSAGE,
-          channelDto.id()
+          channel.getId()
       );
       log.info("새 메시지 알림 이벤트 처리 완료 ");
     } catch (Exception e) {
@@ -9,11 +9,13 @@ import com.sprint.mission.discodeit.event.NotificationCreatedEvent;
 import com.sprint.mission.discodeit.event.PrivateChannelCreatedEvent;
 import com.sprint.mission.discodeit.event.PublicChannelMutationEvent;
 import com.sprint.mission.discodeit.event.UserMutationEvent;
+import com.sprint.mission.discodeit.event.UserPresenceChangedEvent;
 import com.sprint.mission.discodeit.service.BinaryContentService;
 import com.sprint.mission.discodeit.sse.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -64,6 +66,16 @@ public class SseHandler {
         sseService.broadcast("users.refresh", Map.of("userId", userId));
     }
 
+    // 모든 연결에 보내므로 하트비트 스레드를 붙잡지 않도록 비동기로 보낸다. 재연결한 클라이언트는 접속 중인 사용자를 다시
+    // 조회하므로 재전송 로그에는 남기지 않는다.
+    @Async("eventTaskExecutor")
+    @EventListener
+    public void handle(UserPresenceChangedEvent event) {
+        sseService.broadcastWithoutReplay("users.presence", Map.of(
+                "online", event.onlineUserIds(),
+                "offline", event.offlineUserIds()));
+    }
+
     @EventListener
     public void handle(BinaryContentStatusUpdatedEvent event) {
         UUID binaryContentId = event.binaryContentId();
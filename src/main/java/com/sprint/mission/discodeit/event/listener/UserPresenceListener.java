@@ -0,0 +1,61 @@
+package com.sprint.mission.discodeit.event.listener;
+
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.service.UserPresenceService;
+import java.security.Principal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * WebSocket(STOMP) 연결/해제를 접속 상태에 반영한다. SSE 연결은 {@link com.sprint.mission.discodeit.sse.SseService}에서
+ * 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPresenceListener {
+
+  private final UserPresenceService userPresenceService;
+
+  // 연결 해제 이벤트는 세션당 여러 번 발생할 수 있으므로 연결된 세션만 한 번 반영한다.
+  private final Set<String> connectedSessionIds = ConcurrentHashMap.newKeySet();
+
+  @EventListener
+  public void handle(SessionConnectedEvent event) {
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    resolveUserId(event.getUser()).ifPresent(userId -> {
+      if (sessionId != null && connectedSessionIds.add(sessionId)) {
+        log.debug("WebSocket 연결: userId={}, sessionId={}", userId, sessionId);
+        userPresenceService.connected(userId);
+      }
+    });
+  }
+
+  @EventListener
+  public void handle(SessionDisconnectEvent event) {
+    resolveUserId(event.getUser()).ifPresent(userId -> {
+      if (connectedSessionIds.remove(event.getSessionId())) {
+        log.debug("WebSocket 연결 해제: userId={}, sessionId={}", userId, event.getSessionId());
+        userPresenceService.disconnected(userId);
+      }
+    });
+  }
+
+  private Optional<UUID> resolveUserId(Principal principal) {
+    if (principal instanceof Authentication authentication
+        && authentication.getPrincipal() instanceof DiscodeitUserDetails userDetails) {
+      return Optional.of(userDetails.getUserDto().id());
+    }
+    return Optional.empty();
+  }
+}
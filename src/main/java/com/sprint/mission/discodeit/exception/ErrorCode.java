@@ -15,9 +15,11 @@ public enum ErrorCode {
 
   // Message 관련 에러 코드
   MESSAGE_NOT_FOUND("메시지를 찾을 수 없습니다."),
+  MESSAGE_SEND_BUSY("메시지 전송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
   // BinaryContent 관련 에러 코드
   BINARY_CONTENT_NOT_FOUND("바이너리 컨텐츠를 찾을 수 없습니다."),
+  UPLOAD_CAPACITY_EXCEEDED("처리 중인 업로드 용량이 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
   // ReadStatus 관련 에러 코드
   READ_STATUS_NOT_FOUND("읽음 상태를 찾을 수 없습니다."),
@@ -37,7 +39,8 @@ public enum ErrorCode {
   // 인증/인가 에러 코드
   INVALID_TOKEN_SECRET("유효하지 않은 시크릿입니다."),
   INVALID_TOKEN("유효하지 않은 토큰입니다."),
-  TOKEN_NOT_FOUND("토큰을 찾을 수 없습니다.");
+  TOKEN_NOT_FOUND("토큰을 찾을 수 없습니다."),
+  PASSWORD_HASHING_BUSY("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
   private final String message;
 
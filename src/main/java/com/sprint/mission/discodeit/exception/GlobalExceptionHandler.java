@@ -80,6 +80,8 @@ public class GlobalExceptionHandler {
       case INVALID_USER_CREDENTIALS, INVALID_TOKEN, TOKEN_NOT_FOUND, INVALID_TOKEN_SECRET ->
           HttpStatus.UNAUTHORIZED;
       case PRIVATE_CHANNEL_UPDATE, INVALID_REQUEST -> HttpStatus.BAD_REQUEST;
+      case UPLOAD_CAPACITY_EXCEEDED, PASSWORD_HASHING_BUSY, MESSAGE_SEND_BUSY ->
+          HttpStatus.SERVICE_UNAVAILABLE;
       case INTERNAL_SERVER_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
     };
   }
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class UploadCapacityExceededException extends BinaryContentException {
+    public UploadCapacityExceededException() {
+        super(ErrorCode.UPLOAD_CAPACITY_EXCEEDED);
+    }
+
+    public static UploadCapacityExceededException withSize(long requestedBytes, long inFlightBytes) {
+        UploadCapacityExceededException exception = new UploadCapacityExceededException();
+        exception.addDetail("requestedBytes", requestedBytes);
+        exception.addDetail("inFlightBytes", inFlightBytes);
+        return exception;
+    }
+}
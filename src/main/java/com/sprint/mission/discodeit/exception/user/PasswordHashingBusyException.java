@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class PasswordHashingBusyException extends UserException {
+    public PasswordHashingBusyException() {
+        super(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    public static PasswordHashingBusyException withQueueDepth(int queueDepth) {
+        PasswordHashingBusyException exception = new PasswordHashingBusyException();
+        exception.addDetail("queueDepth", queueDepth);
+        return exception;
+    }
+}
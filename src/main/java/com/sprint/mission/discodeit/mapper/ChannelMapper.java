@@ -5,11 +5,15 @@ import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +24,8 @@ public abstract class ChannelMapper {
   @Autowired
   private MessageRepository messageRepository;
   @Autowired
+  private ChannelRepository channelRepository;
+  @Autowired
   private ReadStatusRepository readStatusRepository;
   @Autowired
   private UserMapper userMapper;
@@ -28,6 +34,41 @@ public abstract class ChannelMapper {
   @Mapping(target = "lastMessageAt", expression = "java(resolveLastMessageAt(channel))")
   abstract public ChannelDto toDto(Channel channel);
 
+  /**
+   * 채널 목록을 한꺼번에 변환한다. 채널 수와 관계없이 마지막 메시지 시각 조회 1회, 비공개 채널 참여자 조회 1회로 끝난다.
+   */
+  public List<ChannelDto> toDtos(List<Channel> channels) {
+    if (channels.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, Instant> lastMessageAts = new HashMap<>();
+    channelRepository.findLastMessageAtByIdIn(channels.stream().map(Channel::getId).toList())
+        .forEach(view -> lastMessageAts.put(view.channelId(), view.lastMessageAt()));
+
+    List<UUID> privateChannelIds = channels.stream()
+        .filter(channel -> channel.getType().equals(ChannelType.PRIVATE))
+        .map(Channel::getId)
+        .toList();
+    Map<UUID, List<UserDto>> participants = new HashMap<>();
+    if (!privateChannelIds.isEmpty()) {
+      readStatusRepository.findAllByChannelIdInWithUser(privateChannelIds)
+          .forEach(readStatus -> participants
+              .computeIfAbsent(readStatus.getChannel().getId(), id -> new ArrayList<>())
+              .add(userMapper.toDto(readStatus.getUser())));
+    }
+
+    return channels.stream()
+        .map(channel -> new ChannelDto(
+            channel.getId(),
+            channel.getType(),
+            channel.getName(),
+            channel.getDescription(),
+            participants.getOrDefault(channel.getId(), new ArrayList<>()),
+            lastMessageAtOrMin(lastMessageAts.get(channel.getId()))))
+        .toList();
+  }
+
   protected Instant resolveLastMessageAt(Channel channel) {
     return messageRepository.findLastMessageAtByChannelId(
             channel.getId())
@@ -45,4 +86,8 @@ public abstract class ChannelMapper {
     }
     return participants;
   }
+
+  private static Instant lastMessageAtOrMin(Instant lastMessageAt) {
+    return lastMessageAt == null ? Instant.MIN : lastMessageAt;
+  }
 }
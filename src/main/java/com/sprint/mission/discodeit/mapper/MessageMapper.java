@@ -1,7 +1,12 @@
 package com.sprint.mission.discodeit.mapper;
 
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.MessageAttachmentView;
+import com.sprint.mission.discodeit.repository.MessageView;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -10,4 +15,22 @@ public interface MessageMapper {
 
   @Mapping(target = "channelId", source = "channel.id")
   MessageDto toDto(Message message);
+
+  default MessageDto toDto(MessageView view, List<BinaryContentDto> attachments) {
+    UserDto author = null;
+    if (view.authorId() != null) {
+      BinaryContentDto profile = view.profileId() == null ? null : new BinaryContentDto(
+          view.profileId(), view.profileFileName(), view.profileSize(),
+          view.profileContentType(), view.profileUploadStatus());
+      author = new UserDto(view.authorId(), view.authorUsername(), view.authorEmail(), profile,
+          null, view.authorRole());
+    }
+    return new MessageDto(view.id(), view.createdAt(), view.updatedAt(), view.content(),
+        view.channelId(), author, attachments);
+  }
+
+  default BinaryContentDto toAttachmentDto(MessageAttachmentView view) {
+    return new BinaryContentDto(view.id(), view.fileName(), view.size(), view.contentType(),
+        view.uploadStatus());
+  }
 }
@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.presence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 노드별 접속 정보를 공유하는 저장소
+ * <p>
+ * 항목은 (노드, 사용자) 단위이며 만료 시각이 지나면 접속하지 않은 것으로 본다. 한 사용자가 여러 노드에 연결되어 있으면 모든
+ * 노드의 항목이 만료되거나 삭제되어야 오프라인이 된다. 노드가 비정상 종료되어도 TTL이 지나면 정리된다.
+ */
+public interface PresenceStore {
+
+  void touch(String nodeId, Collection<UUID> userIds, Instant expiresAt);
+
+  void remove(String nodeId, UUID userId);
+
+  /**
+   * {@code now} 기준으로 만료되지 않은 항목이 하나라도 있는 사용자. 만료된 항목은 함께 정리한다.
+   */
+  Set<UUID> findOnlineUserIds(Instant now);
+}
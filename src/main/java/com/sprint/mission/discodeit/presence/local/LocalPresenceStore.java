@@ -0,0 +1,44 @@
+package com.sprint.mission.discodeit.presence.local;
+
+import com.sprint.mission.discodeit.presence.PresenceStore;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드 및 테스트용 접속 정보 저장소. 다른 노드와 공유되지 않는다.
+ */
+@ConditionalOnProperty(name = "discodeit.presence.store", havingValue = "local")
+@Component
+public class LocalPresenceStore implements PresenceStore {
+
+  private final Map<Entry, Instant> entries = new ConcurrentHashMap<>();
+
+  @Override
+  public void touch(String nodeId, Collection<UUID> userIds, Instant expiresAt) {
+    userIds.forEach(userId -> entries.put(new Entry(nodeId, userId), expiresAt));
+  }
+
+  @Override
+  public void remove(String nodeId, UUID userId) {
+    entries.remove(new Entry(nodeId, userId));
+  }
+
+  @Override
+  public Set<UUID> findOnlineUserIds(Instant now) {
+    entries.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    Set<UUID> userIds = new HashSet<>();
+    entries.keySet().forEach(entry -> userIds.add(entry.userId()));
+    return userIds;
+  }
+
+  private record Entry(String nodeId, UUID userId) {
+
+  }
+}
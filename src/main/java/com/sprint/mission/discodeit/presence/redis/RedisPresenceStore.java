@@ -0,0 +1,65 @@
+package com.sprint.mission.discodeit.presence.redis;
+
+import com.sprint.mission.discodeit.presence.PresenceStore;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속 정보를 Redis sorted set 하나({@value #KEY})에 보관한다. 멤버는 {@code nodeId|userId}, 점수는 만료 시각(epoch
+ * ms)이므로 만료 항목 정리와 접속 중인 사용자 조회가 각각 범위 명령 한 번으로 끝난다.
+ */
+@ConditionalOnProperty(name = "discodeit.presence.store", havingValue = "redis", matchIfMissing = true)
+@Component
+@RequiredArgsConstructor
+public class RedisPresenceStore implements PresenceStore {
+
+  static final String KEY = "discodeit:presence";
+  private static final String DELIMITER = "|";
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public void touch(String nodeId, Collection<UUID> userIds, Instant expiresAt) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    double score = expiresAt.toEpochMilli();
+    Set<TypedTuple<String>> members = userIds.stream()
+        .map(userId -> TypedTuple.of(member(nodeId, userId), score))
+        .collect(Collectors.toSet());
+    redisTemplate.opsForZSet().add(KEY, members);
+  }
+
+  @Override
+  public void remove(String nodeId, UUID userId) {
+    redisTemplate.opsForZSet().remove(KEY, member(nodeId, userId));
+  }
+
+  @Override
+  public Set<UUID> findOnlineUserIds(Instant now) {
+    long nowMillis = now.toEpochMilli();
+    redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, nowMillis);
+    Set<String> members = redisTemplate.opsForZSet()
+        .rangeByScore(KEY, nowMillis, Double.POSITIVE_INFINITY);
+
+    Set<UUID> userIds = new HashSet<>();
+    if (members != null) {
+      members.forEach(member -> userIds.add(
+          UUID.fromString(member.substring(member.lastIndexOf(DELIMITER) + 1))));
+    }
+    return userIds;
+  }
+
+  private static String member(String nodeId, UUID userId) {
+    return nodeId + DELIMITER + userId;
+  }
+}
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,4 +16,8 @@ public interface BinaryContentRepository extends JpaRepository<BinaryContent, UU
   @Modifying
   @Query("UPDATE BinaryContent bc SET bc.uploadStatus = :status WHERE bc.id = :id")
   void updateUploadStatus(@Param("id") UUID id, @Param("status") BinaryContentUploadStatus status);
+
+  @Modifying
+  @Query("DELETE FROM BinaryContent bc WHERE bc.id IN :ids")
+  void deleteAllByIdIn(@Param("ids") List<UUID> ids);
 }
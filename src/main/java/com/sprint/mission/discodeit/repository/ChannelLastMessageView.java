@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 채널별 마지막 메시지 시각. 메시지가 없는 채널은 {@code lastMessageAt}이 null이다.
+ */
+public record ChannelLastMessageView(
+    UUID channelId,
+    Instant lastMessageAt
+) {
+
+}
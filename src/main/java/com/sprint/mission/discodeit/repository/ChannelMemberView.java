@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.util.UUID;
+
+/**
+ * 채널 참여 관계(읽음 상태)의 id만 담은 프로젝션.
+ */
+public record ChannelMemberView(
+    UUID channelId,
+    UUID userId
+) {
+
+}
@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.ChannelPurge;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChannelPurgeRepository extends JpaRepository<ChannelPurge, UUID> {
+
+  List<ChannelPurge> findAllByCompletedAtIsNull();
+
+  /**
+   * 완료되지 않았고 다른 쪽이 선점하지 않은(또는 선점 기한이 지난) 작업을 {@code claimedBy}로 선점한다. 조건 확인과 갱신이
+   * 한 문장으로 처리되므로 동시에 호출해도 한쪽만 1을 반환한다.
+   */
+  @Modifying
+  @Query("UPDATE ChannelPurge p SET p.claimedBy = :claimedBy, p.claimedUntil = :until, "
+      + "p.updatedAt = :now "
+      + "WHERE p.channelId = :channelId AND p.completedAt IS NULL "
+      + "AND (p.claimedUntil IS NULL OR p.claimedUntil < :now)")
+  int claim(@Param("channelId") UUID channelId,
+      @Param("claimedBy") UUID claimedBy,
+      @Param("until") Instant until,
+      @Param("now") Instant now);
+
+  /**
+   * 진행 상황을 더하고 선점 기한을 연장한다. 선점을 잃었다면 0을 반환한다.
+   */
+  @Modifying
+  @Query("UPDATE ChannelPurge p "
+      + "SET p.purgedMessages = p.purgedMessages + :messages, "
+      + "p.purgedAttachments = p.purgedAttachments + :attachments, "
+      + "p.claimedUntil = :until, "
+      + "p.updatedAt = :now "
+      + "WHERE p.channelId = :channelId AND p.claimedBy = :claimedBy")
+  int addProgress(@Param("channelId") UUID channelId,
+      @Param("claimedBy") UUID claimedBy,
+      @Param("messages") long messages,
+      @Param("attachments") long attachments,
+      @Param("until") Instant until,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query("UPDATE ChannelPurge p SET p.completedAt = :now, p.claimedUntil = NULL, p.updatedAt = :now "
+      + "WHERE p.channelId = :channelId AND p.claimedBy = :claimedBy")
+  int markCompleted(@Param("channelId") UUID channelId,
+      @Param("claimedBy") UUID claimedBy,
+      @Param("now") Instant now);
+}
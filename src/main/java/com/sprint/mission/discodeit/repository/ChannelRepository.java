@@ -1,12 +1,104 @@
 package com.sprint.mission.discodeit.repository;
 
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChannelRepository extends JpaRepository<Channel, UUID> {
 
-  List<Channel> findAllByTypeOrIdIn(ChannelType type, List<UUID> ids);
+  List<Channel> findAllByType(ChannelType type);
+
+  @Query("SELECT c FROM Channel c "
+      + "WHERE c.type = :type "
+      + "AND c.id IN (SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId)")
+  List<Channel> findAllByTypeAndParticipantId(@Param("type") ChannelType type,
+      @Param("userId") UUID userId);
+
+  /**
+   * 채널마다 (channel_id, created_at) 인덱스의 마지막 항목만 읽도록 상관 서브쿼리로 마지막 메시지 시각을 조회한다.
+   */
+  @Query("SELECT new com.sprint.mission.discodeit.repository.ChannelLastMessageView(c.id, "
+      + "(SELECT MAX(m.createdAt) FROM Message m WHERE m.channel.id = c.id)) "
+      + "FROM Channel c "
+      + "WHERE c.id IN :ids")
+  List<ChannelLastMessageView> findLastMessageAtByIdIn(@Param("ids") List<UUID> ids);
+
+  /**
+   * 사용자가 볼 수 있는 채널(공개 채널 + 참여 중인 채널). 네이티브 쿼리이므로 삭제 표시 조건을 직접 건다.
+   */
+  String ACCESSIBLE_CHANNELS = "FROM channels c "
+      + "WHERE c.deleted_at IS NULL "
+      + "AND (c.type = 'PUBLIC' "
+      + "OR c.id IN (SELECT r.channel_id FROM read_statuses r WHERE r.user_id = :userId)) ";
+
+  /**
+   * 마지막 메시지 시각 내림차순 키셋 페이지. 채널마다 (channel_id, created_at) 인덱스로 MAX를 구하며, 메시지가 없는 채널은
+   * 1970-01-01로 취급해 마지막에 온다.
+   */
+  @Query(value = "SELECT a.id FROM ("
+      + "  SELECT c.id AS id, COALESCE("
+      + "    (SELECT MAX(m.created_at) FROM messages m WHERE m.channel_id = c.id), "
+      + "    TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00') AS last_message_at "
+      + "  " + ACCESSIBLE_CHANNELS
+      + ") a "
+      + "WHERE (a.last_message_at, a.id) < (:lastMessageAt, :id) "
+      + "ORDER BY a.last_message_at DESC, a.id DESC "
+      + "LIMIT :limit", nativeQuery = true)
+  List<UUID> findAccessibleIdsOrderByLastMessageAt(@Param("userId") UUID userId,
+      @Param("lastMessageAt") Instant lastMessageAt,
+      @Param("id") UUID id,
+      @Param("limit") int limit);
+
+  /**
+   * 이름 오름차순 키셋 페이지. 이름이 없는 비공개 채널은 빈 문자열로 취급한다.
+   */
+  @Query(value = "SELECT c.id "
+      + ACCESSIBLE_CHANNELS
+      + "AND (COALESCE(c.name, ''), c.id) > (:name, :id) "
+      + "ORDER BY COALESCE(c.name, '') ASC, c.id ASC "
+      + "LIMIT :limit", nativeQuery = true)
+  List<UUID> findAccessibleIdsOrderByName(@Param("userId") UUID userId,
+      @Param("name") String name,
+      @Param("id") UUID id,
+      @Param("limit") int limit);
+
+  /**
+   * 채널 버전은 채널 수정 시각, 참여자 변경 시각, 마지막 메시지 시각 중 가장 늦은 값이다. 마지막 메시지 시각은 채널마다
+   * (channel_id, created_at) 인덱스의 마지막 항목만 읽는다.
+   */
+  @Query("SELECT new com.sprint.mission.discodeit.dto.data.ChannelVersionDto(c.id, GREATEST("
+      + "COALESCE(c.updatedAt, c.createdAt), "
+      + "COALESCE(c.participantsChangedAt, c.createdAt), "
+      + "COALESCE((SELECT MAX(m.createdAt) FROM Message m WHERE m.channel.id = c.id), "
+      + "c.createdAt))) "
+      + "FROM Channel c "
+      + "WHERE (c.type = :type "
+      + "OR c.id IN (SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId)) "
+      + "AND c.id > :id "
+      + "ORDER BY c.id ASC")
+  Slice<ChannelVersionDto> findVersionsByTypeOrParticipantId(@Param("type") ChannelType type,
+      @Param("userId") UUID userId,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  // 사용자 삭제로 읽음 상태가 함께 지워지므로, 삭제 전에 그 사용자가 참여한 비공개 채널의 버전을 올린다.
+  @Modifying
+  @Query("UPDATE Channel c SET c.participantsChangedAt = :now "
+      + "WHERE c.type = com.sprint.mission.discodeit.entity.ChannelType.PRIVATE "
+      + "AND c.id IN (SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId)")
+  int markParticipantsChangedByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
+
+  // 삭제 표시된 채널은 엔티티 조회에서 제외되므로 네이티브 쿼리로 삭제한다.
+  @Modifying
+  @Query(value = "DELETE FROM channels WHERE id = :id", nativeQuery = true)
+  void hardDeleteById(@Param("id") UUID id);
 }
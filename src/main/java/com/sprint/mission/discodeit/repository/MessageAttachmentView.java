@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import java.util.UUID;
+
+/**
+ * 메시지 첨부파일 조회용 프로젝션
+ */
+public record MessageAttachmentView(
+    UUID messageId,
+    UUID id,
+    String fileName,
+    Long size,
+    String contentType,
+    BinaryContentUploadStatus uploadStatus
+) {
+
+}
@@ -0,0 +1,60 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.MessageChange;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MessageChangeRepository extends JpaRepository<MessageChange, Long> {
+
+  @Modifying
+  @Query(value = "INSERT INTO message_changes (channel_id, message_id, type, created_at) "
+      + "VALUES (:channelId, :messageId, :#{#type.name()}, :now)", nativeQuery = true)
+  void append(@Param("channelId") UUID channelId,
+      @Param("messageId") UUID messageId,
+      @Param("type") MessageChangeType type,
+      @Param("now") Instant now);
+
+  /**
+   * 저장된 메시지 행에서 채널 id를 읽어 이력을 한 번에 추가한다. 메시지 행이 먼저 DB에 반영(flush)되어 있어야 한다.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO message_changes (channel_id, message_id, type, created_at) "
+      + "SELECT m.channel_id, m.id, :#{#type.name()}, :now FROM messages m "
+      + "WHERE m.id IN :messageIds", nativeQuery = true)
+  void appendAll(@Param("messageIds") List<UUID> messageIds,
+      @Param("type") MessageChangeType type,
+      @Param("now") Instant now);
+
+  /**
+   * 현재 스냅샷에서 진행 중인 트랜잭션 중 가장 작은 xid. 이보다 작은 xid의 트랜잭션은 모두 커밋 또는 롤백으로 끝났으므로, 그
+   * 이력은 이후에 새로 나타나지 않는다.
+   */
+  @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)",
+      nativeQuery = true)
+  long findVisibleXidHorizon();
+
+  @Query("SELECT c FROM MessageChange c "
+      + "WHERE c.channelId = :channelId "
+      + "AND (c.xid, c.seq) > (:xid, :seq) AND c.xid < :horizon "
+      + "ORDER BY c.xid, c.seq")
+  List<MessageChange> findAllByChannelIdAfter(@Param("channelId") UUID channelId,
+      @Param("xid") long xid,
+      @Param("seq") long seq,
+      @Param("horizon") long horizon,
+      Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM MessageChange c WHERE c.createdAt < :threshold")
+  int deleteAllByCreatedAtBefore(@Param("threshold") Instant threshold);
+
+  @Modifying
+  @Query("DELETE FROM MessageChange c WHERE c.channelId = :channelId")
+  void deleteAllByChannelId(@Param("channelId") UUID channelId);
+}
@@ -2,24 +2,102 @@ package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.Message;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
-  @Query("SELECT m FROM Message m "
-      + "LEFT JOIN FETCH m.author a "
-      + "LEFT JOIN FETCH a.profile "
-      + "WHERE m.channel.id=:channelId AND m.createdAt < :createdAt")
-  Slice<Message> findAllByChannelIdWithAuthor(@Param("channelId") UUID channelId,
+  String MESSAGE_VIEW = "SELECT new com.sprint.mission.discodeit.repository.MessageView("
+      + "m.id, m.createdAt, m.updatedAt, m.content, c.id, "
+      + "a.id, a.username, a.email, a.role, "
+      + "p.id, p.fileName, p.size, p.contentType, p.uploadStatus) "
+      + "FROM Message m "
+      + "JOIN m.channel c "
+      + "LEFT JOIN m.author a "
+      + "LEFT JOIN a.profile p ";
+
+  // 삭제 요청된 채널의 메시지는 ChannelPurger가 정리하기 전에도 조회되지 않게 한다.
+  String VISIBLE_CHANNEL = "c.deletedAt IS NULL ";
+
+  @Query(MESSAGE_VIEW
+      + "WHERE c.id = :channelId AND " + VISIBLE_CHANNEL
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  Slice<MessageView> findLatestViewsByChannelId(@Param("channelId") UUID channelId,
+      Pageable pageable);
+
+  @Query(MESSAGE_VIEW
+      + "WHERE c.id = :channelId AND " + VISIBLE_CHANNEL
+      + "ORDER BY m.createdAt ASC, m.id ASC")
+  Slice<MessageView> findOldestViewsByChannelId(@Param("channelId") UUID channelId,
+      Pageable pageable);
+
+  @Query(MESSAGE_VIEW
+      + "WHERE c.id = :channelId AND " + VISIBLE_CHANNEL
+      + "AND (m.createdAt, m.id) < (:createdAt, :id) "
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  Slice<MessageView> findViewsByChannelIdBefore(@Param("channelId") UUID channelId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query(MESSAGE_VIEW
+      + "WHERE c.id = :channelId AND " + VISIBLE_CHANNEL
+      + "AND (m.createdAt, m.id) > (:createdAt, :id) "
+      + "ORDER BY m.createdAt ASC, m.id ASC")
+  Slice<MessageView> findViewsByChannelIdAfter(@Param("channelId") UUID channelId,
       @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
       Pageable pageable);
 
+  @Query(MESSAGE_VIEW + "WHERE m.id IN :ids AND " + VISIBLE_CHANNEL)
+  List<MessageView> findViewsByIdIn(@Param("ids") List<UUID> ids);
+
+  @Query("SELECT new com.sprint.mission.discodeit.repository.MessageAttachmentView("
+      + "m.id, b.id, b.fileName, b.size, b.contentType, b.uploadStatus) "
+      + "FROM Message m "
+      + "JOIN m.attachments b "
+      + "WHERE m.id IN :messageIds")
+  List<MessageAttachmentView> findAttachmentViewsByMessageIdIn(
+      @Param("messageIds") List<UUID> messageIds);
+
+  /**
+   * content_tsv(GIN 인덱스)로 전문 검색한다. 조회자가 볼 수 있는 채널(PUBLIC 또는 참여 중인 PRIVATE)의 메시지만 대상이며,
+   * channelId/authorId가 null이면 해당 조건을 적용하지 않는다. 결과는 (rank, createdAt, id) 내림차순 키셋으로 페이지를
+   * 나눈다.
+   */
+  @Query(value = """
+      SELECT r.id AS id, r.rank AS rank, r.created_at AS "createdAt"
+      FROM (
+          SELECT m.id, m.created_at, ts_rank(m.content_tsv, q.query) AS rank
+          FROM messages m
+          CROSS JOIN websearch_to_tsquery('simple', :query) AS q(query)
+          JOIN channels c ON c.id = m.channel_id AND c.deleted_at IS NULL
+          WHERE m.content_tsv @@ q.query
+            AND (c.type = 'PUBLIC' OR EXISTS (
+                SELECT 1 FROM read_statuses rs
+                WHERE rs.channel_id = c.id AND rs.user_id = :viewerId))
+            AND (CAST(:channelId AS uuid) IS NULL OR m.channel_id = CAST(:channelId AS uuid))
+            AND (CAST(:authorId AS uuid) IS NULL OR m.author_id = CAST(:authorId AS uuid))
+      ) r
+      WHERE (r.rank, r.created_at, r.id) < (CAST(:rank AS real), :createdAt, :id)
+      ORDER BY r.rank DESC, r.created_at DESC, r.id DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<MessageSearchHit> search(@Param("viewerId") UUID viewerId,
+      @Param("query") String query,
+      @Param("channelId") UUID channelId,
+      @Param("authorId") UUID authorId,
+      @Param("rank") float rank,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      @Param("limit") int limit);
 
   @Query("SELECT m.createdAt "
       + "FROM Message m "
@@ -28,4 +106,29 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
   Optional<Instant> findLastMessageAtByChannelId(@Param("channelId") UUID channelId);
 
   void deleteAllByChannelId(UUID channelId);
+
+  @Query("SELECT COUNT(m) "
+      + "FROM Message m "
+      + "WHERE m.channel.id = :channelId AND m.createdAt > :after AND m.createdAt <= :until "
+      + "AND (m.author IS NULL OR m.author.id <> :userId)")
+  long countUnread(@Param("channelId") UUID channelId,
+      @Param("userId") UUID userId,
+      @Param("after") Instant after,
+      @Param("until") Instant until);
+
+  @Query("SELECT m.id FROM Message m WHERE m.channel.id = :channelId")
+  List<UUID> findIdsByChannelId(@Param("channelId") UUID channelId, Pageable pageable);
+
+  @Query(value = "SELECT attachment_id FROM message_attachments WHERE message_id IN :messageIds",
+      nativeQuery = true)
+  List<UUID> findAttachmentIdsByMessageIdIn(@Param("messageIds") List<UUID> messageIds);
+
+  @Modifying
+  @Query(value = "DELETE FROM message_attachments WHERE message_id IN :messageIds",
+      nativeQuery = true)
+  void deleteAttachmentLinksByMessageIdIn(@Param("messageIds") List<UUID> messageIds);
+
+  @Modifying
+  @Query("DELETE FROM Message m WHERE m.id IN :ids")
+  void deleteAllByIdIn(@Param("ids") List<UUID> ids);
 }
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 전문 검색 결과의 메시지 id, 관련도 점수(ts_rank)와 생성 시각. 다음 페이지 커서는 이 값들로 만든다.
+ */
+public interface MessageSearchHit {
+
+  UUID getId();
+
+  Float getRank();
+
+  Instant getCreatedAt();
+}
@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import com.sprint.mission.discodeit.entity.Role;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 메시지 조회용 프로젝션. 작성자와 프로필 컬럼을 함께 담으며, 작성자가 없으면 author* 값이 모두 null이다.
+ */
+public record MessageView(
+    UUID id,
+    Instant createdAt,
+    Instant updatedAt,
+    String content,
+    UUID channelId,
+    UUID authorId,
+    String authorUsername,
+    String authorEmail,
+    Role authorRole,
+    UUID profileId,
+    String profileFileName,
+    Long profileSize,
+    String profileContentType,
+    BinaryContentUploadStatus profileUploadStatus
+) {
+
+}
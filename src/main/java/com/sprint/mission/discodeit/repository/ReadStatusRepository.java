@@ -1,10 +1,18 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
@@ -18,9 +26,85 @@ public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
       + "WHERE r.channel.id = :channelId")
   List<ReadStatus> findAllByChannelIdWithUser(@Param("channelId") UUID channelId);
 
-  List<ReadStatus> findAllByChannelIdAndNotificationEnabledTrue(@Param("channelId") UUID channelId);
+  @Query("SELECT r FROM ReadStatus r "
+      + "JOIN FETCH r.user u "
+      + "LEFT JOIN FETCH u.profile "
+      + "WHERE r.channel.id IN :channelIds")
+  List<ReadStatus> findAllByChannelIdInWithUser(@Param("channelIds") List<UUID> channelIds);
+
+  @Query("SELECT r.user.id FROM ReadStatus r WHERE r.channel.id = :channelId")
+  List<UUID> findUserIdsByChannelId(@Param("channelId") UUID channelId);
+
+  @Query("SELECT r.user.id FROM ReadStatus r "
+      + "WHERE r.channel.id = :channelId AND r.notificationEnabled = true")
+  List<UUID> findNotificationEnabledUserIdsByChannelId(@Param("channelId") UUID channelId);
+
+  /**
+   * 알림을 켠 모든 참여 관계를 엔티티 없이 스트리밍한다. 트랜잭션 안에서 소비해야 한다.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT new com.sprint.mission.discodeit.repository.ChannelMemberView("
+      + "r.channel.id, r.user.id) "
+      + "FROM ReadStatus r "
+      + "WHERE r.notificationEnabled = true")
+  Stream<ChannelMemberView> streamAllNotificationEnabled();
 
   Boolean existsByUserIdAndChannelId(UUID userId, UUID channelId);
 
-  void deleteAllByChannelId(UUID channelId);
+  @Modifying
+  @Query("DELETE FROM ReadStatus r WHERE r.channel.id = :channelId")
+  void deleteAllByChannelId(@Param("channelId") UUID channelId);
+
+  /**
+   * 안 읽은 메시지 수를 다시 계산하는 동안 메시지 생성에 따른 증가가 끼어들지 않도록 행을 잠근다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT r FROM ReadStatus r WHERE r.id = :id")
+  Optional<ReadStatus> findByIdForUpdate(@Param("id") UUID id);
+
+  /**
+   * 한 채널에 새로 저장된 메시지만큼 참여자의 안 읽은 메시지 수를 늘린다. 작성자 본인과 이미 그 이후까지 읽은 사용자는 제외된다.
+   * 메시지 행이 먼저 DB에 반영(flush)되어 있어야 한다.
+   */
+  @Modifying
+  @Query(value = "UPDATE read_statuses r "
+      + "SET unread_count = r.unread_count + ("
+      + "  SELECT COUNT(*) FROM messages m "
+      + "  WHERE m.id IN :messageIds AND m.channel_id = r.channel_id "
+      + "  AND m.created_at > r.last_read_at "
+      + "  AND (m.author_id IS NULL OR m.author_id <> r.user_id)) "
+      + "WHERE r.channel_id = :channelId",
+      nativeQuery = true)
+  void incrementUnreadCounts(@Param("channelId") UUID channelId,
+      @Param("messageIds") List<UUID> messageIds);
+
+  /**
+   * 커밋된 메시지를 모아서 반영할 때 쓴다. {@link #incrementUnreadCounts}와 같지만 안 읽은 메시지 수를 다시 계산한 기준 시각
+   * 이전에 작성된 메시지는 이미 계산에 포함되었으므로 세지 않는다.
+   */
+  @Modifying
+  @Query(value = "UPDATE read_statuses r "
+      + "SET unread_count = r.unread_count + ("
+      + "  SELECT COUNT(*) FROM messages m "
+      + "  WHERE m.id IN :messageIds AND m.channel_id = r.channel_id "
+      + "  AND m.created_at > r.last_read_at "
+      + "  AND (r.unread_counted_at IS NULL OR m.created_at > r.unread_counted_at) "
+      + "  AND (m.author_id IS NULL OR m.author_id <> r.user_id)) "
+      + "WHERE r.channel_id = :channelId",
+      nativeQuery = true)
+  void incrementUnreadCountsSinceRecount(@Param("channelId") UUID channelId,
+      @Param("messageIds") List<UUID> messageIds);
+
+  /**
+   * 삭제될 메시지를 아직 읽지 않은 참여자의 안 읽은 메시지 수를 줄인다. 메시지 행을 삭제하기 전에 호출해야 한다.
+   */
+  @Modifying
+  @Query(value = "UPDATE read_statuses r "
+      + "SET unread_count = r.unread_count - 1 "
+      + "WHERE r.unread_count > 0 AND EXISTS ("
+      + "  SELECT 1 FROM messages m "
+      + "  WHERE m.id = :messageId AND m.channel_id = r.channel_id "
+      + "  AND m.created_at > r.last_read_at "
+      + "  AND (m.author_id IS NULL OR m.author_id <> r.user_id))", nativeQuery = true)
+  void decrementUnreadCounts(@Param("messageId") UUID messageId);
 }
@@ -4,8 +4,10 @@ import com.sprint.mission.discodeit.entity.User;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
@@ -18,4 +20,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   @Query("SELECT u FROM User u "
       + "LEFT JOIN FETCH u.profile")
   List<User> findAllWithProfile();
+
+  @Query("SELECT u FROM User u "
+      + "LEFT JOIN FETCH u.profile "
+      + "WHERE u.id = :id")
+  Optional<User> findWithProfileById(@Param("id") UUID id);
+
+  @Query("SELECT u FROM User u "
+      + "LEFT JOIN FETCH u.profile "
+      + "WHERE u.username > :username "
+      + "ORDER BY u.username ASC")
+  List<User> findAllWithProfileByUsernameAfter(@Param("username") String username,
+      Pageable pageable);
 }
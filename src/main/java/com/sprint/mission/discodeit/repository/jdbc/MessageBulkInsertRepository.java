@@ -0,0 +1,121 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA 영속성 컨텍스트를 거치지 않고 메시지를 JDBC 배치로 저장한다. 대량 가져오기 전용이며 엔티티 이벤트나 감사(auditing)는
+ * 동작하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageBulkInsertRepository {
+
+  private static final String INSERT_MESSAGE = """
+      INSERT INTO messages (id, created_at, updated_at, content, channel_id, author_id)
+      VALUES (?, ?, ?, ?, ?, ?)
+      """;
+  private static final String INSERT_BINARY_CONTENT = """
+      INSERT INTO binary_contents (id, created_at, file_name, size, content_type, upload_status)
+      VALUES (?, ?, ?, ?, ?, ?)
+      """;
+  private static final String INSERT_MESSAGE_ATTACHMENT = """
+      INSERT INTO message_attachments (message_id, attachment_id)
+      VALUES (?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertMessages(List<MessageRow> rows) {
+    jdbcTemplate.batchUpdate(INSERT_MESSAGE, rows, rows.size(), (ps, row) -> {
+      ps.setObject(1, row.id());
+      setInstant(ps, 2, row.createdAt());
+      setInstant(ps, 3, row.createdAt());
+      ps.setString(4, row.content());
+      ps.setObject(5, row.channelId());
+      if (row.authorId() == null) {
+        ps.setNull(6, Types.OTHER);
+      } else {
+        ps.setObject(6, row.authorId());
+      }
+    });
+  }
+
+  public void insertAttachments(List<AttachmentRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_BINARY_CONTENT, rows, rows.size(), (ps, row) -> {
+      ps.setObject(1, row.id());
+      setInstant(ps, 2, row.createdAt());
+      ps.setString(3, row.fileName());
+      ps.setLong(4, row.size());
+      ps.setString(5, row.contentType());
+      ps.setString(6, BinaryContentUploadStatus.SUCCESS.name());
+    });
+    jdbcTemplate.batchUpdate(INSERT_MESSAGE_ATTACHMENT, rows, rows.size(), (ps, row) -> {
+      ps.setObject(1, row.messageId());
+      ps.setObject(2, row.id());
+    });
+  }
+
+  /**
+   * 주어진 id 중 이미 저장된 메시지 id만 반환한다.
+   */
+  public List<UUID> findExistingMessageIds(List<UUID> messageIds) {
+    if (messageIds.isEmpty()) {
+      return List.of();
+    }
+    String placeholders = String.join(",", messageIds.stream().map(id -> "?").toList());
+    return jdbcTemplate.queryForList("SELECT id FROM messages WHERE id IN (" + placeholders + ")",
+        UUID.class, messageIds.toArray());
+  }
+
+  /**
+   * 주어진 id 중 실제로 존재하는 사용자 id만 반환한다.
+   */
+  public List<UUID> findExistingUserIds(List<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+    String placeholders = String.join(",", userIds.stream().map(id -> "?").toList());
+    return jdbcTemplate.queryForList("SELECT id FROM users WHERE id IN (" + placeholders + ")",
+        UUID.class, userIds.toArray());
+  }
+
+  private static void setInstant(PreparedStatement ps, int index, Instant instant)
+      throws SQLException {
+    ps.setObject(index, OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+  }
+
+  public record MessageRow(
+      UUID id,
+      Instant createdAt,
+      String content,
+      UUID channelId,
+      UUID authorId
+  ) {
+
+  }
+
+  public record AttachmentRow(
+      UUID id,
+      UUID messageId,
+      Instant createdAt,
+      String fileName,
+      long size,
+      String contentType
+  ) {
+
+  }
+}
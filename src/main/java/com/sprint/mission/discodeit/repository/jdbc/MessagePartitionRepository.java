@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * messages 파티션 관리용 DDL. PostgreSQL 전용이며 파티션 이름은 호출하는 쪽에서 만든 고정 형식만 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessagePartitionRepository {
+
+  private static final String PARENT_TABLE = "messages";
+  private static final String DEFAULT_PARTITION = "messages_default";
+  private static final String COLUMNS = "id, created_at, updated_at, content, channel_id, author_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public boolean isPartitioned() {
+    Boolean partitioned = jdbcTemplate.queryForObject("""
+        SELECT EXISTS (SELECT 1
+                       FROM pg_partitioned_table pt
+                                JOIN pg_class c ON c.oid = pt.partrelid
+                       WHERE c.oid = to_regclass(?))
+        """, Boolean.class, PARENT_TABLE);
+    return Boolean.TRUE.equals(partitioned);
+  }
+
+  public List<String> findPartitionNames() {
+    return jdbcTemplate.queryForList("""
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass(?)
+        ORDER BY c.relname
+        """, String.class, PARENT_TABLE);
+  }
+
+  /**
+   * [from, to) 범위의 파티션을 만든다. 기본 파티션에 같은 범위의 행이 있으면 파티션을 만들 수 없으므로, 기본 파티션의 쓰기를
+   * 막은 뒤 그 행을 임시 테이블로 옮기고 파티션을 만든 다음 다시 넣는다. 한 트랜잭션으로 처리되므로 중간에 실패하면 모두
+   * 롤백된다.
+   *
+   * @return 기본 파티션에서 옮긴 행 수
+   */
+  @Transactional
+  public int createPartition(String name, Instant from, Instant to) {
+    String range = "created_at >= '" + literal(from) + "' AND created_at < '" + literal(to) + "'";
+    jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+    jdbcTemplate.execute("CREATE TEMP TABLE " + name + "_moved ON COMMIT DROP AS "
+        + "SELECT " + COLUMNS + " FROM " + DEFAULT_PARTITION + " WHERE " + range);
+    int moved = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name
+        + " PARTITION OF " + PARENT_TABLE
+        + " FOR VALUES FROM ('" + literal(from) + "') TO ('" + literal(to) + "')");
+    if (moved > 0) {
+      jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " (" + COLUMNS + ") "
+          + "SELECT " + COLUMNS + " FROM " + name + "_moved");
+    }
+    return moved;
+  }
+
+  /**
+   * 파티션을 분리해 보관용 스키마로 옮긴다. 분리된 테이블은 애플리케이션 조회 대상에서 빠지지만 데이터는 그대로 남는다.
+   * <p>
+   * 파티션 메시지의 첨부파일 연결은 보관용 스키마의 {@code <name>_attachments} 테이블로 옮기고, 변경 이력은 삭제한다. 분리 전에
+   * 처리해야 하므로 한 트랜잭션으로 실행한다.
+   */
+  @Transactional
+  public void archivePartition(String name, String archiveSchema) {
+    jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archiveSchema + "." + name
+        + "_attachments AS SELECT a.* FROM message_attachments a "
+        + "JOIN " + name + " m ON m.id = a.message_id");
+    jdbcTemplate.update("DELETE FROM message_attachments a USING " + name + " m "
+        + "WHERE a.message_id = m.id");
+    jdbcTemplate.update("DELETE FROM message_changes c USING " + name + " m "
+        + "WHERE c.message_id = m.id");
+    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+    jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA " + archiveSchema);
+  }
+
+  private static String literal(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC).toString();
+  }
+}
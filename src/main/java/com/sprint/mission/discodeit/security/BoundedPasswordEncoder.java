@@ -0,0 +1,138 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt 해시 생성/검증을 전용 스레드 풀에서 실행한다.
+ * <p>
+ * 동시에 계산하는 해시 수를 {@code threads}개로, 대기 작업을 {@code queueCapacity}개로 제한한다. 대기열이 가득 차거나
+ * {@code timeout} 안에 끝나지 않으면 요청 스레드를 더 붙잡지 않고 바로 거절한다. 로그인 폭주가 요청 스레드 풀 전체를 해시
+ * 계산에 묶어 두지 않게 하기 위함이다.
+ * <p>
+ * 저장된 해시의 cost가 설정값과 다르면 {@link #upgradeEncoding(String)}이 true를 반환하므로, 로그인 성공 시
+ * {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}가 새 cost로 다시 저장한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  public static final String METRIC_PREFIX = "discodeit.password-hashing";
+
+  // $2a$10$... 형식에서 cost 추출
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+  private final BCryptPasswordEncoder delegate;
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Counter rejected;
+
+  public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout,
+      MeterRegistry meterRegistry) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.strength = strength;
+    this.timeout = timeout;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "password-hashing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder(METRIC_PREFIX + ".queue", executor, pool -> pool.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 사용자 생성/수정 등 서비스 계층에서 호출된다. 포화 시 503으로 응답한다.
+   */
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> delegate.encode(rawPassword));
+  }
+
+  /**
+   * 로그인 시 {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}에서 호출된다.
+   * 인증 필터가 처리할 수 있도록 포화 시 {@link AuthenticationServiceException}으로 감싼다.
+   */
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    try {
+      return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    } catch (PasswordHashingBusyException e) {
+      throw new AuthenticationServiceException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("비밀번호 해시 작업 거절: queueDepth={}", executor.getQueue().size());
+      throw PasswordHashingBusyException.withQueueDepth(executor.getQueue().size());
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      log.warn("비밀번호 해시 작업 시간 초과: timeoutMs={}, queueDepth={}", timeout.toMillis(),
+          executor.getQueue().size());
+      throw PasswordHashingBusyException.withQueueDepth(executor.getQueue().size());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw PasswordHashingBusyException.withQueueDepth(executor.getQueue().size());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -5,15 +5,18 @@ import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class DiscodeitUserDetailsService implements UserDetailsService {
+public class DiscodeitUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
@@ -26,4 +29,18 @@ public class DiscodeitUserDetailsService implements UserDetailsService {
 
     return new DiscodeitUserDetails(userMapper.toDto(user), user.getPassword());
   }
+
+  /**
+   * 로그인 성공 후 저장된 해시의 cost가 설정과 다를 때 호출된다. 평문 비밀번호는 이미 검증되었으므로 새 해시로 교체만 한다.
+   */
+  @Transactional
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user = userRepository.findByUsername(userDetails.getUsername())
+        .orElseThrow(() -> UserNotFoundException.withUsername(userDetails.getUsername()));
+    user.update(null, null, newPassword, null);
+    log.info("비밀번호 해시 재생성 완료: userId={}", user.getId());
+
+    return new DiscodeitUserDetails(userMapper.toDto(user), newPassword);
+  }
 }
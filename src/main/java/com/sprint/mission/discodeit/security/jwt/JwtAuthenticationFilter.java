@@ -28,6 +28,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtService jwtService;
+  private final UserSnapshotCache userSnapshotCache;
   private final ObjectMapper objectMapper;
 
   @Override
@@ -39,9 +40,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     Optional<String> optionalAccessToken = resolveAccessToken(request);
     if (optionalAccessToken.isPresent() && !isPermitAll(request)) {
       String accessToken = optionalAccessToken.get();
-      if (jwtService.validate(accessToken)) {
-        UserDto userDto = jwtService.parse(accessToken).userDto();
-        DiscodeitUserDetails userDetails = new DiscodeitUserDetails(userDto, null);
+      Optional<UserDto> userDto = jwtService.authenticate(accessToken)
+          .flatMap(jwtObject -> userSnapshotCache.get(jwtObject.userId(), jwtObject.version()));
+      if (userDto.isPresent()) {
+        DiscodeitUserDetails userDetails = new DiscodeitUserDetails(userDto.get(), null);
         UsernamePasswordAuthenticationToken auth =
             new UsernamePasswordAuthenticationToken(userDetails, null,
                 userDetails.getAuthorities());
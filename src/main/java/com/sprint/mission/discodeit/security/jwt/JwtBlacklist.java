@@ -1,27 +1,121 @@
 package com.sprint.mission.discodeit.security.jwt;
 
+import com.sprint.mission.discodeit.security.jwt.revocation.RevokedTokenFilter;
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenFingerprint;
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenRevocationStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 로그아웃 등으로 폐기된 access token 목록
+ * <p>
+ * 폐기 목록은 {@link TokenRevocationStore}로 모든 노드가 공유하고, 각 노드는 알림을 받아 로컬 사본을 갱신한다. 조회는 먼저
+ * {@link RevokedTokenFilter}를 확인하므로 대부분을 차지하는 "폐기되지 않음" 판정은 객체를 만들지 않는다. 필터가 양성일
+ * 때만 토큰 지문으로 로컬 사본을 확인한다.
+ * <p>
+ * 놓친 알림과 만료 항목은 {@code resync-interval-ms}마다 저장소를 다시 읽어 필터와 함께 새로 만들어 맞춘다.
+ */
+@Slf4j
 @Component
 public class JwtBlacklist {
 
-  private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
+  public static final String METRIC_PREFIX = "discodeit.jwt.revocation";
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final TokenRevocationStore revocationStore;
+  private final int expectedRevocations;
+  private final Counter confirmedCounter;
+  private final Counter falsePositiveCounter;
+
+  private volatile Map<TokenFingerprint, Instant> revoked = new ConcurrentHashMap<>();
+  private volatile RevokedTokenFilter filter;
+
+  // 필터 재구성과 항목 추가가 서로 엇갈리지 않도록 보호한다. 조회는 잠그지 않는다.
+  private final Object lock = new Object();
+
+  public JwtBlacklist(
+      TokenRevocationStore revocationStore,
+      @Value("${discodeit.security.jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+      MeterRegistry meterRegistry
+  ) {
+    this.revocationStore = revocationStore;
+    this.expectedRevocations = expectedRevocations;
+    this.filter = RevokedTokenFilter.create(expectedRevocations, FALSE_POSITIVE_RATE);
+
+    this.confirmedCounter = Counter.builder(METRIC_PREFIX + ".filter.positives")
+        .tag("result", "revoked")
+        .register(meterRegistry);
+    this.falsePositiveCounter = Counter.builder(METRIC_PREFIX + ".filter.positives")
+        .tag("result", "false_positive")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".size", this, blacklist -> blacklist.revoked.size())
+        .register(meterRegistry);
+
+    revocationStore.subscribe(this::apply);
+  }
 
   public void put(String accessToken, Instant expirationTime) {
-    blacklist.putIfAbsent(accessToken, expirationTime);
+    TokenFingerprint fingerprint = TokenFingerprint.of(accessToken);
+    // 이 노드에는 알림을 기다리지 않고 바로 반영한다.
+    apply(fingerprint, expirationTime);
+    revocationStore.revoke(fingerprint, expirationTime);
   }
 
   public boolean contains(String accessToken) {
-    return blacklist.containsKey(accessToken);
+    if (!filter.mightContain(accessToken)) {
+      return false;
+    }
+    boolean contains = revoked.containsKey(TokenFingerprint.of(accessToken));
+    (contains ? confirmedCounter : falsePositiveCounter).increment();
+    return contains;
+  }
+
+  void apply(TokenFingerprint fingerprint, Instant expirationTime) {
+    synchronized (lock) {
+      revoked.putIfAbsent(fingerprint, expirationTime);
+      filter.add(fingerprint);
+    }
   }
 
-  // 1시간마다 정리
-  @Scheduled(fixedDelay = 60 * 60 * 1000)
-  public void cleanUp() {
-    blacklist.values().removeIf(expirationTime -> expirationTime.isBefore(Instant.now()));
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${discodeit.security.jwt.revocation.resync-interval-ms:300000}",
+      initialDelayString = "${discodeit.security.jwt.revocation.resync-interval-ms:300000}")
+  public void resync() {
+    Instant now = Instant.now();
+    Map<TokenFingerprint, Instant> loaded;
+    try {
+      loaded = revocationStore.findAll(now);
+    } catch (RuntimeException e) {
+      log.error("토큰 폐기 목록 동기화 실패", e);
+      return;
+    }
+
+    synchronized (lock) {
+      // 저장소 조회 이후 알림으로 들어온 항목도 유지한다.
+      Map<TokenFingerprint, Instant> rebuilt = new ConcurrentHashMap<>(loaded);
+      revoked.forEach((fingerprint, expirationTime) -> {
+        if (expirationTime.isAfter(now)) {
+          rebuilt.putIfAbsent(fingerprint, expirationTime);
+        }
+      });
+
+      RevokedTokenFilter rebuiltFilter = RevokedTokenFilter.create(
+          Math.max(expectedRevocations, rebuilt.size() * 2), FALSE_POSITIVE_RATE);
+      rebuilt.keySet().forEach(rebuiltFilter::add);
+      revoked = rebuilt;
+      filter = rebuiltFilter;
+    }
+    log.debug("토큰 폐기 목록 동기화 완료: revoked={}", revoked.size());
   }
-}
\ No newline at end of file
+}
@@ -1,12 +1,19 @@
 package com.sprint.mission.discodeit.security.jwt;
 
-import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
 import java.time.Instant;
+import java.util.UUID;
 
+/**
+ * 토큰에 담긴 최소한의 정보. 사용자 정보 전체는 {@link UserSnapshotCache}에서 {@code userId}와 {@code version}으로
+ * 조회한다.
+ */
 public record JwtObject(
     Instant issueTime,
     Instant expirationTime,
-    UserDto userDto,
+    UUID userId,
+    Role role,
+    long version,
     String token
 ) {
 
@@ -6,32 +6,31 @@ import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.sprint.mission.discodeit.dto.data.UserDto;
-import com.sprint.mission.discodeit.event.UserMutationEvent;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.exception.DiscodeitException;
 import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.jwt.session.JwtSessionStore;
 
 import java.text.ParseException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,43 +41,80 @@ public class JwtService {
 
     public static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
 
+    static final String ROLE_CLAIM = "role";
+    static final String VERSION_CLAIM = "ver";
+    // 토큰을 직접 해석하는 구버전 클라이언트 호환용. 서버는 읽지 않으며 embed-user-claim을 켤 때만 담는다.
+    static final String USER_CLAIM = "userDto";
+
     @Value("${security.jwt.secret}")
     private String secret;
     @Value("${security.jwt.access-token-validity-seconds}")
     private long accessTokenValiditySeconds;
     @Value("${security.jwt.refresh-token-validity-seconds}")
     private long refreshTokenValiditySeconds;
+    @Value("${discodeit.security.jwt.embed-user-claim:false}")
+    private boolean embedUserClaim;
 
-    private final JwtSessionRepository jwtSessionRepository;
+    private final JwtSessionStore jwtSessionStore;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final ObjectMapper objectMapper;
     private final JwtBlacklist jwtBlacklist;
-    private final ApplicationEventPublisher eventPublisher;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private volatile JWSVerifier verifier;
 
-    @CacheEvict(value = "users", key = "'all'")
     @Transactional
     public JwtSession registerJwtSession(UserDto userDto) {
-        JwtObject accessJwtObject = generateJwtObject(userDto, accessTokenValiditySeconds);
-        JwtObject refreshJwtObject = generateJwtObject(userDto, refreshTokenValiditySeconds);
+        long version = userRepository.findById(userDto.id())
+                .map(UserSnapshotCache::versionOf)
+                .orElseThrow(() -> UserNotFoundException.withId(userDto.id()));
+        JwtObject accessJwtObject = generateJwtObject(userDto, version, accessTokenValiditySeconds);
+        JwtObject refreshJwtObject = generateJwtObject(userDto, version, refreshTokenValiditySeconds);
 
         JwtSession jwtSession = new JwtSession(userDto.id(), accessJwtObject.token(),
                 refreshJwtObject.token(), accessJwtObject.expirationTime());
-        jwtSessionRepository.save(jwtSession);
-
-        // 사용자가 로그인하면 SSE 방식으로 다른 사용자의 사용자 목록에 추가하기 위해 이벤트를 발행한다.
-        eventPublisher.publishEvent(new UserMutationEvent(userDto.id()));
+        jwtSessionStore.save(jwtSession, refreshTokenValidity());
 
         return jwtSession;
     }
 
+    /**
+     * 요청 인증용 검증. 블랙리스트를 확인한 뒤 검증된 토큰 캐시를 조회하고, 없으면 토큰을 한 번만 파싱해 서명과 만료를 확인한다.
+     * 검증에 실패하면 빈 값을 반환한다. 인증 주체는 반환된 사용자 id와 버전으로 {@link UserSnapshotCache}에서 찾는다.
+     */
+    public Optional<JwtObject> authenticate(String token) {
+        if (jwtBlacklist.contains(token)) {
+            return Optional.empty();
+        }
+        Optional<JwtObject> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!signedJWT.verify(verifier())) {
+                return Optional.empty();
+            }
+            JwtObject jwtObject = toJwtObject(signedJWT.getJWTClaimsSet(), token);
+            if (jwtObject.isExpired()) {
+                return Optional.empty();
+            }
+            verifiedTokenCache.put(jwtObject);
+            return Optional.of(jwtObject);
+        } catch (JOSEException | ParseException | RuntimeException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public boolean validate(String token) {
         boolean verified;
 
         try {
-            JWSVerifier verifier = new MACVerifier(secret);
             JWSObject jwsObject = JWSObject.parse(token);
-            verified = jwsObject.verify(verifier);
+            verified = jwsObject.verify(verifier());
 
             if (verified) {
                 JwtObject jwtObject = parse(token);
@@ -99,15 +135,7 @@ public class JwtService {
 
     public JwtObject parse(String token) {
         try {
-            JWSObject jwsObject = JWSObject.parse(token);
-            Payload payload = jwsObject.getPayload();
-            Map<String, Object> jsonObject = payload.toJSONObject();
-            return new JwtObject(
-                    objectMapper.convertValue(jsonObject.get("iat"), Instant.class),
-                    objectMapper.convertValue(jsonObject.get("exp"), Instant.class),
-                    objectMapper.convertValue(jsonObject.get("userDto"), UserDto.class),
-                    token
-            );
+            return toJwtObject(SignedJWT.parse(token).getJWTClaimsSet(), token);
         } catch (ParseException e) {
             log.error(e.getMessage());
             throw new DiscodeitException(ErrorCode.INVALID_TOKEN, Map.of("token", token), e);
@@ -120,60 +148,61 @@ public class JwtService {
         if (!validate(refreshToken)) {
             throw new DiscodeitException(ErrorCode.INVALID_TOKEN, Map.of("refreshToken", refreshToken));
         }
-        JwtSession session = jwtSessionRepository.findByRefreshToken(refreshToken)
+        JwtSession session = jwtSessionStore.findByRefreshToken(refreshToken)
                 .orElseThrow(() -> new DiscodeitException(ErrorCode.TOKEN_NOT_FOUND,
                         Map.of("refreshToken", refreshToken)));
 
-        UUID userId = parse(refreshToken).userDto().id();
-        UserDto userDto = userRepository.findById(userId)
-                .map(userMapper::toDto)
+        UUID userId = parse(refreshToken).userId();
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.withId(userId));
-        JwtObject accessJwtObject = generateJwtObject(userDto, accessTokenValiditySeconds);
-        JwtObject refreshJwtObject = generateJwtObject(userDto, refreshTokenValiditySeconds);
+        UserDto userDto = userMapper.toDto(user);
+        long version = UserSnapshotCache.versionOf(user);
+        JwtObject accessJwtObject = generateJwtObject(userDto, version, accessTokenValiditySeconds);
+        JwtObject refreshJwtObject = generateJwtObject(userDto, version, refreshTokenValiditySeconds);
 
         session.update(
                 accessJwtObject.token(),
                 refreshJwtObject.token(),
                 accessJwtObject.expirationTime()
         );
+        jwtSessionStore.save(session, refreshTokenValidity());
 
         return session;
     }
 
-    @CacheEvict(value = "users", key = "'all'")
     @Transactional
     public void invalidateJwtSession(String refreshToken) {
-        jwtSessionRepository.findByRefreshToken(refreshToken)
+        jwtSessionStore.findByRefreshToken(refreshToken)
                 .ifPresent(this::invalidate);
     }
 
-    @CacheEvict(value = "users", key = "'all'")
     @Transactional
     public void invalidateJwtSession(UUID userId) {
-        jwtSessionRepository.findByUserId(userId)
+        jwtSessionStore.findByUserId(userId)
                 .ifPresent(this::invalidate);
     }
 
     public JwtSession getJwtSession(String refreshToken) {
-        return jwtSessionRepository.findByRefreshToken(refreshToken)
+        return jwtSessionStore.findByRefreshToken(refreshToken)
                 .orElseThrow(() -> new DiscodeitException(ErrorCode.TOKEN_NOT_FOUND,
                         Map.of("refreshToken", refreshToken)));
     }
 
-    public List<JwtSession> getActiveJwtSessions() {
-        return jwtSessionRepository.findAllByExpirationTimeAfter(Instant.now());
-    }
-
-    private JwtObject generateJwtObject(UserDto userDto, long tokenValiditySeconds) {
+    private JwtObject generateJwtObject(UserDto userDto, long version, long tokenValiditySeconds) {
         Instant issueTime = Instant.now();
         Instant expirationTime = issueTime.plus(Duration.ofSeconds(tokenValiditySeconds));
 
-        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
-                .subject(userDto.username())
-                .claim("userDto", userDto)
+        JWTClaimsSet.Builder claimsSetBuilder = new JWTClaimsSet.Builder()
+                .subject(userDto.id().toString())
+                .jwtID(UUID.randomUUID().toString())
+                .claim(ROLE_CLAIM, userDto.role().name())
+                .claim(VERSION_CLAIM, version)
                 .issueTime(new Date(issueTime.toEpochMilli()))
-                .expirationTime(new Date(expirationTime.toEpochMilli()))
-                .build();
+                .expirationTime(new Date(expirationTime.toEpochMilli()));
+        if (embedUserClaim) {
+            claimsSetBuilder.claim(USER_CLAIM, objectMapper.convertValue(userDto, Map.class));
+        }
+        JWTClaimsSet claimsSet = claimsSetBuilder.build();
 
         JWSHeader header = new JWSHeader(JWSAlgorithm.HS256);
         SignedJWT signedJWT = new SignedJWT(header, claimsSet);
@@ -187,14 +216,51 @@ public class JwtService {
 
         String token = signedJWT.serialize();
 
-        return new JwtObject(issueTime, expirationTime, userDto, token);
+        return new JwtObject(issueTime, expirationTime, userDto.id(), userDto.role(), version, token);
+    }
+
+    // sub, role, ver가 없는 이전 형식의 토큰은 파싱 실패로 처리해 다시 로그인하도록 한다.
+    private JwtObject toJwtObject(JWTClaimsSet claimsSet, String token) throws ParseException {
+        String subject = claimsSet.getSubject();
+        String role = claimsSet.getStringClaim(ROLE_CLAIM);
+        Long version = claimsSet.getLongClaim(VERSION_CLAIM);
+        if (subject == null || role == null || version == null
+                || claimsSet.getIssueTime() == null || claimsSet.getExpirationTime() == null) {
+            throw new ParseException("Missing JWT claims", 0);
+        }
+        try {
+            return new JwtObject(
+                    claimsSet.getIssueTime().toInstant(),
+                    claimsSet.getExpirationTime().toInstant(),
+                    UUID.fromString(subject),
+                    Role.valueOf(role),
+                    version,
+                    token
+            );
+        } catch (IllegalArgumentException e) {
+            throw new ParseException("Malformed JWT claims: " + e.getMessage(), 0);
+        }
+    }
+
+    private Duration refreshTokenValidity() {
+        return Duration.ofSeconds(refreshTokenValiditySeconds);
+    }
+
+    private JWSVerifier verifier() throws JOSEException {
+        // MACVerifier는 상태가 없으므로 요청마다 만들지 않고 재사용한다.
+        JWSVerifier current = verifier;
+        if (current == null) {
+            current = new MACVerifier(secret);
+            verifier = current;
+        }
+        return current;
     }
 
     private void invalidate(JwtSession session) {
-        jwtSessionRepository.delete(session);
+        jwtSessionStore.delete(session);
+        verifiedTokenCache.evict(session.getAccessToken());
         if (!session.isExpired()) {
             jwtBlacklist.put(session.getAccessToken(), session.getExpirationTime());
         }
-        eventPublisher.publishEvent(new UserMutationEvent(session.getUserId()));
     }
 }
@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JwtSessionRepository extends JpaRepository<JwtSession, UUID> {
 
@@ -12,5 +15,8 @@ public interface JwtSessionRepository extends JpaRepository<JwtSession, UUID> {
 
   Optional<JwtSession> findByUserId(UUID userId);
 
-  List<JwtSession> findAllByExpirationTimeAfter(Instant after);
+  @Modifying
+  @Query("DELETE FROM JwtSession s "
+      + "WHERE COALESCE(s.updatedAt, s.createdAt) < :threshold")
+  int deleteAllByLastUpdatedBefore(@Param("threshold") Instant threshold);
 }
@@ -0,0 +1,157 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰의 사용자 id로 인증 주체({@link UserDto})를 찾는 노드 로컬 캐시
+ * <p>
+ * 항목마다 사용자 버전(수정 시각)을 함께 보관하고, 토큰의 버전보다 오래된 항목은 DB에서 다시 읽는다. 이 노드의 사용자 수정과
+ * 권한 변경은 이벤트로 바로 제거하고, 다른 노드에서 일어난 변경은 {@code ttl}이 지나면 반영된다. 사용자 id로 나눈 세그먼트마다
+ * 접근 순서 LRU로 최대 {@code max-size / 세그먼트 수}개를 보관하며, 가득 차면 가장 오래 쓰이지 않은 항목을 O(1)로 밀어낸다.
+ */
+@Component
+public class UserSnapshotCache {
+
+  public static final String METRIC_PREFIX = "discodeit.jwt.user-snapshot-cache";
+
+  // 세그먼트마다 잠금을 따로 두어 인증 요청끼리의 경합을 줄인다.
+  private static final int SEGMENTS = 16;
+
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+  private final Segment[] segments = new Segment[SEGMENTS];
+  private final Duration ttl;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public UserSnapshotCache(
+      UserRepository userRepository,
+      UserMapper userMapper,
+      @Value("${discodeit.security.jwt.user-snapshot-cache.max-size:10000}") int maxSize,
+      @Value("${discodeit.security.jwt.user-snapshot-cache.ttl:PT5M}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+    this.ttl = ttl;
+    int segmentCapacity = Math.max(1, maxSize / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(segmentCapacity);
+    }
+
+    this.hitCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".size", this, UserSnapshotCache::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 토큰 발급 시점 이후의 사용자 정보. 사용자가 삭제되었으면 빈 값을 반환한다.
+   */
+  public Optional<UserDto> get(UUID userId, long minVersion) {
+    Instant now = Instant.now();
+    Segment segment = segmentFor(userId);
+    UserSnapshot snapshot;
+    synchronized (segment) {
+      snapshot = segment.get(userId);
+    }
+    if (snapshot != null && snapshot.version() >= minVersion && snapshot.expiresAt().isAfter(now)) {
+      hitCounter.increment();
+      return Optional.of(snapshot.userDto());
+    }
+    missCounter.increment();
+
+    Optional<User> user = userRepository.findWithProfileById(userId);
+    if (user.isEmpty()) {
+      evict(userId);
+      return Optional.empty();
+    }
+    UserSnapshot loaded = new UserSnapshot(userMapper.toDto(user.get()), versionOf(user.get()),
+        now.plus(ttl));
+    synchronized (segment) {
+      segment.put(userId, loaded);
+    }
+    return Optional.of(loaded.userDto());
+  }
+
+  public void evict(UUID userId) {
+    Segment segment = segmentFor(userId);
+    synchronized (segment) {
+      segment.remove(userId);
+    }
+  }
+
+  public int size() {
+    return Arrays.stream(segments)
+        .mapToInt(segment -> {
+          synchronized (segment) {
+            return segment.size();
+          }
+        })
+        .sum();
+  }
+
+  /**
+   * 크기는 LRU가 제한하므로 만료된 항목을 일찍 돌려주기 위한 정리다. 세그먼트를 하나씩 잠근다.
+   */
+  @Scheduled(fixedDelay = 60 * 1000)
+  public void cleanUp() {
+    Instant now = Instant.now();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.values().removeIf(snapshot -> !snapshot.expiresAt().isAfter(now));
+      }
+    }
+  }
+
+  /**
+   * 토큰에 담는 사용자 버전. 수정 시각이 없으면 0이다.
+   */
+  public static long versionOf(User user) {
+    return user.getUpdatedAt() == null ? 0 : user.getUpdatedAt().toEpochMilli();
+  }
+
+  private Segment segmentFor(UUID userId) {
+    return segments[Math.floorMod(userId.hashCode(), SEGMENTS)];
+  }
+
+  private static final class Segment extends LinkedHashMap<UUID, UserSnapshot> {
+
+    private final int capacity;
+
+    private Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<UUID, UserSnapshot> eldest) {
+      return size() > capacity;
+    }
+  }
+
+  private record UserSnapshot(UserDto userDto, long version, Instant expiresAt) {
+
+  }
+}
@@ -0,0 +1,165 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import com.sprint.mission.discodeit.entity.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명과 만료 검증을 통과한 액세스 토큰의 파싱 결과를 보관한다.
+ * <p>
+ * 키는 토큰 원문이 아니라 SHA-256 해시이고, 값에도 토큰 원문을 두지 않는다. 항목은 토큰 만료 시각까지만 유효하다. 키 해시로 나눈
+ * 세그먼트마다 접근 순서 LRU로 최대 {@code max-size / 세그먼트 수}개를 보관하며, 가득 차면 가장 오래 쓰이지 않은 항목을 O(1)로
+ * 밀어낸다. 블랙리스트 확인은 캐시와 관계없이 호출자가 매번 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  public static final String METRIC_PREFIX = "discodeit.jwt.verified-cache";
+
+  // 세그먼트마다 잠금을 따로 두어 인증 요청끼리의 경합을 줄인다.
+  private static final int SEGMENTS = 16;
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public VerifiedTokenCache(
+      @Value("${discodeit.security.jwt.verified-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry
+  ) {
+    int segmentCapacity = Math.max(1, maxSize / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(segmentCapacity);
+    }
+
+    this.hitCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(METRIC_PREFIX + ".requests")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".size", this, VerifiedTokenCache::size)
+        .register(meterRegistry);
+  }
+
+  public Optional<JwtObject> get(String token) {
+    String key = hash(token);
+    Segment segment = segmentFor(key);
+    VerifiedToken verified;
+    synchronized (segment) {
+      verified = segment.get(key);
+      if (verified != null && verified.expirationTime().isBefore(Instant.now())) {
+        segment.remove(key);
+        verified = null;
+      }
+    }
+    if (verified == null) {
+      missCounter.increment();
+      return Optional.empty();
+    }
+    hitCounter.increment();
+    return Optional.of(verified.toJwtObject(token));
+  }
+
+  public void put(JwtObject jwtObject) {
+    String key = hash(jwtObject.token());
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      segment.put(key, VerifiedToken.from(jwtObject));
+    }
+  }
+
+  public void evict(String token) {
+    String key = hash(token);
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      segment.remove(key);
+    }
+  }
+
+  public int size() {
+    return Arrays.stream(segments)
+        .mapToInt(segment -> {
+          synchronized (segment) {
+            return segment.size();
+          }
+        })
+        .sum();
+  }
+
+  /**
+   * 크기는 LRU가 제한하므로 만료된 항목을 일찍 돌려주기 위한 정리다. 세그먼트를 하나씩 잠근다.
+   */
+  @Scheduled(fixedDelay = 60 * 1000)
+  public void cleanUp() {
+    Instant now = Instant.now();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.values().removeIf(verified -> verified.expirationTime().isBefore(now));
+      }
+    }
+  }
+
+  private Segment segmentFor(String key) {
+    return segments[Math.floorMod(key.hashCode(), SEGMENTS)];
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Segment extends LinkedHashMap<String, VerifiedToken> {
+
+    private final int capacity;
+
+    private Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+      return size() > capacity;
+    }
+  }
+
+  // 토큰 원문을 제외한 검증 결과. 조회 시 호출자가 가진 토큰으로 JwtObject를 다시 만든다.
+  private record VerifiedToken(
+      Instant issueTime,
+      Instant expirationTime,
+      UUID userId,
+      Role role,
+      long version
+  ) {
+
+    static VerifiedToken from(JwtObject jwtObject) {
+      return new VerifiedToken(jwtObject.issueTime(), jwtObject.expirationTime(),
+          jwtObject.userId(), jwtObject.role(), jwtObject.version());
+    }
+
+    JwtObject toJwtObject(String token) {
+      return new JwtObject(issueTime, expirationTime, userId, role, version, token);
+    }
+  }
+}
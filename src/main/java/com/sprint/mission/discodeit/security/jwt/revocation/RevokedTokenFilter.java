@@ -0,0 +1,60 @@
+package com.sprint.mission.discodeit.security.jwt.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 지문의 Bloom 필터. "폐기되지 않음"은 확정이고 "폐기됨"은 정확한 목록으로 다시 확인해야 한다.
+ * <p>
+ * 조회는 토큰 문자열에서 바로 비트 위치를 계산하므로 객체를 만들지 않는다. 삭제를 지원하지 않으므로 만료된 항목을 빼려면 새로
+ * 만든다.
+ */
+public class RevokedTokenFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  private RevokedTokenFilter(long bitCount, int hashCount) {
+    this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    this.bitCount = bitCount;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * {@code expectedInsertions}개를 넣었을 때 오탐률이 {@code falsePositiveRate}가 되도록 크기를 정한다.
+   */
+  public static RevokedTokenFilter create(int expectedInsertions, double falsePositiveRate) {
+    int insertions = Math.max(1, expectedInsertions);
+    long bitCount = Math.max(64,
+        (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    int hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    return new RevokedTokenFilter(bitCount, hashCount);
+  }
+
+  public void add(TokenFingerprint fingerprint) {
+    long combined = fingerprint.high();
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(combined, bitCount);
+      bits.getAndAccumulate((int) (index >>> 6), 1L << index, (current, mask) -> current | mask);
+      combined += fingerprint.low() | 1;
+    }
+  }
+
+  public boolean mightContain(CharSequence token) {
+    long high = TokenFingerprint.high(token);
+    long step = TokenFingerprint.low(token) | 1;
+    long combined = high;
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(combined, bitCount);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+      combined += step;
+    }
+    return true;
+  }
+
+  public long getBitCount() {
+    return bitCount;
+  }
+}
@@ -0,0 +1,51 @@
+package com.sprint.mission.discodeit.security.jwt.revocation;
+
+/**
+ * 토큰 원문 대신 보관하는 128비트 지문
+ * <p>
+ * 두 개의 64비트 해시를 문자 단위로 계산하므로 객체를 만들지 않고도 {@link #high(CharSequence)},
+ * {@link #low(CharSequence)}로 구할 수 있다. 충돌은 유효한 토큰 하나가 폐기된 것으로 보이는 결과만 낳는다.
+ */
+public record TokenFingerprint(long high, long low) {
+
+  public static TokenFingerprint of(CharSequence token) {
+    return new TokenFingerprint(high(token), low(token));
+  }
+
+  public static TokenFingerprint parse(String value) {
+    if (value.length() != 32) {
+      throw new IllegalArgumentException("Malformed token fingerprint: " + value);
+    }
+    return new TokenFingerprint(
+        Long.parseUnsignedLong(value.substring(0, 16), 16),
+        Long.parseUnsignedLong(value.substring(16), 16));
+  }
+
+  public static long high(CharSequence token) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < token.length(); i++) {
+      hash = (hash ^ token.charAt(i)) * 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  public static long low(CharSequence token) {
+    long hash = 0x9e3779b97f4a7c15L;
+    for (int i = 0; i < token.length(); i++) {
+      hash = Long.rotateLeft(hash ^ token.charAt(i), 27) * 0xbf58476d1ce4e5b9L;
+    }
+    return mix(hash + token.length());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%016x%016x", high, low);
+  }
+
+  // SplitMix64 finalizer
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
@@ -0,0 +1,26 @@
+package com.sprint.mission.discodeit.security.jwt.revocation;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 노드 간에 공유하는 토큰 폐기 목록. 토큰 원문 대신 {@link TokenFingerprint}로 저장하고 만료 시각이 지나면 제거한다.
+ */
+public interface TokenRevocationStore {
+
+  /**
+   * 폐기 목록에 추가하고 구독 중인 모든 노드에 알린다.
+   */
+  void revoke(TokenFingerprint fingerprint, Instant expiresAt);
+
+  /**
+   * 만료되지 않은 폐기 항목 전체. 시작 시 적재와 놓친 알림 보정에 사용한다.
+   */
+  Map<TokenFingerprint, Instant> findAll(Instant now);
+
+  /**
+   * 다른 노드를 포함해 폐기가 일어날 때마다 호출될 리스너를 등록한다.
+   */
+  void subscribe(BiConsumer<TokenFingerprint, Instant> listener);
+}
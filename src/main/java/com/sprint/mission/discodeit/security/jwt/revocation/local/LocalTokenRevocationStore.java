@@ -0,0 +1,41 @@
+package com.sprint.mission.discodeit.security.jwt.revocation.local;
+
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenFingerprint;
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenRevocationStore;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드 및 테스트용 토큰 폐기 저장소. 다른 노드와 공유되지 않으며 리스너를 호출한 스레드에서 바로 알린다.
+ */
+@ConditionalOnProperty(name = "discodeit.security.jwt.revocation.store", havingValue = "local")
+@Component
+public class LocalTokenRevocationStore implements TokenRevocationStore {
+
+  private final Map<TokenFingerprint, Instant> revoked = new ConcurrentHashMap<>();
+  private final List<BiConsumer<TokenFingerprint, Instant>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void revoke(TokenFingerprint fingerprint, Instant expiresAt) {
+    revoked.put(fingerprint, expiresAt);
+    listeners.forEach(listener -> listener.accept(fingerprint, expiresAt));
+  }
+
+  @Override
+  public Map<TokenFingerprint, Instant> findAll(Instant now) {
+    revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    return new HashMap<>(revoked);
+  }
+
+  @Override
+  public void subscribe(BiConsumer<TokenFingerprint, Instant> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,88 @@
+package com.sprint.mission.discodeit.security.jwt.revocation.redis;
+
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenFingerprint;
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenRevocationStore;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기 항목을 Redis sorted set 하나({@value #KEY})에 보관하고 pub/sub 채널({@value #CHANNEL})로 알린다.
+ * <p>
+ * 멤버는 토큰 지문, 점수는 만료 시각(epoch ms)이다. 알림은 전달이 보장되지 않으므로 놓친 항목은 구독 노드가 주기적으로
+ * {@link #findAll(Instant)}을 다시 읽어 맞춘다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.security.jwt.revocation.store", havingValue = "redis",
+    matchIfMissing = true)
+@Component
+public class RedisTokenRevocationStore implements TokenRevocationStore, DisposableBean {
+
+  static final String KEY = "discodeit:jwt:revoked";
+  static final String CHANNEL = "discodeit:jwt:revocations";
+  private static final String DELIMITER = "|";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public RedisTokenRevocationStore(StringRedisTemplate redisTemplate,
+      RedisConnectionFactory connectionFactory) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = new RedisMessageListenerContainer();
+    this.listenerContainer.setConnectionFactory(connectionFactory);
+    this.listenerContainer.afterPropertiesSet();
+    this.listenerContainer.start();
+  }
+
+  @Override
+  public void revoke(TokenFingerprint fingerprint, Instant expiresAt) {
+    redisTemplate.opsForZSet().add(KEY, fingerprint.toString(), expiresAt.toEpochMilli());
+    redisTemplate.convertAndSend(CHANNEL, fingerprint + DELIMITER + expiresAt.toEpochMilli());
+  }
+
+  @Override
+  public Map<TokenFingerprint, Instant> findAll(Instant now) {
+    long nowMillis = now.toEpochMilli();
+    redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, nowMillis);
+    Set<TypedTuple<String>> members = redisTemplate.opsForZSet()
+        .rangeByScoreWithScores(KEY, nowMillis, Double.POSITIVE_INFINITY);
+
+    Map<TokenFingerprint, Instant> revoked = new HashMap<>();
+    if (members != null) {
+      members.forEach(member -> revoked.put(TokenFingerprint.parse(member.getValue()),
+          Instant.ofEpochMilli(member.getScore().longValue())));
+    }
+    return revoked;
+  }
+
+  @Override
+  public void subscribe(BiConsumer<TokenFingerprint, Instant> listener) {
+    listenerContainer.addMessageListener((message, pattern) -> {
+      String body = new String(message.getBody(), StandardCharsets.UTF_8);
+      int delimiter = body.indexOf(DELIMITER);
+      try {
+        listener.accept(TokenFingerprint.parse(body.substring(0, delimiter)),
+            Instant.ofEpochMilli(Long.parseLong(body.substring(delimiter + 1))));
+      } catch (RuntimeException e) {
+        log.warn("토큰 폐기 알림 처리 실패: message={}", body, e);
+      }
+    }, new ChannelTopic(CHANNEL));
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    listenerContainer.destroy();
+  }
+}
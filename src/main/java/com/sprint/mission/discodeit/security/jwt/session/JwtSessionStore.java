@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.security.jwt.session;
+
+import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JWT 세션 저장소. 세션은 refresh token과 사용자 id로 조회한다.
+ */
+public interface JwtSessionStore {
+
+  /**
+   * 세션을 저장하거나 갱신한다. 갱신 후에는 같은 사용자의 이전 refresh token으로 조회되지 않으며,
+   * {@code timeToLive}가 지나면 만료될 수 있다.
+   */
+  void save(JwtSession session, Duration timeToLive);
+
+  Optional<JwtSession> findByRefreshToken(String refreshToken);
+
+  Optional<JwtSession> findByUserId(UUID userId);
+
+  void delete(JwtSession session);
+}
@@ -0,0 +1,67 @@
+package com.sprint.mission.discodeit.security.jwt.session.jpa;
+
+import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import com.sprint.mission.discodeit.security.jwt.JwtSessionRepository;
+import com.sprint.mission.discodeit.security.jwt.session.JwtSessionStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@code jwt_sessions} 테이블에 세션을 보관한다. 마지막 갱신 후 refresh token 유효 기간이 지난 행은
+ * {@code cleanup-interval-ms}마다 삭제한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.security.jwt.session.store", havingValue = "jpa",
+    matchIfMissing = true)
+@Component
+public class JpaJwtSessionStore implements JwtSessionStore {
+
+  private final JwtSessionRepository jwtSessionRepository;
+  private final Duration refreshTokenValidity;
+
+  public JpaJwtSessionStore(
+      JwtSessionRepository jwtSessionRepository,
+      @Value("${security.jwt.refresh-token-validity-seconds}") long refreshTokenValiditySeconds
+  ) {
+    this.jwtSessionRepository = jwtSessionRepository;
+    this.refreshTokenValidity = Duration.ofSeconds(refreshTokenValiditySeconds);
+  }
+
+  @Override
+  public void save(JwtSession session, Duration timeToLive) {
+    jwtSessionRepository.save(session);
+  }
+
+  @Override
+  public Optional<JwtSession> findByRefreshToken(String refreshToken) {
+    return jwtSessionRepository.findByRefreshToken(refreshToken);
+  }
+
+  @Override
+  public Optional<JwtSession> findByUserId(UUID userId) {
+    return jwtSessionRepository.findByUserId(userId);
+  }
+
+  @Override
+  public void delete(JwtSession session) {
+    jwtSessionRepository.delete(session);
+  }
+
+  @Transactional
+  @Scheduled(fixedDelayString = "${discodeit.security.jwt.session.cleanup-interval-ms:3600000}")
+  public void cleanUp() {
+    int deleted = jwtSessionRepository.deleteAllByLastUpdatedBefore(
+        Instant.now().minus(refreshTokenValidity));
+    if (deleted > 0) {
+      log.info("만료된 JWT 세션 정리: deleted={}", deleted);
+    }
+  }
+}
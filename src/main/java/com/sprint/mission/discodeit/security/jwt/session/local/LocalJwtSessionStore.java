@@ -0,0 +1,71 @@
+package com.sprint.mission.discodeit.security.jwt.session.local;
+
+import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import com.sprint.mission.discodeit.security.jwt.session.JwtSessionStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드 및 테스트용 JWT 세션 저장소. 다른 노드와 공유되지 않으며 재시작하면 모든 세션이 사라진다.
+ */
+@ConditionalOnProperty(name = "discodeit.security.jwt.session.store", havingValue = "local")
+@Component
+public class LocalJwtSessionStore implements JwtSessionStore {
+
+  private final Map<UUID, Entry> sessionsByUserId = new ConcurrentHashMap<>();
+  private final Map<String, UUID> userIdsByRefreshToken = new ConcurrentHashMap<>();
+
+  @Override
+  public void save(JwtSession session, Duration timeToLive) {
+    Entry previous = sessionsByUserId.put(session.getUserId(),
+        new Entry(copyOf(session), Instant.now().plus(timeToLive)));
+    if (previous != null && !previous.session().getRefreshToken()
+        .equals(session.getRefreshToken())) {
+      userIdsByRefreshToken.remove(previous.session().getRefreshToken());
+    }
+    userIdsByRefreshToken.put(session.getRefreshToken(), session.getUserId());
+  }
+
+  @Override
+  public Optional<JwtSession> findByRefreshToken(String refreshToken) {
+    return Optional.ofNullable(userIdsByRefreshToken.get(refreshToken))
+        .flatMap(this::findByUserId)
+        .filter(session -> session.getRefreshToken().equals(refreshToken));
+  }
+
+  @Override
+  public Optional<JwtSession> findByUserId(UUID userId) {
+    Entry entry = sessionsByUserId.get(userId);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (!entry.expiresAt().isAfter(Instant.now())) {
+      delete(entry.session());
+      return Optional.empty();
+    }
+    return Optional.of(copyOf(entry.session()));
+  }
+
+  @Override
+  public void delete(JwtSession session) {
+    userIdsByRefreshToken.remove(session.getRefreshToken());
+    sessionsByUserId.computeIfPresent(session.getUserId(), (userId, entry) ->
+        entry.session().getRefreshToken().equals(session.getRefreshToken()) ? null : entry);
+  }
+
+  // Redis 저장소와 같이 저장 후 호출자가 객체를 바꿔도 저장된 값에는 반영되지 않게 한다.
+  private static JwtSession copyOf(JwtSession session) {
+    return new JwtSession(session.getUserId(), session.getAccessToken(),
+        session.getRefreshToken(), session.getExpirationTime());
+  }
+
+  private record Entry(JwtSession session, Instant expiresAt) {
+
+  }
+}
@@ -0,0 +1,121 @@
+package com.sprint.mission.discodeit.security.jwt.session.redis;
+
+import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import com.sprint.mission.discodeit.security.jwt.session.JwtSessionStore;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션을 Redis 해시({@code discodeit:jwt:session:refresh:<refresh token 해시>})에 보관하고, 사용자 id 키
+ * ({@code discodeit:jwt:session:user:<userId>})가 현재 세션 키를 가리키게 한다.
+ * <p>
+ * 두 키 모두 refresh token 유효 기간을 TTL로 설정하므로 만료된 세션은 Redis가 지운다. 키에는 토큰 원문 대신 SHA-256
+ * 해시를 사용한다.
+ * <p>
+ * 이전 세션 키를 읽고 지우는 과정과 사용자 키 비교 후 삭제는 Lua 스크립트로 한 번에 실행한다. 동시에 로그인하거나 갱신해도 사용자
+ * 키가 가리키지 않는 세션 해시가 남지 않는다. 스크립트가 이전 세션 키에 직접 접근하므로 단일 Redis(또는 복제 구성)를 전제로 한다.
+ */
+@ConditionalOnProperty(name = "discodeit.security.jwt.session.store", havingValue = "redis")
+@Component
+@RequiredArgsConstructor
+public class RedisJwtSessionStore implements JwtSessionStore {
+
+  static final String REFRESH_KEY_PREFIX = "discodeit:jwt:session:refresh:";
+  static final String USER_KEY_PREFIX = "discodeit:jwt:session:user:";
+
+  private static final String USER_ID = "userId";
+  private static final String ACCESS_TOKEN = "accessToken";
+  private static final String REFRESH_TOKEN = "refreshToken";
+  private static final String EXPIRATION_TIME = "expirationTime";
+
+  // KEYS: 사용자 키, 새 세션 키 / ARGV: TTL(ms), userId, accessToken, refreshToken, expirationTime
+  private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+      "local previous = redis.call('GET', KEYS[1]) "
+          + "if previous and previous ~= KEYS[2] then redis.call('DEL', previous) end "
+          + "redis.call('DEL', KEYS[2]) "
+          + "redis.call('HSET', KEYS[2], "
+          + "'" + USER_ID + "', ARGV[2], '" + ACCESS_TOKEN + "', ARGV[3], "
+          + "'" + REFRESH_TOKEN + "', ARGV[4], '" + EXPIRATION_TIME + "', ARGV[5]) "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+          + "redis.call('SET', KEYS[1], KEYS[2], 'PX', ARGV[1]) "
+          + "return 1",
+      Long.class);
+
+  // KEYS: 세션 키, 사용자 키. 그 사이 다시 로그인해 사용자 키가 다른 세션을 가리키고 있으면 남겨 둔다.
+  private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) "
+          + "if redis.call('GET', KEYS[2]) == KEYS[1] then return redis.call('DEL', KEYS[2]) end "
+          + "return 0",
+      Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public void save(JwtSession session, Duration timeToLive) {
+    redisTemplate.execute(SAVE_SCRIPT,
+        List.of(userKey(session.getUserId()), refreshKey(session.getRefreshToken())),
+        String.valueOf(timeToLive.toMillis()),
+        session.getUserId().toString(),
+        session.getAccessToken(),
+        session.getRefreshToken(),
+        String.valueOf(session.getExpirationTime().toEpochMilli()));
+  }
+
+  @Override
+  public Optional<JwtSession> findByRefreshToken(String refreshToken) {
+    return find(refreshKey(refreshToken));
+  }
+
+  @Override
+  public Optional<JwtSession> findByUserId(UUID userId) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(userKey(userId)))
+        .flatMap(this::find);
+  }
+
+  @Override
+  public void delete(JwtSession session) {
+    redisTemplate.execute(DELETE_SCRIPT,
+        List.of(refreshKey(session.getRefreshToken()), userKey(session.getUserId())));
+  }
+
+  private Optional<JwtSession> find(String refreshKey) {
+    Map<Object, Object> fields = redisTemplate.opsForHash().entries(refreshKey);
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new JwtSession(
+        UUID.fromString((String) fields.get(USER_ID)),
+        (String) fields.get(ACCESS_TOKEN),
+        (String) fields.get(REFRESH_TOKEN),
+        Instant.ofEpochMilli(Long.parseLong((String) fields.get(EXPIRATION_TIME)))
+    ));
+  }
+
+  private static String refreshKey(String refreshToken) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+      return REFRESH_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String userKey(UUID userId) {
+    return USER_KEY_PREFIX + userId;
+  }
+}
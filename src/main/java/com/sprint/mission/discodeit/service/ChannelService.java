@@ -1,9 +1,12 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +20,10 @@ public interface ChannelService {
 
   List<ChannelDto> findAllByUserId(UUID userId);
 
+  PageResponse<ChannelDto> findAllByUserId(UUID userId, ChannelSort sort, String cursor, int size);
+
+  PageResponse<ChannelVersionDto> findVersionsByUserId(UUID userId, String cursor, int size);
+
   ChannelDto update(UUID channelId, PublicChannelUpdateRequest request);
 
   void delete(UUID channelId);
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.dto.request.MessageImportRequest;
+import com.sprint.mission.discodeit.dto.response.MessageImportResult;
+import java.util.Iterator;
+import java.util.UUID;
+
+public interface MessageImportService {
+
+  MessageImportResult importMessages(UUID channelId, Iterator<MessageImportRequest> messages);
+}
@@ -1,11 +1,11 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
-import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -13,11 +13,23 @@ import org.springframework.data.domain.Pageable;
 public interface MessageService {
 
   MessageDto create(MessageCreateRequest messageCreateRequest,
-      List<BinaryContentCreateRequest> binaryContentCreateRequests);
+      List<BinaryContentUploadRequest> binaryContentUploadRequests);
+
+  /**
+   * 첨부파일 없는 여러 메시지를 하나의 트랜잭션으로 생성한다. 하나라도 실패하면 모두 롤백된다.
+   */
+  List<MessageDto> createAll(List<MessageCreateRequest> messageCreateRequests);
 
   MessageDto find(UUID messageId);
 
-  PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createdAt, Pageable pageable);
+  PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
+      PageDirection direction, Pageable pageable);
+
+  /**
+   * viewerId가 볼 수 있는 채널의 메시지를 전문 검색한다. channelId, authorId는 선택 조건이다.
+   */
+  PageResponse<MessageDto> search(UUID viewerId, String query, UUID channelId, UUID authorId,
+      String cursor, int size);
 
   MessageDto update(UUID messageId, MessageUpdateRequest request);
 
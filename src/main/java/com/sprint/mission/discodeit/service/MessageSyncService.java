@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.dto.response.MessageChangesResponse;
+import java.util.UUID;
+
+public interface MessageSyncService {
+
+  /**
+   * cursor 이후 채널에서 발생한 메시지 생성, 수정, 삭제를 순서대로 반환한다. cursor가 없으면 변경 없이 현재 커서만 반환한다.
+   */
+  MessageChangesResponse findChanges(UUID channelId, String cursor, int size);
+}
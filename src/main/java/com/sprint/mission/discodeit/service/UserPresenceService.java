@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface UserPresenceService {
+
+  void connected(UUID userId);
+
+  void disconnected(UUID userId);
+
+  Set<UUID> findOnlineUserIds();
+}
@@ -1,31 +1,52 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.data.ChannelCursor;
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionCursor;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelPurge;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
 import com.sprint.mission.discodeit.event.PrivateChannelCreatedEvent;
 import com.sprint.mission.discodeit.event.PublicChannelMutationEvent;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
+import com.sprint.mission.discodeit.repository.ChannelPurgeRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ChannelService;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,14 +58,16 @@ public class BasicChannelService implements ChannelService {
 
     private final ChannelRepository channelRepository;
     private final ReadStatusRepository readStatusRepository;
-    private final MessageRepository messageRepository;
+    private final ChannelPurgeRepository channelPurgeRepository;
     private final UserRepository userRepository;
     private final ChannelMapper channelMapper;
+    private final ChannelListLoader channelListLoader;
+    private final PageResponseMapper pageResponseMapper;
     private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize("hasRole('CHANNEL_MANAGER')")
     @Transactional
-    @CacheEvict(value = "channelsByUser", allEntries = true)
+    @CacheEvict(value = ChannelListLoader.PUBLIC_CHANNELS, key = "'all'")
     @Override
     public ChannelDto create(PublicChannelCreateRequest request) {
         log.debug("채널 생성 시작: {}", request);
@@ -72,6 +95,9 @@ public class BasicChannelService implements ChannelService {
                 .map(user -> new ReadStatus(user, channel, channel.getCreatedAt()))
                 .toList();
         readStatusRepository.saveAll(readStatuses);
+        readStatuses.forEach(readStatus -> eventPublisher.publishEvent(
+                new ChannelMembershipChangedEvent(channel.getId(), readStatus.getUser().getId(),
+                        readStatus.isNotificationEnabled())));
 
         log.info("채널 생성 완료: id={}, name={}", channel.getId(), channel.getName());
         ChannelDto channelDto = channelMapper.toDto(channel);
@@ -87,24 +113,95 @@ public class BasicChannelService implements ChannelService {
                 .orElseThrow(() -> ChannelNotFoundException.withId(channelId));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "channelsByUser", key = "#userId", unless = "#result.isEmpty()")
+    /**
+     * 공유 공개 채널 목록과 사용자별 비공개 채널 목록을 각각 캐시에서 읽어 합친다.
+     */
     @Override
     public List<ChannelDto> findAllByUserId(UUID userId) {
-        List<UUID> mySubscribedChannelIds = readStatusRepository.findAllByUserId(userId).stream()
-                .map(ReadStatus::getChannel)
-                .map(Channel::getId)
-                .toList();
+        List<ChannelDto> channels = new ArrayList<>(channelListLoader.findPublicChannels());
+        channels.addAll(channelListLoader.findPrivateChannels(userId));
+        return channels;
+    }
 
-        return channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC, mySubscribedChannelIds)
-                .stream()
-                .map(channelMapper::toDto)
-                .toList();
+    /**
+     * 캐시를 거치지 않는 키셋 페이지. id만 정렬해 조회한 뒤 해당 페이지의 채널만 변환한다.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<ChannelDto> findAllByUserId(UUID userId, ChannelSort sort, String cursor,
+                                                    int size) {
+        ChannelCursor decoded = Optional.ofNullable(cursor)
+                .map(this::decodeCursor)
+                .orElseGet(() -> ChannelCursor.first(sort));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+        List<UUID> ids = switch (sort) {
+            case LAST_MESSAGE_AT -> channelRepository.findAccessibleIdsOrderByLastMessageAt(userId,
+                    decodeLastMessageAt(decoded, cursor), decoded.id(), size + 1);
+            case NAME -> channelRepository.findAccessibleIdsOrderByName(userId, decoded.sortKey(),
+                    decoded.id(), size + 1);
+        };
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<UUID, Channel> channels = channelRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Channel::getId, Function.identity()));
+        List<ChannelDto> content = channelMapper.toDtos(pageIds.stream()
+                .map(channels::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        String nextCursor = content.isEmpty() ? null
+                : ChannelCursor.from(content.get(content.size() - 1), sort).encode();
+        return pageResponseMapper.fromSlice(
+                new SliceImpl<>(content, PageRequest.of(0, size), hasNext), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<ChannelVersionDto> findVersionsByUserId(UUID userId, String cursor,
+                                                                int size) {
+        ChannelVersionCursor after = Optional.ofNullable(cursor)
+                .map(this::decodeVersionCursor)
+                .orElse(ChannelVersionCursor.FIRST);
+
+        Slice<ChannelVersionDto> versions = channelRepository.findVersionsByTypeOrParticipantId(
+                ChannelType.PUBLIC, userId, after.id(), PageRequest.of(0, size));
+        String nextCursor = null;
+        if (versions.hasContent()) {
+            UUID lastId = versions.getContent().get(versions.getNumberOfElements() - 1).id();
+            nextCursor = new ChannelVersionCursor(lastId).encode();
+        }
+        return pageResponseMapper.fromSlice(versions, nextCursor);
+    }
+
+    private ChannelCursor decodeCursor(String cursor) {
+        try {
+            return ChannelCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
+    }
+
+    private ChannelVersionCursor decodeVersionCursor(String cursor) {
+        try {
+            return ChannelVersionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
+    }
+
+    private Instant decodeLastMessageAt(ChannelCursor decoded, String cursor) {
+        try {
+            return decoded.lastMessageAt();
+        } catch (DateTimeParseException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
     }
 
     @PreAuthorize("hasRole('CHANNEL_MANAGER')")
     @Transactional
-    @CacheEvict(value = "channelsByUser", allEntries = true)
+    @CacheEvict(value = ChannelListLoader.PUBLIC_CHANNELS, key = "'all'")
     @Override
     public ChannelDto update(UUID channelId, PublicChannelUpdateRequest request) {
         log.debug("채널 수정 시작: id={}, request={}", channelId, request);
@@ -127,20 +224,26 @@ public class BasicChannelService implements ChannelService {
 
     @PreAuthorize("hasRole('CHANNEL_MANAGER')")
     @Transactional
-    @CacheEvict(value = "channelsByUser", allEntries = true)
+    @CacheEvict(value = ChannelListLoader.PUBLIC_CHANNELS, key = "'all'")
     @Override
     public void delete(UUID channelId) {
         log.debug("채널 삭제 시작: id={}", channelId);
-        if (!channelRepository.existsById(channelId)) {
-            throw ChannelNotFoundException.withId(channelId);
-        }
+        Channel channel = channelRepository.findById(channelId)
+                .orElseThrow(() -> ChannelNotFoundException.withId(channelId));
 
-        messageRepository.deleteAllByChannelId(channelId);
-        readStatusRepository.deleteAllByChannelId(channelId);
+        // 참여자별 비공개 채널 캐시를 무효화할 수 있도록 읽음 상태를 지우기 전에 참여자를 기록한다.
+        List<UUID> participantIds = channel.getType().equals(ChannelType.PRIVATE)
+                ? readStatusRepository.findUserIdsByChannelId(channelId)
+                : List.of();
 
-        channelRepository.deleteById(channelId);
+        // 메시지는 ChannelPurger가 청크 단위로 정리하고, 정리가 끝나면 채널 행을 삭제한다.
+        readStatusRepository.deleteAllByChannelId(channelId);
+        channel.markDeleted();
+        channelPurgeRepository.save(new ChannelPurge(channelId));
         log.info("채널 삭제 완료: id={}", channelId);
 
+        eventPublisher.publishEvent(new ChannelDeletedEvent(channelId, participantIds));
+        eventPublisher.publishEvent(ChannelMembershipChangedEvent.channelRemoved(channelId));
         eventPublisher.publishEvent(new PublicChannelMutationEvent(channelId));
     }
 }
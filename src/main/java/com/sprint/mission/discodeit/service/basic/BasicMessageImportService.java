@@ -0,0 +1,210 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.cache.MessageTailCache;
+import com.sprint.mission.discodeit.dto.request.MessageImportRequest;
+import com.sprint.mission.discodeit.dto.response.MessageImportResult;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
+import com.sprint.mission.discodeit.entity.id.IdGenerator;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository.AttachmentRow;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository.MessageRow;
+import com.sprint.mission.discodeit.service.MessageImportService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메시지 대량 가져오기
+ * <p>
+ * {@code chunk-size}건 단위로 JDBC 배치 INSERT 후 커밋한다. 실시간 전파(NewMessageEvent, Kafka, WebSocket)는 하지
+ * 않으며, 실패 시 이전 청크까지는 커밋된 상태로 남는다. 이때 오류 응답의 {@code importedMessages}에 커밋된 메시지 수를
+ * 담는다. 항목에 id를 지정하면 이미 저장된 메시지는 건너뛰므로 같은 입력으로 다시 실행할 수 있다. 증분 동기화를 위한 변경
+ * 이력과 안 읽은 메시지 수는 청크와 같은 트랜잭션에 반영한다.
+ */
+@Slf4j
+@Service
+public class BasicMessageImportService implements MessageImportService {
+
+  private final ChannelRepository channelRepository;
+  private final MessageBulkInsertRepository messageBulkInsertRepository;
+  private final MessageChangeRepository messageChangeRepository;
+  private final ReadStatusRepository readStatusRepository;
+  private final MessageTailCache messageTailCache;
+  private final TransactionTemplate transactionTemplate;
+  private final IdGenerator idGenerator;
+  private final int chunkSize;
+
+  public BasicMessageImportService(
+      ChannelRepository channelRepository,
+      MessageBulkInsertRepository messageBulkInsertRepository,
+      MessageChangeRepository messageChangeRepository,
+      ReadStatusRepository readStatusRepository,
+      MessageTailCache messageTailCache,
+      TransactionTemplate transactionTemplate,
+      IdGenerator idGenerator,
+      @Value("${discodeit.message.import.chunk-size:5000}") int chunkSize
+  ) {
+    this.channelRepository = channelRepository;
+    this.messageBulkInsertRepository = messageBulkInsertRepository;
+    this.messageChangeRepository = messageChangeRepository;
+    this.readStatusRepository = readStatusRepository;
+    this.messageTailCache = messageTailCache;
+    this.transactionTemplate = transactionTemplate;
+    this.idGenerator = idGenerator;
+    this.chunkSize = chunkSize;
+  }
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @Override
+  public MessageImportResult importMessages(UUID channelId,
+      Iterator<MessageImportRequest> messages) {
+    log.debug("메시지 가져오기 시작: channelId={}, chunkSize={}", channelId, chunkSize);
+    if (!channelRepository.existsById(channelId)) {
+      throw ChannelNotFoundException.withId(channelId);
+    }
+
+    long startedAt = System.nanoTime();
+    long processedMessages = 0;
+    long importedMessages = 0;
+    long importedAttachments = 0;
+    int chunks = 0;
+    Set<UUID> knownAuthorIds = new HashSet<>();
+
+    try {
+      List<MessageImportRequest> chunk = new ArrayList<>(chunkSize);
+      while (messages.hasNext()) {
+        long index = processedMessages + chunk.size();
+        chunk.add(validate(next(messages, index), index));
+        if (chunk.size() == chunkSize || !messages.hasNext()) {
+          ChunkResult written = writeChunk(channelId, chunk, knownAuthorIds);
+          processedMessages += chunk.size();
+          importedMessages += written.messages();
+          importedAttachments += written.attachments();
+          chunks++;
+          chunk.clear();
+          log.debug("메시지 가져오기 청크 커밋: channelId={}, processedMessages={}, importedMessages={}",
+              channelId, processedMessages, importedMessages);
+        }
+      }
+    } catch (DiscodeitException e) {
+      e.addDetail("processedMessages", processedMessages);
+      e.addDetail("importedMessages", importedMessages);
+      throw e;
+    } catch (RuntimeException e) {
+      log.error("메시지 가져오기 실패: channelId={}, processedMessages={}, importedMessages={}",
+          channelId, processedMessages, importedMessages, e);
+      throw new DiscodeitException(ErrorCode.INTERNAL_SERVER_ERROR, Map.of(
+          "processedMessages", processedMessages, "importedMessages", importedMessages), e);
+    } finally {
+      if (importedMessages > 0) {
+        messageTailCache.evictChannel(channelId);
+      }
+    }
+
+    long elapsedNanos = System.nanoTime() - startedAt;
+    double messagesPerSecond = elapsedNanos == 0 ? 0 : importedMessages * 1e9 / elapsedNanos;
+    log.info("메시지 가져오기 완료: channelId={}, messages={}, attachments={}, chunks={}, "
+            + "elapsedMs={}, messagesPerSecond={}", channelId, importedMessages,
+        importedAttachments, chunks, elapsedNanos / 1_000_000, String.format("%.0f", messagesPerSecond));
+
+    return new MessageImportResult(channelId, importedMessages, importedAttachments, chunks,
+        elapsedNanos / 1_000_000, messagesPerSecond);
+  }
+
+  private ChunkResult writeChunk(UUID channelId, List<MessageImportRequest> chunk,
+      Set<UUID> knownAuthorIds) {
+    Set<UUID> authorIds = resolveAuthorIds(chunk, knownAuthorIds);
+    // 다시 실행한 가져오기에서 이미 커밋된 메시지는 건너뛴다.
+    Set<UUID> existingIds = new HashSet<>(messageBulkInsertRepository.findExistingMessageIds(
+        chunk.stream()
+            .map(MessageImportRequest::id)
+            .filter(Objects::nonNull)
+            .toList()));
+
+    List<MessageRow> messageRows = new ArrayList<>(chunk.size());
+    List<AttachmentRow> attachmentRows = new ArrayList<>();
+    for (MessageImportRequest request : chunk) {
+      if (request.id() != null && !existingIds.add(request.id())) {
+        continue;
+      }
+      UUID messageId = request.id() != null ? request.id() : idGenerator.generate();
+      // 존재하지 않는 작성자는 탈퇴한 사용자와 같이 작성자 없음으로 가져온다.
+      UUID authorId = authorIds.contains(request.authorId()) ? request.authorId() : null;
+      messageRows.add(new MessageRow(messageId, request.createdAt(), request.content(), channelId,
+          authorId));
+
+      if (request.attachments() != null) {
+        request.attachments().forEach(attachment -> attachmentRows.add(new AttachmentRow(
+            attachment.id(), messageId, request.createdAt(), attachment.fileName(),
+            attachment.size(), attachment.contentType())));
+      }
+    }
+
+    if (messageRows.isEmpty()) {
+      return new ChunkResult(0, 0);
+    }
+    transactionTemplate.executeWithoutResult(status -> {
+      messageBulkInsertRepository.insertMessages(messageRows);
+      messageBulkInsertRepository.insertAttachments(attachmentRows);
+      List<UUID> messageIds = messageRows.stream().map(MessageRow::id).toList();
+      messageChangeRepository.appendAll(messageIds, MessageChangeType.CREATED, Instant.now());
+      readStatusRepository.incrementUnreadCounts(channelId, messageIds);
+    });
+    return new ChunkResult(messageRows.size(), attachmentRows.size());
+  }
+
+  private Set<UUID> resolveAuthorIds(List<MessageImportRequest> chunk, Set<UUID> knownAuthorIds) {
+    List<UUID> unknownAuthorIds = chunk.stream()
+        .map(MessageImportRequest::authorId)
+        .filter(Objects::nonNull)
+        .filter(authorId -> !knownAuthorIds.contains(authorId))
+        .distinct()
+        .toList();
+    knownAuthorIds.addAll(messageBulkInsertRepository.findExistingUserIds(unknownAuthorIds));
+    return knownAuthorIds;
+  }
+
+  private MessageImportRequest next(Iterator<MessageImportRequest> messages, long index) {
+    try {
+      return messages.next();
+    } catch (RuntimeException e) {
+      // 형식이 잘못된 줄
+      throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("index", index), e);
+    }
+  }
+
+  private MessageImportRequest validate(MessageImportRequest request, long index) {
+    if (request == null) {
+      throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("index", index));
+    }
+    boolean invalidAttachment = request.attachments() != null && request.attachments().stream()
+        .anyMatch(attachment -> attachment == null || attachment.id() == null
+            || attachment.fileName() == null || attachment.contentType() == null
+            || attachment.size() == null);
+    if (request.createdAt() == null || invalidAttachment) {
+      throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("index", index));
+    }
+    return request;
+  }
+
+  private record ChunkResult(int messages, int attachments) {
+
+  }
+}
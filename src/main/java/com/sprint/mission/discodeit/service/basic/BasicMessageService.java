@@ -1,17 +1,26 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.cache.MessageTailCache;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
-import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.event.BinaryContentStatusUpdatedEvent;
+import com.sprint.mission.discodeit.event.MessageDeletedEvent;
+import com.sprint.mission.discodeit.event.MessageUpdatedEvent;
 import com.sprint.mission.discodeit.event.NewMessageEvent;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
@@ -19,25 +28,38 @@ import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.MessageSearchHit;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.MessageService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.UploadSpool;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -47,71 +69,64 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @RequiredArgsConstructor
 public class BasicMessageService implements MessageService {
 
+    // 검색은 순위 계산 비용이 커서 Pageable 기반 목록 조회의 최대 크기보다 작게 제한한다.
+    static final int MAX_SEARCH_SIZE = 100;
+
     private final MessageRepository messageRepository;
+    private final MessageChangeRepository messageChangeRepository;
     private final ChannelRepository channelRepository;
+    private final ReadStatusRepository readStatusRepository;
     private final UserRepository userRepository;
     private final MessageMapper messageMapper;
+    private final MessageViewAssembler messageViewAssembler;
     private final BinaryContentStorage binaryContentStorage;
+    private final MessageTailCache messageTailCache;
+    private final UploadSpool uploadSpool;
     private final BinaryContentRepository binaryContentRepository;
     private final PageResponseMapper pageResponseMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCountUpdater unreadCountUpdater;
 
     @Transactional
     @Override
     public MessageDto create(MessageCreateRequest messageCreateRequest,
-                             List<BinaryContentCreateRequest> binaryContentCreateRequests) {
+                             List<BinaryContentUploadRequest> binaryContentUploadRequests) {
         log.debug("메시지 생성 시작: request={}", messageCreateRequest);
         UUID channelId = messageCreateRequest.channelId();
         UUID authorId = messageCreateRequest.authorId();
 
+        // 트랜잭션이 롤백되더라도 임시 저장된 업로드 파일이 해제되도록 가장 먼저 등록한다.
+        Map<UUID, BinaryContentUploadRequest> uploadRequestMap = new HashMap<>();
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        uploadRequestMap.forEach(BasicMessageService.this::uploadAttachment);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            binaryContentUploadRequests.forEach(uploadSpool::release);
+                        }
+                    }
+                });
+
         Channel channel = channelRepository.findById(channelId)
                 .orElseThrow(() -> ChannelNotFoundException.withId(channelId));
         User author = userRepository.findById(authorId)
                 .orElseThrow(() -> UserNotFoundException.withId(authorId));
 
-        Map<UUID, byte[]> bytesMap = new HashMap<>();
-        List<BinaryContent> attachments = binaryContentCreateRequests.stream()
-                .map(attachmentRequest -> {
-                    String fileName = attachmentRequest.fileName();
-                    String contentType = attachmentRequest.contentType();
-                    byte[] bytes = attachmentRequest.bytes();
-
-                    BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-                            contentType);
+        List<BinaryContent> attachments = binaryContentUploadRequests.stream()
+                .map(uploadRequest -> {
+                    BinaryContent binaryContent = new BinaryContent(uploadRequest.fileName(),
+                            uploadRequest.size(), uploadRequest.contentType());
                     binaryContentRepository.save(binaryContent);
-                    UUID binaryContentId = binaryContent.getId();
-                    bytesMap.put(binaryContentId, bytes);
+                    uploadRequestMap.put(binaryContent.getId(), uploadRequest);
                     return binaryContent;
                 })
                 .toList();
 
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        attachments.forEach(binaryContent -> {
-                            UUID binaryContentId = binaryContent.getId();
-                            binaryContentStorage.putAsync(binaryContentId, bytesMap.get(binaryContentId))
-                                    .thenAccept(result -> {
-                                        log.debug("메시지에 포함된 첨부파일 업로드 성공: {}", binaryContentId);
-                                        binaryContentRepository.updateUploadStatus(binaryContentId,
-                                                BinaryContentUploadStatus.SUCCESS);
-                                        eventPublisher.publishEvent(new BinaryContentStatusUpdatedEvent(binaryContentId,
-                                                BinaryContentUploadStatus.SUCCESS));
-                                    })
-                                    .exceptionally(ex -> {
-                                        log.error("메시지에 포함된 첨부파일 업로드 실패: {}", binaryContentId, ex);
-                                        binaryContentRepository.updateUploadStatus(binaryContentId,
-                                                BinaryContentUploadStatus.FAILED);
-                                        eventPublisher.publishEvent(new BinaryContentStatusUpdatedEvent(binaryContentId,
-                                                BinaryContentUploadStatus.FAILED));
-                                        return null;
-                                    })
-                            ;
-                        });
-                    }
-                });
-
         String content = messageCreateRequest.content();
         Message message = new Message(
                 content,
@@ -121,13 +136,86 @@ public class BasicMessageService implements MessageService {
         );
 
         messageRepository.save(message);
+        messageChangeRepository.append(channelId, message.getId(), MessageChangeType.CREATED,
+                Instant.now());
         log.info("메시지 생성 완료: id={}, channelId={}", message.getId(), channelId);
 
         MessageDto messageDto = messageMapper.toDto(message);
+        afterCommit(() -> {
+            messageTailCache.put(messageDto);
+            unreadCountUpdater.increment(channelId, List.of(messageDto.id()));
+        });
         eventPublisher.publishEvent(new NewMessageEvent(messageDto));
         return messageDto;
     }
 
+    @Transactional
+    @Override
+    public List<MessageDto> createAll(List<MessageCreateRequest> messageCreateRequests) {
+        log.debug("메시지 일괄 생성 시작: count={}", messageCreateRequests.size());
+        Map<UUID, Channel> channels = channelRepository.findAllById(messageCreateRequests.stream()
+                        .map(MessageCreateRequest::channelId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Channel::getId, Function.identity()));
+        Map<UUID, User> authors = userRepository.findAllById(messageCreateRequests.stream()
+                        .map(MessageCreateRequest::authorId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Message> messages = messageCreateRequests.stream()
+                .map(request -> {
+                    Channel channel = Optional.ofNullable(channels.get(request.channelId()))
+                            .orElseThrow(() -> ChannelNotFoundException.withId(request.channelId()));
+                    User author = Optional.ofNullable(authors.get(request.authorId()))
+                            .orElseThrow(() -> UserNotFoundException.withId(request.authorId()));
+                    return new Message(request.content(), channel, author, new ArrayList<>());
+                })
+                .toList();
+        messageRepository.saveAll(messages);
+        // 변경 이력은 저장된 메시지 행을 기준으로 한 번에 추가하므로 먼저 반영한다.
+        messageRepository.flush();
+        List<UUID> messageIds = messages.stream().map(Message::getId).toList();
+        messageChangeRepository.appendAll(messageIds, MessageChangeType.CREATED, Instant.now());
+        Map<UUID, List<UUID>> messageIdsByChannel = messages.stream()
+                .collect(Collectors.groupingBy(message -> message.getChannel().getId(),
+                        Collectors.mapping(Message::getId, Collectors.toList())));
+        afterCommit(() -> messageIdsByChannel.forEach(unreadCountUpdater::increment));
+        log.info("메시지 일괄 생성 완료: count={}", messages.size());
+
+        List<MessageDto> messageDtos = messages.stream()
+                .map(messageMapper::toDto)
+                .toList();
+        messageDtos.forEach(messageDto -> {
+            afterCommit(() -> messageTailCache.put(messageDto));
+            eventPublisher.publishEvent(new NewMessageEvent(messageDto));
+        });
+        return messageDtos;
+    }
+
+    private void uploadAttachment(UUID binaryContentId, BinaryContentUploadRequest uploadRequest) {
+        CompletableFuture<UUID> future;
+        try {
+            future = binaryContentStorage.putAsync(binaryContentId, uploadRequest.spoolFile());
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, ex) -> uploadSpool.release(uploadRequest))
+                .thenAccept(result -> {
+                    log.debug("메시지에 포함된 첨부파일 업로드 성공: {}", binaryContentId);
+                    updateUploadStatus(binaryContentId, BinaryContentUploadStatus.SUCCESS);
+                })
+                .exceptionally(ex -> {
+                    log.error("메시지에 포함된 첨부파일 업로드 실패: {}", binaryContentId, ex);
+                    updateUploadStatus(binaryContentId, BinaryContentUploadStatus.FAILED);
+                    return null;
+                });
+    }
+
+    private void updateUploadStatus(UUID binaryContentId, BinaryContentUploadStatus status) {
+        binaryContentRepository.updateUploadStatus(binaryContentId, status);
+        eventPublisher.publishEvent(new BinaryContentStatusUpdatedEvent(binaryContentId, status));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public MessageDto find(UUID messageId) {
@@ -136,24 +224,115 @@ public class BasicMessageService implements MessageService {
                 .orElseThrow(() -> MessageNotFoundException.withId(messageId));
     }
 
-    @Transactional(readOnly = true)
+    // 첫 페이지가 캐시에서 처리되면 커넥션을 얻지 않도록 트랜잭션을 시작하지 않는다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     @Override
-    public PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createAt,
-                                                       Pageable pageable) {
-        Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-                        Optional.ofNullable(createAt).orElse(Instant.now()),
-                        pageable)
-                .map(messageMapper::toDto);
-
-        Instant nextCursor = null;
+    public PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
+                                                       PageDirection direction, Pageable pageable) {
+        Pageable limit = PageRequest.of(0, pageable.getPageSize());
+        Slice<MessageDto> slice;
+        if (cursor == null && direction == PageDirection.OLDER) {
+            slice = findLatest(channelId, limit);
+        } else {
+            slice = Optional.ofNullable(cursor)
+                    .map(this::decodeCursor)
+                    .map(decoded -> direction == PageDirection.NEWER
+                            ? messageRepository.findViewsByChannelIdAfter(channelId,
+                            decoded.createdAt(), decoded.idOrDefault(MessageCursor.MAX_ID), limit)
+                            : messageRepository.findViewsByChannelIdBefore(channelId,
+                            decoded.createdAt(), decoded.idOrDefault(MessageCursor.MIN_ID), limit))
+                    .map(messageViewAssembler::toDtos)
+                    .orElseGet(() -> messageViewAssembler.toDtos(
+                            messageRepository.findOldestViewsByChannelId(channelId, limit)));
+        }
+
+        // NEWER 방향에서 새 메시지가 없으면 기존 커서를 유지해 다음 요청에서 이어서 조회할 수 있게 한다.
+        String nextCursor = direction == PageDirection.NEWER ? cursor : null;
         if (!slice.getContent().isEmpty()) {
-            nextCursor = slice.getContent().get(slice.getContent().size() - 1)
-                    .createdAt();
+            nextCursor = MessageCursor.from(slice.getContent().get(slice.getContent().size() - 1))
+                    .encode();
         }
 
         return pageResponseMapper.fromSlice(slice, nextCursor);
     }
 
+    private Slice<MessageDto> findLatest(UUID channelId, Pageable limit) {
+        int size = limit.getPageSize();
+        return messageTailCache.findLatest(channelId, size)
+                .orElseGet(() -> {
+                    long version = messageTailCache.version(channelId);
+                    int fillSize = Math.max(size, messageTailCache.getFillSize());
+                    Slice<MessageDto> latest = messageViewAssembler.toDtos(
+                            messageRepository.findLatestViewsByChannelId(channelId,
+                                    PageRequest.of(0, fillSize)));
+                    messageTailCache.populate(channelId, version, latest);
+                    if (fillSize == size) {
+                        return latest;
+                    }
+                    List<MessageDto> content = latest.getContent();
+                    return new SliceImpl<>(content.subList(0, Math.min(size, content.size())),
+                            limit, content.size() > size || latest.hasNext());
+                });
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<MessageDto> search(UUID viewerId, String query, UUID channelId,
+                                           UUID authorId, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("query", "blank"));
+        }
+        if (size < 1) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("size", size));
+        }
+        size = Math.min(size, MAX_SEARCH_SIZE);
+        MessageSearchCursor decoded = Optional.ofNullable(cursor)
+                .map(this::decodeSearchCursor)
+                .orElse(MessageSearchCursor.FIRST);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+        List<MessageSearchHit> hits = messageRepository.search(viewerId, query, channelId, authorId,
+                decoded.rank(), decoded.createdAt(), decoded.id(), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<MessageSearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        Map<UUID, MessageDto> messages = messageViewAssembler.findAllByIdIn(pageHits.stream()
+                        .map(MessageSearchHit::getId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(MessageDto::id, Function.identity()));
+        // 검색 이후 삭제된 메시지나 채널의 결과는 빠진다. 커서는 검색 결과 기준이라 다음 페이지는 그대로 이어진다.
+        List<MessageDto> content = pageHits.stream()
+                .map(hit -> messages.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (!pageHits.isEmpty()) {
+            MessageSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new MessageSearchCursor(last.getRank(), last.getCreatedAt(), last.getId())
+                    .encode();
+        }
+
+        return pageResponseMapper.fromSlice(
+                new SliceImpl<>(content, PageRequest.of(0, size), hasNext), nextCursor);
+    }
+
+    private MessageSearchCursor decodeSearchCursor(String cursor) {
+        try {
+            return MessageSearchCursor.decode(cursor);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
+    }
+
+    private MessageCursor decodeCursor(String cursor) {
+        try {
+            return MessageCursor.decode(cursor);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
+    }
+
     @PreAuthorize("principal.userDto.id == @basicMessageService.find(#messageId).author.id")
     @Transactional
     @Override
@@ -163,8 +342,13 @@ public class BasicMessageService implements MessageService {
                 .orElseThrow(() -> MessageNotFoundException.withId(messageId));
 
         message.update(request.newContent());
+        messageChangeRepository.append(message.getChannel().getId(), messageId,
+                MessageChangeType.UPDATED, Instant.now());
         log.info("메시지 수정 완료: id={}, channelId={}", messageId, message.getChannel().getId());
-        return messageMapper.toDto(message);
+        MessageDto messageDto = messageMapper.toDto(message);
+        afterCommit(() -> messageTailCache.replace(messageDto));
+        eventPublisher.publishEvent(new MessageUpdatedEvent(messageDto));
+        return messageDto;
     }
 
     @PreAuthorize("hasRole('ADMIN') or principal.userDto.id == @basicMessageService.find(#messageId).author.id")
@@ -175,7 +359,30 @@ public class BasicMessageService implements MessageService {
         if (!messageRepository.existsById(messageId)) {
             throw MessageNotFoundException.withId(messageId);
         }
+        messageChangeRepository.appendAll(List.of(messageId), MessageChangeType.DELETED,
+                Instant.now());
+        // 아직 반영되지 않은 증가는 취소만 하면 된다. 반영 중이면 끝날 때까지 기다린 뒤 줄인다.
+        // 삭제가 롤백되면 취소한 증가는 유실되고 읽을 때 다시 계산된다.
+        if (!unreadCountUpdater.cancel(messageId)) {
+            readStatusRepository.decrementUnreadCounts(messageId);
+        }
         messageRepository.deleteById(messageId);
+        afterCommit(() -> messageTailCache.remove(messageId));
+        eventPublisher.publishEvent(new MessageDeletedEvent(messageId));
         log.info("메시지 삭제 완료: id={}", messageId);
     }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
 }
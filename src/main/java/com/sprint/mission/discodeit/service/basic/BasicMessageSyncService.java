@@ -0,0 +1,145 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.MessageChangeCursor;
+import com.sprint.mission.discodeit.dto.data.MessageChangeDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.response.MessageChangesResponse;
+import com.sprint.mission.discodeit.entity.MessageChange;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
+import com.sprint.mission.discodeit.service.MessageSyncService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메시지 변경 이력({@link MessageChange}) 기반 증분 동기화
+ * <p>
+ * {@code seq}는 INSERT 시점에 발급되므로 커밋 순서와 다를 수 있다. 그래서 이력을 기록한 트랜잭션 id(xid) 순으로 읽고, 아직 끝나지
+ * 않은 트랜잭션이 있을 수 있는 xid(스냅샷의 xmin) 이후는 반환하지 않는다. 트랜잭션이 아무리 오래 걸려도 끝나기 전까지 커서가
+ * 그 트랜잭션을 앞지르지 않으므로 이력을 건너뛰지 않는다.
+ * <p>
+ * xid 순서는 같은 메시지의 변경 순서와 다를 수 있지만, 생성/수정은 조회 시점의 메시지 상태로 채우고 이미 삭제된 메시지는 삭제로
+ * 전달하므로 클라이언트가 최종적으로 보는 상태는 같다.
+ */
+@Slf4j
+@Service
+public class BasicMessageSyncService implements MessageSyncService {
+
+  // 이보다 오래 열려 있는 트랜잭션은 없다고 보고, 보관 기간 만료 판단에 여유를 둔다.
+  private static final Duration MAX_TRANSACTION_TIME = Duration.ofHours(1);
+
+  private final MessageChangeRepository messageChangeRepository;
+  private final MessageViewAssembler messageViewAssembler;
+  private final Duration retention;
+
+  public BasicMessageSyncService(
+      MessageChangeRepository messageChangeRepository,
+      MessageViewAssembler messageViewAssembler,
+      @Value("${discodeit.message.sync.retention:30d}") Duration retention
+  ) {
+    this.messageChangeRepository = messageChangeRepository;
+    this.messageViewAssembler = messageViewAssembler;
+    this.retention = retention;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public MessageChangesResponse findChanges(UUID channelId, String cursor, int size) {
+    if (size < 1) {
+      throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("size", size));
+    }
+    MessageChangeCursor decoded = cursor == null ? null : decodeCursor(cursor);
+    Instant now = Instant.now();
+    long horizon = messageChangeRepository.findVisibleXidHorizon();
+    if (decoded == null) {
+      return new MessageChangesResponse(List.of(),
+          new MessageChangeCursor(horizon, 0, now).encode(), false, false);
+    }
+
+    // 커서 발급 이후의 이력은 발급 시각보다 (트랜잭션 길이만큼) 늦게 기록되므로, 발급 시각으로 삭제 여부를 판단한다.
+    boolean resyncRequired = decoded.issuedAt()
+        .isBefore(now.minus(retention).plus(MAX_TRANSACTION_TIME));
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+    List<MessageChange> fetched = messageChangeRepository.findAllByChannelIdAfter(channelId,
+        decoded.xid(), decoded.seq(), horizon, PageRequest.of(0, size + 1));
+    boolean hasNext = fetched.size() > size;
+    List<MessageChange> changes = hasNext ? fetched.subList(0, size) : fetched;
+
+    // 끝까지 읽었으면 horizon 이전 트랜잭션은 모두 반환했으므로 커서를 horizon으로 옮긴다.
+    MessageChangeCursor nextCursor;
+    if (hasNext) {
+      MessageChange last = changes.get(changes.size() - 1);
+      nextCursor = new MessageChangeCursor(last.getXid(), last.getSeq(), decoded.issuedAt());
+    } else if (horizon > decoded.xid()) {
+      nextCursor = new MessageChangeCursor(horizon, 0, now);
+    } else {
+      nextCursor = decoded;
+    }
+    return new MessageChangesResponse(collapse(changes), nextCursor.encode(), hasNext,
+        resyncRequired);
+  }
+
+  /**
+   * 같은 메시지의 이력은 마지막 것만 남기고, 생성/수정은 현재 메시지 상태로 채운다. 이후 삭제되어 조회되지 않는 메시지는 삭제로
+   * 전달한다.
+   */
+  private List<MessageChangeDto> collapse(List<MessageChange> changes) {
+    Map<UUID, MessageChange> latestChanges = new LinkedHashMap<>();
+    changes.forEach(change -> {
+      latestChanges.remove(change.getMessageId());
+      latestChanges.put(change.getMessageId(), change);
+    });
+
+    Map<UUID, MessageDto> messages = messageViewAssembler.findAllByIdIn(
+            latestChanges.values().stream()
+                .filter(change -> change.getType() != MessageChangeType.DELETED)
+                .map(MessageChange::getMessageId)
+                .toList()).stream()
+        .collect(Collectors.toMap(MessageDto::id, Function.identity()));
+
+    return latestChanges.values().stream()
+        .map(change -> {
+          MessageDto message = messages.get(change.getMessageId());
+          return message == null
+              ? new MessageChangeDto(change.getSeq(), MessageChangeType.DELETED,
+                  change.getMessageId(), null)
+              : new MessageChangeDto(change.getSeq(), change.getType(), change.getMessageId(),
+                  message);
+        })
+        .toList();
+  }
+
+  private MessageChangeCursor decodeCursor(String cursor) {
+    try {
+      return MessageChangeCursor.decode(cursor);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.message.sync.cleanup-interval-ms:3600000}")
+  @Transactional
+  public void deleteExpiredChanges() {
+    int deleted = messageChangeRepository.deleteAllByCreatedAtBefore(
+        Instant.now().minus(retention));
+    if (deleted > 0) {
+      log.info("보관 기간이 지난 메시지 변경 이력 삭제: count={}", deleted);
+    }
+  }
+}
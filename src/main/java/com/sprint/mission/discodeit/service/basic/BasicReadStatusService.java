@@ -4,14 +4,17 @@ import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
 import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
 import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.readstatus.DuplicateReadStatusException;
 import com.sprint.mission.discodeit.exception.readstatus.ReadStatusNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.ReadStatusMapper;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ReadStatusService;
@@ -19,6 +22,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -33,10 +38,13 @@ public class BasicReadStatusService implements ReadStatusService {
   private final ReadStatusRepository readStatusRepository;
   private final UserRepository userRepository;
   private final ChannelRepository channelRepository;
+  private final MessageRepository messageRepository;
   private final ReadStatusMapper readStatusMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @PreAuthorize("principal.userDto.id == #request.userId()")
   @Transactional
+  @CacheEvict(value = ChannelListLoader.PRIVATE_CHANNELS_BY_USER, key = "#request.userId()")
   @Override
   public ReadStatusDto create(ReadStatusCreateRequest request) {
     log.debug("읽음 상태 생성 시작: userId={}, channelId={}", request.userId(), request.channelId());
@@ -55,7 +63,15 @@ public class BasicReadStatusService implements ReadStatusService {
 
     Instant lastReadAt = request.lastReadAt();
     ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
+    Instant countedAt = Instant.now();
+    readStatus.updateUnreadCount(
+        messageRepository.countUnread(channelId, userId, lastReadAt, countedAt), countedAt);
     readStatusRepository.save(readStatus);
+    if (channel.getType().equals(ChannelType.PRIVATE)) {
+      channel.markParticipantsChanged();
+    }
+    eventPublisher.publishEvent(new ChannelMembershipChangedEvent(channelId, userId,
+        readStatus.isNotificationEnabled()));
 
     log.info("읽음 상태 생성 완료: id={}, userId={}, channelId={}",
         readStatus.getId(), userId, channelId);
@@ -89,9 +105,23 @@ public class BasicReadStatusService implements ReadStatusService {
     log.debug("읽음 상태 수정 시작: id={}, newLastReadAt={}, notificationEnabled={}",
         readStatusId, request.newLastReadAt(), request.newNotificationEnabled());
 
-    ReadStatus readStatus = readStatusRepository.findById(readStatusId)
+    ReadStatus readStatus = readStatusRepository.findByIdForUpdate(readStatusId)
         .orElseThrow(() -> ReadStatusNotFoundException.withId(readStatusId));
+    Instant lastReadAt = readStatus.getLastReadAt();
+    boolean notificationEnabled = readStatus.isNotificationEnabled();
     readStatus.update(request.newLastReadAt(), request.newNotificationEnabled());
+    if (!readStatus.getLastReadAt().equals(lastReadAt)) {
+      // countedAt까지 작성된 메시지만 세고, 그 이후 메시지는 UnreadCountUpdater가 늘린다. 아직 반영되지 않은 증가가
+      // 다시 계산에 포함된 메시지를 또 세지 않도록 기준 시각을 함께 저장한다.
+      Instant countedAt = Instant.now();
+      readStatus.updateUnreadCount(messageRepository.countUnread(readStatus.getChannel().getId(),
+          readStatus.getUser().getId(), readStatus.getLastReadAt(), countedAt), countedAt);
+    }
+    if (readStatus.isNotificationEnabled() != notificationEnabled) {
+      eventPublisher.publishEvent(new ChannelMembershipChangedEvent(
+          readStatus.getChannel().getId(), readStatus.getUser().getId(),
+          readStatus.isNotificationEnabled()));
+    }
 
     log.info("읽음 상태 수정 완료: id={}, notificationEnabled={}",
         readStatusId, readStatus.isNotificationEnabled());
@@ -102,10 +132,14 @@ public class BasicReadStatusService implements ReadStatusService {
   @Override
   public void delete(UUID readStatusId) {
     log.debug("읽음 상태 삭제 시작: id={}", readStatusId);
-    if (!readStatusRepository.existsById(readStatusId)) {
-      throw ReadStatusNotFoundException.withId(readStatusId);
+    ReadStatus readStatus = readStatusRepository.findById(readStatusId)
+        .orElseThrow(() -> ReadStatusNotFoundException.withId(readStatusId));
+    readStatusRepository.delete(readStatus);
+    if (readStatus.getChannel().getType().equals(ChannelType.PRIVATE)) {
+      readStatus.getChannel().markParticipantsChanged();
     }
-    readStatusRepository.deleteById(readStatusId);
+    eventPublisher.publishEvent(new ChannelMembershipChangedEvent(
+        readStatus.getChannel().getId(), readStatus.getUser().getId(), false));
     log.info("읽음 상태 삭제 완료: id={}", readStatusId);
   }
 }
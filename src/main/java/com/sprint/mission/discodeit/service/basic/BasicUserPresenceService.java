@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.event.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.presence.PresenceStore;
+import com.sprint.mission.discodeit.service.UserPresenceService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * SSE/WebSocket 연결 기준 접속 상태
+ * <p>
+ * 이 노드에 연결이 하나 이상 있는 사용자는 {@code heartbeat-interval-ms}마다 만료 시각을 {@code ttl}만큼 연장해
+ * {@link PresenceStore}에 기록한다. 연결이 모두 끊긴 사용자는 다음 하트비트에서 항목을 지우고, 노드가 비정상 종료되면 TTL이
+ * 지나 사라진다. 같은 주기로 저장소 전체를 읽어 접속 중인 사용자 집합을 메모리에 두므로 조회는 DB와 저장소를 거치지 않는다.
+ * <p>
+ * 연결/해제는 요청 스레드에서 메모리만 갱신하고, 저장소 반영과 변경 알림은 하트비트에서 한 번에 처리한다. 주기 동안 바뀐
+ * 사용자를 모아 {@link UserPresenceChangedEvent} 하나로 발행한다.
+ */
+@Slf4j
+@Service
+public class BasicUserPresenceService implements UserPresenceService {
+
+  public static final String METRIC_PREFIX = "discodeit.presence";
+
+  private final PresenceStore presenceStore;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Duration ttl;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 이 노드의 사용자별 연결 수
+  private final Map<UUID, Integer> localConnections = new ConcurrentHashMap<>();
+  // 이 노드의 연결이 모두 끊겨 다음 하트비트에서 저장소 항목을 지울 사용자
+  private final Set<UUID> pendingRemovals = ConcurrentHashMap.newKeySet();
+  // 클러스터 전체에서 접속 중인 사용자. onlineLock으로 보호한다.
+  private final Object onlineLock = new Object();
+  private Set<UUID> onlineUserIds = Set.of();
+  // 마지막으로 클라이언트에게 알린 접속 중인 사용자. 하트비트 스레드에서만 사용한다.
+  private Set<UUID> publishedUserIds = Set.of();
+
+  public BasicUserPresenceService(
+      PresenceStore presenceStore,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${discodeit.presence.ttl:PT45S}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this.presenceStore = presenceStore;
+    this.eventPublisher = eventPublisher;
+    this.ttl = ttl;
+
+    Gauge.builder(METRIC_PREFIX + ".online", this, service -> service.onlineUserIds.size())
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".local-users", localConnections, Map::size)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void connected(UUID userId) {
+    localConnections.merge(userId, 1, Integer::sum);
+    markOnline(userId);
+  }
+
+  @Override
+  public void disconnected(UUID userId) {
+    Integer remaining = localConnections.computeIfPresent(userId,
+        (id, count) -> count == 1 ? null : count - 1);
+    if (remaining == null) {
+      // 다른 노드에 연결이 남아 있을 수 있으므로 오프라인 전환은 다음 동기화에서 판단한다.
+      pendingRemovals.add(userId);
+    }
+  }
+
+  @Override
+  public Set<UUID> findOnlineUserIds() {
+    synchronized (onlineLock) {
+      return Set.copyOf(onlineUserIds);
+    }
+  }
+
+  /**
+   * 이 노드의 연결을 연장하고 저장소와 접속 중인 사용자 집합을 맞춘다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.presence.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    Instant now = Instant.now();
+    try {
+      for (UUID userId : pendingRemovals) {
+        // 하트비트 전에 다시 연결했다면 항목을 유지한다.
+        if (!localConnections.containsKey(userId)) {
+          presenceStore.remove(nodeId, userId);
+        }
+        pendingRemovals.remove(userId);
+      }
+      presenceStore.touch(nodeId, Set.copyOf(localConnections.keySet()), now.plus(ttl));
+      Set<UUID> current = new HashSet<>(presenceStore.findOnlineUserIds(now));
+      // 저장소 기록과 조회 사이에 연결된 사용자도 포함한다.
+      current.addAll(localConnections.keySet());
+      synchronize(current);
+    } catch (RuntimeException e) {
+      log.error("접속 상태 동기화 실패", e);
+    }
+  }
+
+  // 조회 결과에는 바로 반영하고, 알림은 다음 하트비트에서 보낸다.
+  private void markOnline(UUID userId) {
+    synchronized (onlineLock) {
+      if (onlineUserIds.contains(userId)) {
+        return;
+      }
+      Set<UUID> updated = new HashSet<>(onlineUserIds);
+      updated.add(userId);
+      onlineUserIds = updated;
+    }
+  }
+
+  private void synchronize(Set<UUID> current) {
+    synchronized (onlineLock) {
+      onlineUserIds = current;
+    }
+
+    Set<UUID> previous = publishedUserIds;
+    publishedUserIds = current;
+    Set<UUID> online = current.stream()
+        .filter(userId -> !previous.contains(userId))
+        .collect(Collectors.toUnmodifiableSet());
+    Set<UUID> offline = previous.stream()
+        .filter(userId -> !current.contains(userId))
+        .collect(Collectors.toUnmodifiableSet());
+    if (!online.isEmpty() || !offline.isEmpty()) {
+      eventPublisher.publishEvent(new UserPresenceChangedEvent(online, offline));
+    }
+    log.debug("접속 상태 동기화 완료: online={}, local={}", current.size(), localConnections.size());
+  }
+}
@@ -1,32 +1,41 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.data.UserCursor;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
 import com.sprint.mission.discodeit.event.UserMutationEvent;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import com.sprint.mission.discodeit.security.jwt.JwtService;
-import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import com.sprint.mission.discodeit.service.UserPresenceService;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -34,23 +43,31 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class BasicUserService implements UserService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final ChannelRepository channelRepository;
     private final UserMapper userMapper;
     private final BinaryContentRepository binaryContentRepository;
     private final BinaryContentStorage binaryContentStorage;
     private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
+    private final UserDirectoryLoader userDirectoryLoader;
+    private final UserPresenceService userPresenceService;
+    private final PageResponseMapper pageResponseMapper;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = "users", key = "'all'")
+    @Caching(evict = {
+            @CacheEvict(value = UserDirectoryLoader.USERS, key = "'all'"),
+            @CacheEvict(value = UserDirectoryLoader.USER_DIRECTORY, allEntries = true)
+    })
     @Override
     public UserDto create(UserCreateRequest userCreateRequest,
                           Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
@@ -122,25 +139,53 @@ public class BasicUserService implements UserService {
         return userDto;
     }
 
-    @Cacheable(value = "users", key = "'all'", unless = "#result.isEmpty()")
+    /**
+     * 캐시된 프로필 목록에 현재 접속 여부를 합친다. 로그인/로그아웃은 프로필 캐시를 무효화하지 않는다.
+     */
     @Override
     public List<UserDto> findAll() {
         log.debug("모든 사용자 조회 시작");
-        Set<UUID> onlineUserIds = jwtService.getActiveJwtSessions().stream()
-                .map(JwtSession::getUserId)
-                .collect(Collectors.toSet());
+        Set<UUID> onlineUserIds = userPresenceService.findOnlineUserIds();
 
-        List<UserDto> userDtos = userRepository.findAllWithProfile()
+        List<UserDto> userDtos = userDirectoryLoader.findAllProfiles()
                 .stream()
-                .map(user -> userMapper.toDto(user, onlineUserIds.contains(user.getId())))
+                .map(userDto -> withOnline(userDto, onlineUserIds.contains(userDto.id())))
                 .toList();
         log.info("모든 사용자 조회 완료: 총 {}명", userDtos.size());
         return userDtos;
     }
 
+    /**
+     * 사용자 이름 오름차순 키셋 페이지. 접속 여부는 포함하지 않으며 클라이언트가 접속 상태 조회 결과와 합친다.
+     */
+    @Override
+    public PageResponse<UserDto> findAll(String cursor, int size) {
+        if (size < 1) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("size", size));
+        }
+        size = Math.min(size, MAX_PAGE_SIZE);
+        UserCursor decoded = Optional.ofNullable(cursor)
+                .map(this::decodeCursor)
+                .orElse(UserCursor.FIRST);
+
+        // 요청 크기마다 캐시 항목이 생기지 않도록 항상 최대 크기 + 1건(다음 페이지 확인용)을 캐시에서 읽고 잘라낸다.
+        List<UserDto> users = userDirectoryLoader.findProfilesAfter(decoded.username(),
+                MAX_PAGE_SIZE + 1);
+        boolean hasNext = users.size() > size;
+        List<UserDto> content = hasNext ? users.subList(0, size) : users;
+
+        String nextCursor = content.isEmpty() ? null
+                : new UserCursor(content.get(content.size() - 1).username()).encode();
+        return pageResponseMapper.fromSlice(
+                new SliceImpl<>(content, PageRequest.of(0, size), hasNext), nextCursor);
+    }
+
     @PreAuthorize("hasRole('ADMIN') or principal.userDto.id == #userId")
     @Transactional
-    @CacheEvict(value = "users", key = "'all'")
+    @Caching(evict = {
+            @CacheEvict(value = UserDirectoryLoader.USERS, key = "'all'"),
+            @CacheEvict(value = UserDirectoryLoader.USER_DIRECTORY, allEntries = true)
+    })
     @Override
     public UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
                           Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
@@ -210,7 +255,10 @@ public class BasicUserService implements UserService {
 
     @PreAuthorize("hasRole('ADMIN') or principal.userDto.id == #userId")
     @Transactional
-    @CacheEvict(value = "users", key = "'all'")
+    @Caching(evict = {
+            @CacheEvict(value = UserDirectoryLoader.USERS, key = "'all'"),
+            @CacheEvict(value = UserDirectoryLoader.USER_DIRECTORY, allEntries = true)
+    })
     @Override
     public void delete(UUID userId) {
         log.debug("사용자 삭제 시작: id={}", userId);
@@ -219,9 +267,25 @@ public class BasicUserService implements UserService {
             throw UserNotFoundException.withId(userId);
         }
 
+        // 읽음 상태는 외래 키로 함께 삭제되므로 그 전에 참여 중인 비공개 채널의 버전을 올린다.
+        channelRepository.markParticipantsChangedByUserId(userId, Instant.now());
         userRepository.deleteById(userId);
         log.info("사용자 삭제 완료: id={}", userId);
 
         eventPublisher.publishEvent(new UserMutationEvent(userId));
+        eventPublisher.publishEvent(ChannelMembershipChangedEvent.userRemoved(userId));
+    }
+
+    private UserCursor decodeCursor(String cursor) {
+        try {
+            return UserCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new DiscodeitException(ErrorCode.INVALID_REQUEST, Map.of("cursor", cursor), e);
+        }
+    }
+
+    private static UserDto withOnline(UserDto userDto, boolean online) {
+        return new UserDto(userDto.id(), userDto.username(), userDto.email(), userDto.profile(),
+                online, userDto.role());
     }
 }
@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 채널 목록을 구성하는 두 부분을 각각 캐시한다.
+ * <p>
+ * 공개 채널 목록은 모든 사용자가 공유하는 하나의 항목({@code publicChannels::all})이고, 비공개 채널은 참여자별 항목
+ * ({@code privateChannelsByUser::userId})이다. 공개 채널이 바뀌어도 공유 항목 하나만 무효화되며, {@code sync = true}로
+ * 노드마다 한 요청만 DB를 조회하고 나머지는 그 결과를 기다린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChannelListLoader {
+
+  public static final String PUBLIC_CHANNELS = "publicChannels";
+  public static final String PRIVATE_CHANNELS_BY_USER = "privateChannelsByUser";
+
+  private final ChannelRepository channelRepository;
+  private final ChannelMapper channelMapper;
+
+  @Transactional(readOnly = true)
+  @Cacheable(value = PUBLIC_CHANNELS, key = "'all'", sync = true)
+  public List<ChannelDto> findPublicChannels() {
+    return channelMapper.toDtos(channelRepository.findAllByType(ChannelType.PUBLIC));
+  }
+
+  @Transactional(readOnly = true)
+  @Cacheable(value = PRIVATE_CHANNELS_BY_USER, key = "#userId", sync = true)
+  public List<ChannelDto> findPrivateChannels(UUID userId) {
+    return channelMapper.toDtos(
+        channelRepository.findAllByTypeAndParticipantId(ChannelType.PRIVATE, userId));
+  }
+}
@@ -0,0 +1,164 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.entity.ChannelPurge;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelPurgeRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제된 채널의 메시지, 첨부파일, 연결 테이블, 스토리지 파일을 {@code chunk-size}건 단위로 정리한다.
+ * <p>
+ * 청크마다 별도 트랜잭션으로 커밋하고 진행 상황을 {@link ChannelPurge}에 기록한다. 중단되더라도 남은 메시지부터 다시 조회하므로
+ * 주기적인 재개 작업에서 이어서 처리된다. 재개 작업은 모든 노드에서 실행되므로 작업을 먼저 선점한 노드만 처리하고, 청크를 커밋할
+ * 때마다 선점 기한을 연장한다.
+ * <p>
+ * 스토리지 파일은 청크가 커밋된 뒤 트랜잭션 밖에서 삭제해 느린 스토리지 호출 동안 DB 잠금을 잡고 있지 않게 한다. 커밋 후 삭제
+ * 전에 중단되면 파일이 남을 수 있으며, 삭제에 실패한 파일은 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class ChannelPurger {
+
+  private final ChannelPurgeRepository channelPurgeRepository;
+  private final ChannelRepository channelRepository;
+  private final MessageRepository messageRepository;
+  private final MessageChangeRepository messageChangeRepository;
+  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentStorage binaryContentStorage;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Duration claimTimeout;
+
+  private final Set<UUID> inProgress = ConcurrentHashMap.newKeySet();
+
+  public ChannelPurger(
+      ChannelPurgeRepository channelPurgeRepository,
+      ChannelRepository channelRepository,
+      MessageRepository messageRepository,
+      MessageChangeRepository messageChangeRepository,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentStorage binaryContentStorage,
+      TransactionTemplate transactionTemplate,
+      @Value("${discodeit.channel.purge.chunk-size:1000}") int chunkSize,
+      @Value("${discodeit.channel.purge.claim-timeout:PT5M}") Duration claimTimeout
+  ) {
+    this.channelPurgeRepository = channelPurgeRepository;
+    this.channelRepository = channelRepository;
+    this.messageRepository = messageRepository;
+    this.messageChangeRepository = messageChangeRepository;
+    this.binaryContentRepository = binaryContentRepository;
+    this.binaryContentStorage = binaryContentStorage;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.claimTimeout = claimTimeout;
+  }
+
+  public void purge(UUID channelId) {
+    if (!inProgress.add(channelId)) {
+      return;
+    }
+
+    try {
+      UUID claimId = UUID.randomUUID();
+      if (!claim(channelId, claimId)) {
+        log.debug("다른 작업이 정리 중인 채널: channelId={}", channelId);
+        return;
+      }
+
+      log.debug("채널 정리 시작: channelId={}", channelId);
+      long purgedMessages = 0;
+      PurgedChunk chunk;
+      while ((chunk = purgeChunk(channelId, claimId)).messages() > 0) {
+        deleteFiles(channelId, chunk.attachmentIds());
+        purgedMessages += chunk.messages();
+        log.debug("채널 정리 진행: channelId={}, purgedMessages={}", channelId, purgedMessages);
+      }
+
+      transactionTemplate.executeWithoutResult(status -> {
+        if (channelPurgeRepository.markCompleted(channelId, claimId, Instant.now()) == 0) {
+          throw new IllegalStateException("채널 정리 선점을 잃음: channelId=" + channelId);
+        }
+        channelRepository.hardDeleteById(channelId);
+        messageChangeRepository.deleteAllByChannelId(channelId);
+      });
+      log.info("채널 정리 완료: channelId={}, purgedMessages={}", channelId, purgedMessages);
+    } catch (RuntimeException e) {
+      log.error("채널 정리 실패, 다음 주기에 재개: channelId={}", channelId, e);
+    } finally {
+      inProgress.remove(channelId);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.channel.purge.resume-interval-ms:60000}")
+  public void resume() {
+    channelPurgeRepository.findAllByCompletedAtIsNull().stream()
+        .map(ChannelPurge::getChannelId)
+        .forEach(this::purge);
+  }
+
+  private boolean claim(UUID channelId, UUID claimId) {
+    Integer claimed = transactionTemplate.execute(status -> {
+      Instant now = Instant.now();
+      return channelPurgeRepository.claim(channelId, claimId, now.plus(claimTimeout), now);
+    });
+    return claimed != null && claimed > 0;
+  }
+
+  private PurgedChunk purgeChunk(UUID channelId, UUID claimId) {
+    PurgedChunk purged = transactionTemplate.execute(status -> {
+      List<UUID> messageIds = messageRepository.findIdsByChannelId(channelId,
+          PageRequest.of(0, chunkSize));
+      if (messageIds.isEmpty()) {
+        return PurgedChunk.EMPTY;
+      }
+
+      List<UUID> attachmentIds = messageRepository.findAttachmentIdsByMessageIdIn(messageIds);
+      messageRepository.deleteAttachmentLinksByMessageIdIn(messageIds);
+      if (!attachmentIds.isEmpty()) {
+        binaryContentRepository.deleteAllByIdIn(attachmentIds);
+      }
+      messageRepository.deleteAllByIdIn(messageIds);
+
+      Instant now = Instant.now();
+      int updated = channelPurgeRepository.addProgress(channelId, claimId, messageIds.size(),
+          attachmentIds.size(), now.plus(claimTimeout), now);
+      if (updated == 0) {
+        // 선점 기한이 지나 다른 노드가 이어받았으면 이 청크를 롤백하고 멈춘다.
+        throw new IllegalStateException("채널 정리 선점을 잃음: channelId=" + channelId);
+      }
+      return new PurgedChunk(messageIds.size(), attachmentIds);
+    });
+    return purged == null ? PurgedChunk.EMPTY : purged;
+  }
+
+  private void deleteFiles(UUID channelId, List<UUID> attachmentIds) {
+    for (UUID attachmentId : attachmentIds) {
+      try {
+        binaryContentStorage.delete(attachmentId);
+      } catch (RuntimeException e) {
+        log.warn("첨부파일 스토리지 삭제 실패, 파일이 남음: channelId={}, binaryContentId={}",
+            channelId, attachmentId, e);
+      }
+    }
+  }
+
+  private record PurgedChunk(int messages, List<UUID> attachmentIds) {
+
+    static final PurgedChunk EMPTY = new PurgedChunk(0, List.of());
+  }
+}
@@ -0,0 +1,201 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 메시지 전송을 모아서 하나의 트랜잭션으로 저장한다(group commit).
+ * <p>
+ * {@code discodeit.message.group-commit.enabled}가 꺼져 있으면 요청마다 {@link MessageService#create}를 호출한다.
+ * 켜져 있으면 {@code max-wait} 동안 또는 {@code max-batch-size}건이 모일 때까지 기다렸다가
+ * {@link MessageService#createAll}로 한 번에 커밋하고, 요청마다 저장된 {@link MessageDto}로 응답을 완료한다. 일괄 저장이 실패하면
+ * 실패 원인이 된 요청만 실패하도록 건별로 다시 저장한다.
+ * <p>
+ * 대기열이 가득 차면 {@code offer-timeout}만큼 기다린 뒤에도 자리가 없을 때 요청을 거절한다. 호출 스레드에서 바로 저장하면
+ * 대기 중인 이전 메시지보다 먼저 커밋되어 채널 내 순서가 바뀌기 때문이다.
+ */
+@Slf4j
+@Component
+public class MessageGroupCommitter {
+
+  public static final String SEND_METRIC = "discodeit.message.send";
+
+  private final MessageService messageService;
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final Duration maxWait;
+  private final Duration offerTimeout;
+  private final BlockingQueue<PendingMessage> queue;
+
+  private final Timer directTimer;
+  private final Timer groupCommitTimer;
+  private final DistributionSummary batchSizeSummary;
+  private final Counter rejectedCounter;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public MessageGroupCommitter(
+      MessageService messageService,
+      @Value("${discodeit.message.group-commit.enabled:false}") boolean enabled,
+      @Value("${discodeit.message.group-commit.max-batch-size:100}") int maxBatchSize,
+      @Value("${discodeit.message.group-commit.max-wait:5ms}") Duration maxWait,
+      @Value("${discodeit.message.group-commit.queue-capacity:10000}") int queueCapacity,
+      @Value("${discodeit.message.group-commit.offer-timeout:50ms}") Duration offerTimeout,
+      MeterRegistry meterRegistry
+  ) {
+    this.messageService = messageService;
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWait = maxWait;
+    this.offerTimeout = offerTimeout;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+    this.directTimer = sendTimer("direct", meterRegistry);
+    this.groupCommitTimer = sendTimer("group-commit", meterRegistry);
+    this.batchSizeSummary = DistributionSummary.builder(SEND_METRIC + ".batch.size")
+        .description("group commit 한 번에 저장된 메시지 수")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder(SEND_METRIC + ".rejected")
+        .description("group commit 대기열이 가득 차 거절된 메시지 수")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    flusher = new Thread(this::flushLoop, "message-group-commit");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info("메시지 group commit 활성화: maxBatchSize={}, maxWait={}", maxBatchSize, maxWait);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (flusher != null) {
+      flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  public CompletableFuture<MessageDto> send(MessageCreateRequest request) {
+    long startedAt = System.nanoTime();
+    if (!enabled) {
+      try {
+        return CompletableFuture.completedFuture(messageService.create(request, List.of()));
+      } finally {
+        directTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    PendingMessage pending = new PendingMessage(request, startedAt, new CompletableFuture<>());
+    try {
+      if (running && queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        return pending.result();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    rejectedCounter.increment();
+    log.warn("group commit 대기열이 가득 차 메시지 전송 거절: queueSize={}", queue.size());
+    return CompletableFuture.failedFuture(new DiscodeitException(ErrorCode.MESSAGE_SEND_BUSY,
+        Map.of("channelId", request.channelId())));
+  }
+
+  private void flushLoop() {
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          PendingMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("메시지 group commit 처리 중 오류", e);
+      }
+    }
+  }
+
+  private void flush(List<PendingMessage> batch) {
+    batchSizeSummary.record(batch.size());
+    try {
+      List<MessageDto> created = messageService.createAll(batch.stream()
+          .map(PendingMessage::request)
+          .toList());
+      for (int i = 0; i < batch.size(); i++) {
+        complete(batch.get(i), created.get(i));
+      }
+    } catch (RuntimeException e) {
+      log.warn("메시지 일괄 저장 실패, 건별로 재시도: batchSize={}, reason={}", batch.size(),
+          e.getMessage());
+      batch.forEach(pending -> {
+        try {
+          complete(pending, messageService.create(pending.request(), List.of()));
+        } catch (RuntimeException ex) {
+          groupCommitTimer.record(System.nanoTime() - pending.startedAt(), TimeUnit.NANOSECONDS);
+          pending.result().completeExceptionally(ex);
+        }
+      });
+    }
+  }
+
+  private void complete(PendingMessage pending, MessageDto messageDto) {
+    groupCommitTimer.record(System.nanoTime() - pending.startedAt(), TimeUnit.NANOSECONDS);
+    pending.result().complete(messageDto);
+  }
+
+  private static Timer sendTimer(String mode, MeterRegistry meterRegistry) {
+    return Timer.builder(SEND_METRIC)
+        .description("WebSocket 메시지 전송부터 저장 완료까지의 지연 시간")
+        .tag("mode", mode)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
+  private record PendingMessage(
+      MessageCreateRequest request,
+      long startedAt,
+      CompletableFuture<MessageDto> result
+  ) {
+
+  }
+}
@@ -0,0 +1,126 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.repository.jdbc.MessagePartitionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * messages 테이블의 월별(UTC) 파티션을 관리한다.
+ * <p>
+ * 시작 시와 매일 {@code premake-months}개월 뒤까지의 파티션을 미리 만들어 새 메시지가 기본 파티션({@code messages_default})에
+ * 쌓이지 않게 한다. 이미 기본 파티션에 그 달의 메시지가 있으면 새 파티션으로 옮긴다. {@code archive-after-months}가 0보다
+ * 크면 그보다 오래된 파티션을 첨부파일 연결과 함께 분리해 {@code archive-schema}로 옮긴다. 여러 인스턴스가 동시에 실행해도 이미
+ * 처리된 파티션은 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.message.partition.enabled", havingValue = "true")
+public class MessagePartitionMaintainer {
+
+  private static final String PARTITION_PREFIX = "messages_p";
+  private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+  private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final MessagePartitionRepository messagePartitionRepository;
+  private final int premakeMonths;
+  private final int archiveAfterMonths;
+  private final String archiveSchema;
+  private final Clock clock;
+
+  public MessagePartitionMaintainer(
+      MessagePartitionRepository messagePartitionRepository,
+      @Value("${discodeit.message.partition.premake-months:3}") int premakeMonths,
+      @Value("${discodeit.message.partition.archive-after-months:0}") int archiveAfterMonths,
+      @Value("${discodeit.message.partition.archive-schema:message_archive}") String archiveSchema
+  ) {
+    this(messagePartitionRepository, premakeMonths, archiveAfterMonths, archiveSchema,
+        Clock.systemUTC());
+  }
+
+  MessagePartitionMaintainer(MessagePartitionRepository messagePartitionRepository,
+      int premakeMonths, int archiveAfterMonths, String archiveSchema, Clock clock) {
+    this.messagePartitionRepository = messagePartitionRepository;
+    this.premakeMonths = premakeMonths;
+    this.archiveAfterMonths = archiveAfterMonths;
+    this.archiveSchema = archiveSchema;
+    this.clock = clock;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${discodeit.message.partition.maintenance-cron:0 0 3 * * *}", zone = "UTC")
+  public void maintain() {
+    if (!messagePartitionRepository.isPartitioned()) {
+      log.warn("messages 테이블이 파티션 테이블이 아니므로 파티션 관리를 건너뜀");
+      return;
+    }
+
+    YearMonth current = YearMonth.now(clock);
+    List<String> existing = messagePartitionRepository.findPartitionNames();
+    for (int i = 0; i <= premakeMonths; i++) {
+      YearMonth month = current.plusMonths(i);
+      String name = partitionName(month);
+      if (!existing.contains(name)) {
+        createPartition(name, month);
+      }
+    }
+
+    if (archiveAfterMonths > 0) {
+      YearMonth archiveBefore = current.minusMonths(archiveAfterMonths);
+      existing.forEach(name -> parseMonth(name)
+          .filter(month -> month.isBefore(archiveBefore))
+          .ifPresent(month -> archivePartition(name)));
+    }
+  }
+
+  private void createPartition(String name, YearMonth month) {
+    try {
+      int moved = messagePartitionRepository.createPartition(name, startOf(month),
+          startOf(month.plusMonths(1)));
+      if (moved > 0) {
+        log.warn("기본 파티션에 있던 메시지를 새 파티션으로 이동: name={}, count={}", name, moved);
+      }
+      log.info("메시지 파티션 생성: name={}", name);
+    } catch (DataAccessException e) {
+      log.error("메시지 파티션 생성 실패: name={}", name, e);
+    }
+  }
+
+  private void archivePartition(String name) {
+    try {
+      messagePartitionRepository.archivePartition(name, archiveSchema);
+      log.info("메시지 파티션 보관: name={}, schema={}", name, archiveSchema);
+    } catch (DataAccessException e) {
+      log.error("메시지 파티션 보관 실패: name={}", name, e);
+    }
+  }
+
+  static String partitionName(YearMonth month) {
+    return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+  }
+
+  private static Optional<YearMonth> parseMonth(String name) {
+    Matcher matcher = PARTITION_NAME.matcher(name);
+    return matcher.matches()
+        ? Optional.of(YearMonth.parse(matcher.group(1), SUFFIX_FORMAT))
+        : Optional.empty();
+  }
+
+  private static Instant startOf(YearMonth month) {
+    return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+  }
+}
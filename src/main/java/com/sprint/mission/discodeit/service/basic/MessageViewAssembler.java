@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.mapper.MessageMapper;
+import com.sprint.mission.discodeit.repository.MessageAttachmentView;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.MessageView;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 프로젝션({@link MessageView})으로 {@link MessageDto}를 만든다.
+ * <p>
+ * 메시지/작성자/프로필 조회 1회와 페이지 전체의 첨부파일 조회 1회, 최대 두 번의 쿼리로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageViewAssembler {
+
+  private final MessageRepository messageRepository;
+  private final MessageMapper messageMapper;
+
+  public Slice<MessageDto> toDtos(Slice<MessageView> views) {
+    return new SliceImpl<>(toDtos(views.getContent()), views.getPageable(), views.hasNext());
+  }
+
+  /**
+   * id 순서와 관계없이 존재하는 메시지만 반환한다.
+   */
+  public List<MessageDto> findAllByIdIn(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return toDtos(messageRepository.findViewsByIdIn(ids));
+  }
+
+  private List<MessageDto> toDtos(List<MessageView> views) {
+    if (views.isEmpty()) {
+      return List.of();
+    }
+    Map<UUID, List<BinaryContentDto>> attachments = messageRepository
+        .findAttachmentViewsByMessageIdIn(views.stream().map(MessageView::id).toList()).stream()
+        .collect(Collectors.groupingBy(MessageAttachmentView::messageId,
+            Collectors.mapping(messageMapper::toAttachmentDto, Collectors.toList())));
+    return views.stream()
+        .map(view -> messageMapper.toDto(view, attachments.getOrDefault(view.id(), List.of())))
+        .toList();
+  }
+}
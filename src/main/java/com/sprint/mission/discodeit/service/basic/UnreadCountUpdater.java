@@ -0,0 +1,117 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 새 메시지에 따른 안 읽은 메시지 수 증가를 메시지 전송 트랜잭션 밖에서 채널별로 모아 반영한다.
+ * <p>
+ * 메시지 커밋 후 {@link #increment}로 등록하면 {@code flush-interval-ms}마다 채널당 한 번의 UPDATE로 반영하므로, 참여자가 많은
+ * 채널에서도 전송 지연과 read_statuses 행 잠금이 메시지 수만큼 늘지 않는다. 증가 쿼리는 반영 시점의 마지막 읽은 시각과, 읽음
+ * 처리로 다시 계산한 기준 시각({@code unread_counted_at}) 이후에 작성된 메시지만 세므로 다시 계산에 이미 포함된 메시지를 두 번
+ * 세지 않는다.
+ * <p>
+ * 반영 전에 노드가 중단되면 일부 증가가 유실될 수 있으며, 사용자가 채널을 읽을 때 다시 계산된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountUpdater {
+
+  private final ReadStatusRepository readStatusRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  // 아래 두 맵은 이 객체의 모니터로 보호한다.
+  private final Map<UUID, Set<UUID>> pending = new LinkedHashMap<>();
+  // 반영 중인 채널별 메시지. 트랜잭션이 끝나면 제거하고 대기 중인 cancel을 깨운다.
+  private final Map<UUID, Set<UUID>> inFlight = new LinkedHashMap<>();
+  // 스케줄 실행과 종료 시 실행이 겹치지 않도록 반영은 한 번에 하나만 한다.
+  private final Object flushLock = new Object();
+
+  /**
+   * 커밋된 메시지를 다음 반영 대상에 추가한다.
+   */
+  public synchronized void increment(UUID channelId, List<UUID> messageIds) {
+    pending.computeIfAbsent(channelId, id -> new LinkedHashSet<>()).addAll(messageIds);
+  }
+
+  /**
+   * 아직 반영되지 않은 메시지를 대상에서 뺀다. 뺐다면 true를 반환하며, 이 경우 삭제 시 안 읽은 메시지 수를 줄일 필요가 없다.
+   * 대기 중인 메시지는 반영 주기 동안 쌓인 것뿐이므로 전체를 훑는다.
+   * <p>
+   * 이미 반영 중인 메시지라면 증가가 커밋될 때까지 기다린 뒤 false를 반환해 호출자가 줄이도록 한다. 메시지 행은 호출자가
+   * 아직 지우지 않았으므로 반영 중인 증가는 이 메시지를 센다.
+   */
+  public synchronized boolean cancel(UUID messageId) {
+    for (Set<UUID> messageIds : pending.values()) {
+      if (messageIds.remove(messageId)) {
+        return true;
+      }
+    }
+    try {
+      while (isInFlight(messageId)) {
+        wait();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.message.unread-count.flush-interval-ms:500}")
+  @PreDestroy
+  public void flush() {
+    synchronized (flushLock) {
+      flushPending();
+    }
+  }
+
+  private void flushPending() {
+    Map<UUID, Set<UUID>> batch;
+    synchronized (this) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = new LinkedHashMap<>(pending);
+      pending.clear();
+      inFlight.putAll(batch);
+    }
+
+    batch.forEach((channelId, messageIds) -> {
+      try {
+        if (!messageIds.isEmpty()) {
+          transactionTemplate.executeWithoutResult(status ->
+              readStatusRepository.incrementUnreadCountsSinceRecount(channelId,
+                  new ArrayList<>(messageIds)));
+        }
+      } catch (RuntimeException e) {
+        log.warn("안 읽은 메시지 수 반영 실패: channelId={}, count={}", channelId, messageIds.size(),
+            e);
+      } finally {
+        completed(channelId);
+      }
+    });
+    log.debug("안 읽은 메시지 수 반영: channels={}", batch.size());
+  }
+
+  private synchronized void completed(UUID channelId) {
+    inFlight.remove(channelId);
+    notifyAll();
+  }
+
+  private boolean isInFlight(UUID messageId) {
+    return inFlight.values().stream().anyMatch(messageIds -> messageIds.contains(messageId));
+  }
+}
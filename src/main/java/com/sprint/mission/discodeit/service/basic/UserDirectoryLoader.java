@@ -0,0 +1,49 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 프로필 목록을 캐시한다.
+ * <p>
+ * 접속 여부는 담지 않으므로 로그인/로그아웃으로는 무효화되지 않고 사용자 생성/수정/삭제 시에만 비운다. 접속 여부는
+ * {@link com.sprint.mission.discodeit.service.UserPresenceService}에서 따로 조회해 합친다. 페이지 항목
+ * ({@code userDirectory::username:limit})은 수정 시 어느 페이지가 바뀌는지 알 수 없으므로 한꺼번에 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDirectoryLoader {
+
+  public static final String USERS = "users";
+  public static final String USER_DIRECTORY = "userDirectory";
+
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+
+  @Transactional(readOnly = true)
+  @Cacheable(value = USERS, key = "'all'", sync = true)
+  public List<UserDto> findAllProfiles() {
+    return userRepository.findAllWithProfile().stream()
+        .map(userMapper::toDto)
+        .toList();
+  }
+
+  /**
+   * 사용자 이름 오름차순으로 {@code username} 다음부터 최대 {@code limit}명
+   */
+  @Transactional(readOnly = true)
+  @Cacheable(value = USER_DIRECTORY, key = "#username + ':' + #limit", sync = true)
+  public List<UserDto> findProfilesAfter(String username, int limit) {
+    return userRepository.findAllWithProfileByUsernameAfter(username, PageRequest.of(0, limit))
+        .stream()
+        .map(userMapper::toDto)
+        .toList();
+  }
+}
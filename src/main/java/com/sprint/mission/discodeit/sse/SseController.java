@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,10 +23,13 @@ public class SseController {
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
             @AuthenticationPrincipal DiscodeitUserDetails userDetails,
-            @RequestParam(value = "LastEventId", required = false) UUID lastEventId
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "LastEventId", required = false) String lastEventId
     ) {
         UUID userId = userDetails.getUserDto().id();
 
-        return sseService.connect(userId, lastEventId);
+        // 브라우저가 자동 재연결 시 보내는 헤더를 우선하고, 직접 다시 연결할 때는 쿼리 파라미터를 쓴다.
+        return sseService.connect(userId,
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
     }
 }
@@ -1,49 +1,102 @@
 package com.sprint.mission.discodeit.sse;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 수신자 id별 SSE 연결
+ * <p>
+ * 수신자마다 연결 배열을 copy-on-write로 보관한다. 등록과 해제는 {@code compute}로 키 단위 원자적으로 처리하므로 마지막
+ * 연결이 해제되면 항목이 바로 사라지고, 해제와 동시에 들어온 등록이 유실되지 않는다. 전송 쪽은 잠금 없이 배열을 읽으며
+ * 수신자 목록 조회 비용은 전체 연결 수가 아니라 수신자 수에 비례한다.
+ */
 @Repository
 public class SseEmitterRepository {
 
-    private final Map<UUID, List<SseEmitter>> data = new ConcurrentHashMap<>();
+    private static final SseEmitter[] EMPTY = new SseEmitter[0];
+
+    private final Map<UUID, SseEmitter[]> data = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
 
     public SseEmitter save(UUID receiverId, SseEmitter sseEmitter) {
-        data.putIfAbsent(receiverId, new CopyOnWriteArrayList<>());
-        data.get(receiverId).add(sseEmitter);
+        data.compute(receiverId, (id, emitters) -> {
+            SseEmitter[] current = emitters == null ? EMPTY : emitters;
+            SseEmitter[] added = Arrays.copyOf(current, current.length + 1);
+            added[current.length] = sseEmitter;
+            return added;
+        });
+        size.incrementAndGet();
 
         return sseEmitter;
     }
 
     public Optional<List<SseEmitter>> findByReceiverId(UUID receiverId) {
-        return Optional.ofNullable(data.get(receiverId));
+        return Optional.ofNullable(data.get(receiverId)).map(Arrays::asList);
     }
 
     public List<SseEmitter> findAllByReceiverIdsIn(Collection<UUID> receiverIds) {
-        return data.entrySet().stream()
-                .filter(entry -> receiverIds.contains(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .flatMap(Collection::stream)
-                .toList();
+        // 같은 수신자가 중복되어도 한 번만 보낸다.
+        Collection<UUID> distinctReceiverIds =
+                receiverIds instanceof Set ? receiverIds : new HashSet<>(receiverIds);
+        List<SseEmitter> result = new ArrayList<>();
+        for (UUID receiverId : distinctReceiverIds) {
+            SseEmitter[] emitters = data.get(receiverId);
+            if (emitters != null) {
+                result.addAll(Arrays.asList(emitters));
+            }
+        }
+        return result;
     }
 
     public List<SseEmitter> findAll() {
-        return data.values().stream()
-                .flatMap(Collection::stream)
-                .toList();
+        List<SseEmitter> result = new ArrayList<>(size.get());
+        data.values().forEach(emitters -> result.addAll(Arrays.asList(emitters)));
+        return result;
     }
 
     public void delete(UUID receiverId, SseEmitter sseEmitter) {
-        if (data.containsKey(receiverId)) {
-            data.get(receiverId).remove(sseEmitter);
+        data.computeIfPresent(receiverId, (id, emitters) -> {
+            int index = indexOf(emitters, sseEmitter);
+            if (index < 0) {
+                return emitters;
+            }
+            size.decrementAndGet();
+            if (emitters.length == 1) {
+                return null;
+            }
+            SseEmitter[] removed = new SseEmitter[emitters.length - 1];
+            System.arraycopy(emitters, 0, removed, 0, index);
+            System.arraycopy(emitters, index + 1, removed, index, emitters.length - index - 1);
+            return removed;
+        });
+    }
+
+    public int count() {
+        return size.get();
+    }
+
+    public int countReceivers() {
+        return data.size();
+    }
+
+    private static int indexOf(SseEmitter[] emitters, SseEmitter sseEmitter) {
+        for (int i = 0; i < emitters.length; i++) {
+            if (emitters[i] == sseEmitter) {
+                return i;
+            }
         }
+        return -1;
     }
 }
@@ -17,7 +17,10 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SseMessage {
 
-    private UUID eventId;
+    // 저장소에 저장될 때 부여되는 단조 증가 번호
+    private long sequence;
+    // 저장소에 저장될 때 부여되는 SSE 이벤트 id (실행 접두사 + 번호)
+    private String eventId;
     private Set<UUID> receiverIds = new HashSet<>();
     private boolean broadcast;
     private String eventName;
@@ -25,7 +28,8 @@ public class SseMessage {
 
     public static SseMessage create(UUID receiverId, String eventName, Object eventData) {
         return new SseMessage(
-                UUID.randomUUID(),
+                0,
+                null,
                 Set.of(receiverId),
                 false,
                 eventName,
@@ -36,7 +40,8 @@ public class SseMessage {
     public static SseMessage create(Collection<UUID> receiverIds, String eventName,
                                     Object eventData) {
         return new SseMessage(
-                UUID.randomUUID(),
+                0,
+                null,
                 new HashSet<>(receiverIds),
                 false,
                 eventName,
@@ -46,7 +51,8 @@ public class SseMessage {
 
     public static SseMessage createBroadcast(String eventName, Object eventData) {
         return new SseMessage(
-                UUID.randomUUID(),
+                0,
+                null,
                 new HashSet<>(),
                 true,
                 eventName,
@@ -60,7 +66,7 @@ public class SseMessage {
 
     public Set<DataWithMediaType> toEvent() {
         return SseEmitter.event()
-                .id(eventId.toString())
+                .id(eventId)
                 .name(eventName)
                 .data(eventData)
                 .build();
@@ -1,47 +1,233 @@
 package com.sprint.mission.discodeit.sse;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
 
+/**
+ * 재연결한 클라이언트에게 놓친 이벤트를 다시 보내기 위한 노드 로컬 이벤트 기록
+ * <p>
+ * 이벤트마다 단조 증가하는 번호(sequence)를 부여하고 번호 순으로 정렬된 맵에 보관한다. 수신자별 번호 인덱스와 브로드캐스트
+ * 인덱스를 따로 두므로 재전송 조회는 전체 기록을 훑지 않고 O(log n + 결과 수)로 끝난다.
+ * <p>
+ * 번호는 노드마다 따로 매기므로 다른 노드나 이전 실행의 번호와 겹칠 수 있다. 그래서 SSE 이벤트 id는 실행마다 새로 정하는 접두사와
+ * 번호를 합친 {@code <epoch>:<sequence>}이고, 접두사가 다른 id는 이 기록으로 판단할 수 없으므로 재동기화 대상이 된다.
+ * <p>
+ * 이벤트 데이터는 저장 시 JSON으로 한 번 직렬화해 보관하고, 직렬화된 크기 합계가 {@code retention-size}를 넘거나
+ * {@code retention}보다 오래된 이벤트부터 제거한다. 요청한 번호 이후의 이벤트가 이미 제거되었으면 재전송 대신 빈 값을
+ * 반환해 호출자가 전체 재동기화를 요청하도록 한다.
+ */
 @Repository
 public class SseMessageRepository {
 
-    @Value("${sse.event-queue-capacity:100}")
-    private int eventQueueCapacity;
+    public static final String METRIC_PREFIX = "discodeit.sse.replay";
 
-    private final ConcurrentLinkedDeque<UUID> eventIdQueue = new ConcurrentLinkedDeque<>();
-    private final Map<UUID, SseMessage> messages = new ConcurrentHashMap<>();
+    // 정렬 맵 노드, 인덱스 노드, SseMessage 필드를 합친 대략적인 크기
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    private static final long RECEIVER_INDEX_BYTES = 64;
+    private static final String EVENT_ID_DELIMITER = ":";
+
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final long retentionBytes;
+    private final Counter resyncRequiredCounter;
+    // 이 실행이 발급한 이벤트 id의 접두사
+    private final String epoch =
+            Long.toUnsignedString(UUID.randomUUID().getMostSignificantBits(), 36);
+
+    private final ConcurrentSkipListMap<Long, Entry> messages = new ConcurrentSkipListMap<>();
+    private final Map<UUID, NavigableSet<Long>> sequencesByReceiver = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> broadcastSequences = new ConcurrentSkipListSet<>();
+
+    // 아래 값은 save/evict에서 lock을 잡고 변경한다.
+    private final Object lock = new Object();
+    private volatile long lastSequence;
+    // 제거된 이벤트 중 가장 큰 번호. 이보다 작은 번호 이후를 요청하면 놓친 이벤트가 있다.
+    private volatile long evictedThrough;
+    private volatile long retainedBytes;
+
+    public SseMessageRepository(
+            ObjectMapper objectMapper,
+            @Value("${sse.replay.retention:PT5M}") Duration retention,
+            @Value("${sse.replay.retention-size:16MB}") DataSize retentionSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.retentionBytes = retentionSize.toBytes();
+        this.lastSequence = System.currentTimeMillis() * 1000;
+        this.evictedThrough = lastSequence;
+
+        this.resyncRequiredCounter = Counter.builder(METRIC_PREFIX + ".resync-required")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".events", messages, Map::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".memory", this, repository -> repository.retainedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
 
     public SseMessage save(SseMessage message) {
-        makeAvailableCapacity();
+        message.setEventData(serialize(message.getEventData()));
+        long bytes = ENTRY_OVERHEAD_BYTES
+                + message.getEventName().length()
+                + ((String) message.getEventData()).getBytes(StandardCharsets.UTF_8).length
+                + RECEIVER_INDEX_BYTES * message.getReceiverIds().size();
 
-        UUID eventId = message.getEventId();
-        eventIdQueue.addLast(eventId);
-        messages.put(eventId, message);
+        synchronized (lock) {
+            long sequence = lastSequence + 1;
+            message.setSequence(sequence);
+            message.setEventId(toEventId(sequence));
+            messages.put(sequence, new Entry(message, Instant.now(), bytes));
+            if (message.isBroadcast()) {
+                broadcastSequences.add(sequence);
+            } else {
+                message.getReceiverIds().forEach(receiverId -> sequencesByReceiver
+                        .computeIfAbsent(receiverId, id -> new ConcurrentSkipListSet<>())
+                        .add(sequence));
+            }
+            retainedBytes += bytes;
+            lastSequence = sequence;
+            evict(Instant.now());
+        }
         return message;
     }
 
-    public List<SseMessage> findAllByEventIdAfterAndReceiverId(UUID eventId, UUID receiverId) {
-        return eventIdQueue.stream()
-                .dropWhile(data -> !data.equals(eventId))
-                .skip(1)
-                .map(messages::get)
-                .filter(sseMessage -> sseMessage.isReceivable(receiverId))
-                .toList();
+    /**
+     * {@code sequence} 이후 수신자가 받아야 할 이벤트를 번호 순으로 반환한다. 그 사이 이벤트가 보관 기간을 넘겨 제거되었거나
+     * 이 노드가 발급하지 않은 번호이면 빈 값을 반환한다.
+     */
+    public Optional<List<SseMessage>> findAllBySequenceAfterAndReceiverId(long sequence,
+            UUID receiverId) {
+        if (sequence < evictedThrough || sequence > lastSequence) {
+            resyncRequiredCounter.increment();
+            return Optional.empty();
+        }
+
+        NavigableSet<Long> targeted = sequencesByReceiver.get(receiverId);
+        List<SseMessage> missed = new ArrayList<>();
+        merge(broadcastSequences.tailSet(sequence, false),
+                targeted == null ? null : targeted.tailSet(sequence, false),
+                missed);
+
+        // 조회 중에 제거가 일어났으면 결과에 빈틈이 있을 수 있다.
+        if (sequence < evictedThrough) {
+            resyncRequiredCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(missed);
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
     }
 
-    private void makeAvailableCapacity() {
-        int availableCapacity = eventQueueCapacity - eventIdQueue.size();
-        while (availableCapacity < 1) {
-            UUID removedEventId = eventIdQueue.removeFirst();
-            messages.remove(removedEventId);
-            availableCapacity++;
+    public String getLastEventId() {
+        return toEventId(lastSequence);
+    }
+
+    public String toEventId(long sequence) {
+        return epoch + EVENT_ID_DELIMITER + sequence;
+    }
+
+    /**
+     * 이 실행이 발급한 이벤트 id의 번호. 다른 노드나 이전 실행이 발급했거나 형식이 맞지 않으면 빈 값을 반환한다.
+     */
+    public Optional<Long> parseEventId(String eventId) {
+        String prefix = epoch + EVENT_ID_DELIMITER;
+        if (eventId.startsWith(prefix)) {
+            try {
+                return Optional.of(Long.parseLong(eventId.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                // 아래에서 재동기화로 처리한다.
+            }
         }
+        resyncRequiredCounter.increment();
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void evictExpired() {
+        synchronized (lock) {
+            evict(Instant.now());
+        }
+    }
+
+    private void evict(Instant now) {
+        Instant threshold = now.minus(retention);
+        Map.Entry<Long, Entry> oldest;
+        while ((oldest = messages.firstEntry()) != null
+                && (retainedBytes > retentionBytes
+                || oldest.getValue().savedAt().isBefore(threshold))) {
+            long sequence = oldest.getKey();
+            SseMessage message = oldest.getValue().message();
+            // 조회 쪽이 빈틈을 감지할 수 있도록 기록에서 지우기 전에 번호를 올린다.
+            evictedThrough = sequence;
+            messages.remove(sequence);
+            if (message.isBroadcast()) {
+                broadcastSequences.remove(sequence);
+            } else {
+                removeFromReceiverIndexes(message.getReceiverIds(), sequence);
+            }
+            retainedBytes -= oldest.getValue().bytes();
+        }
+    }
+
+    private void removeFromReceiverIndexes(Collection<UUID> receiverIds, long sequence) {
+        receiverIds.forEach(receiverId -> sequencesByReceiver.computeIfPresent(receiverId,
+                (id, sequences) -> {
+                    sequences.remove(sequence);
+                    return sequences.isEmpty() ? null : sequences;
+                }));
+    }
+
+    private void merge(NavigableSet<Long> broadcasts, NavigableSet<Long> targeted,
+            List<SseMessage> result) {
+        List<Long> sequences = new ArrayList<>(broadcasts);
+        if (targeted != null) {
+            sequences.addAll(targeted);
+            sequences.sort(null);
+        }
+        sequences.forEach(sequence -> {
+            Entry entry = messages.get(sequence);
+            if (entry != null) {
+                result.add(entry.message());
+            }
+        });
+    }
+
+    private String serialize(Object eventData) {
+        if (eventData instanceof String string) {
+            return string;
+        }
+        try {
+            return objectMapper.writeValueAsString(eventData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("SSE 이벤트 데이터 직렬화 실패", e);
+        }
+    }
+
+    private record Entry(SseMessage message, Instant savedAt, long bytes) {
+
     }
 }
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.sse;
 
+import com.sprint.mission.discodeit.service.UserPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,67 +11,103 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SseService {
 
+    public static final String RESYNC_REQUIRED_EVENT = "resync.required";
+
     @Value("${sse.timeout:300000}")
     private long timeout;
 
     private final SseEmitterRepository sseEmitterRepository;
     private final SseMessageRepository sseMessageRepository;
+    private final UserPresenceService userPresenceService;
 
-    public SseEmitter connect(UUID receiverId, UUID lastEventId) {
-        SseEmitter sseEmitter = new SseEmitter(timeout);
+    public SseEmitter connect(UUID receiverId, String lastEventId) {
+        SseEmitter sseEmitter = createEmitter();
+        // 오류 후 완료처럼 콜백이 여러 번 호출되어도 연결 해제는 한 번만 반영한다.
+        AtomicBoolean closed = new AtomicBoolean();
+        Runnable close = () -> {
+            sseEmitterRepository.delete(receiverId, sseEmitter);
+            if (closed.compareAndSet(false, true)) {
+                userPresenceService.disconnected(receiverId);
+            }
+        };
 
         sseEmitter.onCompletion(() -> {
             log.debug("sse on onCompletion");
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            close.run();
         });
         sseEmitter.onTimeout(() -> {
             log.debug("sse on onTimeout");
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            close.run();
         });
         sseEmitter.onError((ex) -> {
             log.debug("sse on onError");
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            close.run();
         });
 
         sseEmitterRepository.save(receiverId, sseEmitter);
+        userPresenceService.connected(receiverId);
 
-        Optional.ofNullable(lastEventId)
-                .ifPresent(id -> {
-                    sseMessageRepository.findAllByEventIdAfterAndReceiverId(id, receiverId)
-                            .forEach(sseMessage -> {
-                                try {
-                                    sseEmitter.send(sseMessage.toEvent());
-                                } catch (IOException e) {
-                                    log.error(e.getMessage(), e);
-                                }
-                            });
-                });
+        if (lastEventId != null) {
+            replay(sseEmitter, receiverId, lastEventId);
+        }
 
         return sseEmitter;
     }
 
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * {@code lastEventId} 이후 놓친 이벤트를 다시 보낸다. 보관 범위를 벗어났거나 이 노드의 현재 실행이 발급하지 않은 id면
+     * 놓친 이벤트를 알 수 없으므로 {@code resync.required} 이벤트로 클라이언트에 전체 재조회를 요청한다.
+     */
+    private void replay(SseEmitter sseEmitter, UUID receiverId, String lastEventId) {
+        Optional<List<SseMessage>> missed = sseMessageRepository.parseEventId(lastEventId)
+                .flatMap(sequence ->
+                        sseMessageRepository.findAllBySequenceAfterAndReceiverId(sequence, receiverId));
+        try {
+            if (missed.isEmpty()) {
+                log.info("SSE 재전송 범위 초과, 재동기화 요청: receiverId={}, lastEventId={}", receiverId,
+                        lastEventId);
+                sseEmitter.send(SseEmitter.event()
+                        .id(sseMessageRepository.getLastEventId())
+                        .name(RESYNC_REQUIRED_EVENT)
+                        .data(Map.of("lastEventId", lastEventId)));
+                return;
+            }
+            for (SseMessage sseMessage : missed.get()) {
+                sseEmitter.send(sseMessage.toEvent());
+            }
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
     public void send(UUID receiverId, String eventName, Object data) {
+        // 연결이 잠시 끊긴 수신자도 재연결 시 받을 수 있도록 연결 여부와 관계없이 기록한다.
+        SseMessage message = sseMessageRepository.save(SseMessage.create(receiverId, eventName, data));
+        Set<ResponseBodyEmitter.DataWithMediaType> event = message.toEvent();
         sseEmitterRepository.findByReceiverId(receiverId)
-                .ifPresent(sseEmitters -> {
-                    SseMessage message = sseMessageRepository.save(
-                            SseMessage.create(receiverId, eventName, data));
-                    sseEmitters.forEach(sseEmitter -> {
-                        try {
-                            sseEmitter.send(message.toEvent());
-                        } catch (IOException e) {
-                            log.error(e.getMessage(), e);
-                        }
-                    });
-                });
+                .ifPresent(sseEmitters -> sseEmitters.forEach(sseEmitter -> {
+                    try {
+                        sseEmitter.send(event);
+                    } catch (IOException e) {
+                        log.error(e.getMessage(), e);
+                    }
+                }));
     }
 
     public void send(Collection<UUID> receiverIds, String eventName, Object data) {
@@ -99,6 +136,24 @@ public class SseService {
                 });
     }
 
+    /**
+     * 재전송 로그에 남기지 않고 id 없이 모든 연결에 보낸다. 놓쳐도 클라이언트가 다시 조회해 맞출 수 있는 이벤트에만 쓴다.
+     */
+    public void broadcastWithoutReplay(String eventName, Object data) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .name(eventName)
+                .data(data)
+                .build();
+        sseEmitterRepository.findAll()
+                .forEach(sseEmitter -> {
+                    try {
+                        sseEmitter.send(event);
+                    } catch (IOException e) {
+                        log.error(e.getMessage(), e);
+                    }
+                });
+    }
+
     public void send(SseMessage sseMessage) {
         sseMessageRepository.save(sseMessage);
         Set<ResponseBodyEmitter.DataWithMediaType> event = sseMessage.toEvent();
@@ -123,7 +178,10 @@ public class SseService {
         }
     }
 
-    @Scheduled(cron = "0 */30 * * * *")
+    /**
+     * 탭을 닫은 연결은 전송이 실패해야 정리되므로 접속 상태 TTL보다 짧은 주기로 ping을 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${sse.ping-interval-ms:30000}")
     public void cleanUp() {
         Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event()
                 .name("ping")
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.storage;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -13,8 +14,20 @@ public interface BinaryContentStorage {
 
   CompletableFuture<UUID> putAsync(UUID binaryContentId, byte[] bytes);
 
+  UUID put(UUID binaryContentId, InputStream inputStream, long size);
+
+  /**
+   * 디스크에 임시 저장된 파일을 스트림으로 업로드한다. 재시도 시 파일을 다시 열 수 있도록 경로를 받는다.
+   */
+  CompletableFuture<UUID> putAsync(UUID binaryContentId, Path source);
+
   InputStream get(UUID binaryContentId);
 
+  /**
+   * 저장된 파일을 삭제한다. 파일이 없어도 예외를 던지지 않는다.
+   */
+  void delete(UUID binaryContentId);
+
   ResponseEntity<?> download(BinaryContentDto metaData);
 
   default void simulateDelay() {
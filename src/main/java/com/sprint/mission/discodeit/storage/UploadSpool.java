@@ -0,0 +1,109 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadRequest;
+import com.sprint.mission.discodeit.exception.binarycontent.UploadCapacityExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일을 힙 대신 디스크에 임시 저장하고, 스토리지 업로드가 끝날 때까지 처리 중인 용량을 관리한다.
+ * <p>
+ * 처리 중인 업로드 총량이 {@code discodeit.upload.max-in-flight-size}를 넘으면 새 업로드를 즉시 거절한다.
+ */
+@Slf4j
+@Component
+public class UploadSpool {
+
+  public static final String IN_FLIGHT_BYTES_METRIC = "discodeit.upload.bytes.in-flight";
+
+  private final Path root;
+  private final long maxInFlightBytes;
+  private final AtomicLong inFlightBytes = new AtomicLong();
+  private final Map<Path, Long> spooledFiles = new ConcurrentHashMap<>();
+
+  public UploadSpool(
+      @Value("${discodeit.upload.spool-path:.discodeit/spool}") Path root,
+      @Value("${discodeit.upload.max-in-flight-size:256MB}") DataSize maxInFlightSize,
+      MeterRegistry meterRegistry
+  ) {
+    this.root = root.toAbsolutePath();
+    this.maxInFlightBytes = maxInFlightSize.toBytes();
+    Gauge.builder(IN_FLIGHT_BYTES_METRIC, inFlightBytes, AtomicLong::get)
+        .description("스토리지 업로드가 끝나지 않은 첨부파일 용량")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void init() {
+    try {
+      Files.createDirectories(root);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public BinaryContentUploadRequest spool(MultipartFile file) {
+    long size = file.getSize();
+    reserve(size);
+
+    Path spoolFile = root.resolve(UUID.randomUUID().toString());
+    spooledFiles.put(spoolFile, size);
+    try {
+      // 컨테이너가 디스크에 저장한 파트는 복사 없이 이동된다.
+      file.transferTo(spoolFile.toFile());
+    } catch (IOException | RuntimeException e) {
+      release(spoolFile);
+      throw new RuntimeException(e);
+    }
+
+    log.debug("업로드 파일 임시 저장: file={}, size={}, inFlightBytes={}",
+        spoolFile.getFileName(), size, inFlightBytes.get());
+    return new BinaryContentUploadRequest(file.getOriginalFilename(), file.getContentType(), size,
+        spoolFile);
+  }
+
+  public void release(BinaryContentUploadRequest uploadRequest) {
+    release(uploadRequest.spoolFile());
+  }
+
+  public long getInFlightBytes() {
+    return inFlightBytes.get();
+  }
+
+  private void reserve(long size) {
+    long current;
+    do {
+      current = inFlightBytes.get();
+      if (current + size > maxInFlightBytes) {
+        throw UploadCapacityExceededException.withSize(size, current);
+      }
+    } while (!inFlightBytes.compareAndSet(current, current + size));
+  }
+
+  private void release(Path spoolFile) {
+    Long size = spooledFiles.remove(spoolFile);
+    if (size == null) {
+      return;
+    }
+    inFlightBytes.addAndGet(-size);
+    try {
+      Files.deleteIfExists(spoolFile);
+    } catch (IOException e) {
+      log.warn("임시 업로드 파일 삭제 실패: {}", spoolFile, e);
+    }
+  }
+}
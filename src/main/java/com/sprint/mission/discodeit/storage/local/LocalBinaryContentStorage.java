@@ -87,8 +87,50 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     return CompletableFuture.completedFuture(put(binaryContentId, bytes));
   }
 
+  @Override
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
+    Path filePath = resolvePath(binaryContentId);
+    if (Files.exists(filePath)) {
+      throw new IllegalArgumentException("File with key " + binaryContentId + " already exists");
+    }
+    try {
+      Files.copy(inputStream, filePath);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return binaryContentId;
+  }
+
+  @Async("binaryContentTaskExecutor")
+  @Retryable(
+      value = {IOException.class, RuntimeException.class},
+      maxAttempts = 3,
+      backoff = @Backoff(delay = 1000, multiplier = 2),
+      recover = "recoverPutAsyncFromFile"
+  )
+  @Override
+  public CompletableFuture<UUID> putAsync(UUID binaryContentId, Path source) {
+    log.info("파일 업로드 시도: {}", binaryContentId);
+    try (InputStream inputStream = Files.newInputStream(source)) {
+      return CompletableFuture.completedFuture(
+          put(binaryContentId, inputStream, Files.size(source)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Recover
   public CompletableFuture<UUID> recoverPutAsync(Exception e, UUID binaryContentId, byte[] bytes) {
+    return recordPutAsyncFailure(e, binaryContentId);
+  }
+
+  @Recover
+  public CompletableFuture<UUID> recoverPutAsyncFromFile(Exception e, UUID binaryContentId,
+      Path source) {
+    return recordPutAsyncFailure(e, binaryContentId);
+  }
+
+  private CompletableFuture<UUID> recordPutAsyncFailure(Exception e, UUID binaryContentId) {
     String taskName = getClass().getSimpleName() + "#" + "putAsync";
     String failureReason = String.format("파일 업로드 실패 (binaryContentId: %s): %s",
         binaryContentId, e.getMessage());
@@ -118,6 +160,15 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID binaryContentId) {
+    try {
+      Files.deleteIfExists(resolvePath(binaryContentId));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private Path resolvePath(UUID key) {
     return root.resolve(key.toString());
   }
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.storage.s3;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -74,6 +76,15 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
 
   @Override
   public UUID put(UUID binaryContentId, byte[] bytes) {
+    return putObject(binaryContentId, RequestBody.fromBytes(bytes));
+  }
+
+  @Override
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
+    return putObject(binaryContentId, RequestBody.fromInputStream(inputStream, size));
+  }
+
+  private UUID putObject(UUID binaryContentId, RequestBody requestBody) {
     String key = binaryContentId.toString();
     try {
       S3Client s3Client = getS3Client();
@@ -83,7 +94,7 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
           .key(key)
           .build();
 
-      s3Client.putObject(request, RequestBody.fromBytes(bytes));
+      s3Client.putObject(request, requestBody);
       log.info("S3에 파일 업로드 성공: {}", key);
 
       return binaryContentId;
@@ -105,8 +116,33 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     return CompletableFuture.completedFuture(put(binaryContentId, bytes));
   }
 
+  @Async("binaryContentTaskExecutor")
+  @Retryable(
+      value = {S3Exception.class, RuntimeException.class},
+      maxAttempts = 3,
+      backoff = @Backoff(delay = 1000, multiplier = 2),
+      recover = "recoverPutAsyncFromFile"
+  )
+  @Override
+  public CompletableFuture<UUID> putAsync(UUID binaryContentId, Path source) {
+    log.info("파일 업로드 시도: {}", binaryContentId);
+
+    return CompletableFuture.completedFuture(
+        putObject(binaryContentId, RequestBody.fromFile(source)));
+  }
+
   @Recover
   public CompletableFuture<UUID> recoverPutAsync(Exception e, UUID binaryContentId, byte[] bytes) {
+    return recordPutAsyncFailure(e, binaryContentId);
+  }
+
+  @Recover
+  public CompletableFuture<UUID> recoverPutAsyncFromFile(Exception e, UUID binaryContentId,
+      Path source) {
+    return recordPutAsyncFailure(e, binaryContentId);
+  }
+
+  private CompletableFuture<UUID> recordPutAsyncFailure(Exception e, UUID binaryContentId) {
     String taskName = getClass().getSimpleName() + "#" + "putAsync";
     String failureReason = String.format("S3 파일 업로드 실패 (binaryContentId: %s): %s",
         binaryContentId, e.getMessage());
@@ -143,6 +179,15 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID binaryContentId) {
+    DeleteObjectRequest request = DeleteObjectRequest.builder()
+        .bucket(bucket)
+        .key(binaryContentId.toString())
+        .build();
+    getS3Client().deleteObject(request);
+  }
+
   private S3Client getS3Client() {
     return S3Client.builder()
         .region(Region.of(region))
@@ -32,19 +32,29 @@ CREATE TABLE channels
     updated_at  timestamp with time zone,
     name        varchar(100),
     description varchar(500),
-    type        varchar(10)              NOT NULL
+    type        varchar(10)              NOT NULL,
+    deleted_at  timestamp with time zone,
+    participants_changed_at timestamp with time zone
 );
 
 -- Message
+-- created_at 기준 월별 범위 파티션. 월별 파티션은 MessagePartitionMaintainer가 미리 만들고,
+-- 범위를 벗어난 행(과거 이력 가져오기 등)은 기본 파티션에 저장된다.
+-- 파티션 테이블의 기본 키에는 파티션 키가 포함되어야 하므로 (id, created_at)로 둔다.
 CREATE TABLE messages
 (
-    id         uuid PRIMARY KEY,
+    id         uuid                     NOT NULL,
     created_at timestamp with time zone NOT NULL,
     updated_at timestamp with time zone,
     content    text,
     channel_id uuid                     NOT NULL,
-    author_id  uuid
-);
+    author_id  uuid,
+    -- 전문 검색용. 한국어 사전이 없으므로 형태소 분석 없이 공백 단위로 토큰화하는 simple 설정을 사용한다.
+    content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE messages_default PARTITION OF messages DEFAULT;
 
 -- Message.attachments
 CREATE TABLE message_attachments
@@ -64,10 +74,39 @@ CREATE TABLE read_statuses
     channel_id   uuid                     NOT NULL,
     last_read_at timestamp with time zone NOT NULL,
     notification_enabled boolean NOT NULL,
+    unread_count bigint                   NOT NULL DEFAULT 0,
+    unread_counted_at timestamp with time zone,
     UNIQUE (user_id, channel_id)
 );
 
 
+-- ChannelPurge (삭제된 채널 정리 작업)
+CREATE TABLE channel_purges
+(
+    id                 uuid PRIMARY KEY,
+    created_at         timestamp with time zone NOT NULL,
+    updated_at         timestamp with time zone,
+    channel_id         uuid UNIQUE              NOT NULL,
+    purged_messages    bigint                   NOT NULL,
+    purged_attachments bigint                   NOT NULL,
+    completed_at       timestamp with time zone,
+    claimed_by         uuid,
+    claimed_until      timestamp with time zone
+);
+
+
+-- MessageChange (메시지 변경 이력, 증분 동기화용)
+CREATE TABLE message_changes
+(
+    seq        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    xid        bigint                   NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS text) AS bigint),
+    channel_id uuid                     NOT NULL,
+    message_id uuid                     NOT NULL,
+    type       varchar(10)              NOT NULL,
+    created_at timestamp with time zone NOT NULL
+);
+
+
 -- 제약 조건
 -- User (1) -> BinaryContent (1)
 ALTER TABLE users
@@ -111,6 +150,21 @@ ALTER TABLE read_statuses
             REFERENCES channels (id)
             ON DELETE CASCADE;
 
+-- 인덱스
+-- Message 키셋 페이지네이션 (channel_id, created_at, id)
+CREATE INDEX idx_messages_channel_id_created_at_id
+    ON messages (channel_id, created_at DESC, id DESC);
+
+-- MessageChange 증분 동기화 (channel_id, seq), 보관 기간 정리 (created_at)
+CREATE INDEX idx_message_changes_channel_id_xid_seq
+    ON message_changes (channel_id, xid, seq);
+CREATE INDEX idx_message_changes_created_at
+    ON message_changes (created_at);
+
+-- Message 전문 검색
+CREATE INDEX idx_messages_content_tsv
+    ON messages USING GIN (content_tsv);
+
 CREATE TABLE persistent_logins
 (
     username  varchar(64) not null,
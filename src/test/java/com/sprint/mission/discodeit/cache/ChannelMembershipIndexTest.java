@@ -0,0 +1,130 @@
+package com.sprint.mission.discodeit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.mission.discodeit.event.ChannelMembershipChangedEvent;
+import com.sprint.mission.discodeit.repository.ChannelMemberView;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("ChannelMembershipIndex 테스트")
+class ChannelMembershipIndexTest {
+
+  private final UUID channelId = UUID.randomUUID();
+  private final UUID member = UUID.randomUUID();
+
+  private ReadStatusRepository readStatusRepository;
+  private ChannelMembershipIndex index;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    readStatusRepository = mock(ReadStatusRepository.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    willAnswer(invocation -> {
+      invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+    index = new ChannelMembershipIndex(readStatusRepository, transactionTemplate, true,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("재구성 전에는 DB 조회로 대체하도록 빈 값을 반환")
+  void findNotificationTargets_BeforeRebuild_ReturnsEmpty() {
+    assertThat(index.findNotificationTargets(channelId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재구성 후 참여 변경을 반영해 알림 대상을 반환")
+  void findNotificationTargets_AfterRebuildAndChanges_ReflectsChanges() {
+    // given
+    UUID joined = UUID.randomUUID();
+    given(readStatusRepository.streamAllNotificationEnabled())
+        .willReturn(Stream.of(new ChannelMemberView(channelId, member)));
+    index.rebuild();
+
+    // when
+    index.apply(new ChannelMembershipChangedEvent(channelId, joined, true));
+    index.apply(new ChannelMembershipChangedEvent(channelId, joined, true));
+    index.apply(new ChannelMembershipChangedEvent(channelId, member, false));
+
+    // then
+    assertThat(index.findNotificationTargets(channelId)).contains(Set.of(joined));
+    assertThat(index.getMembershipCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("채널 삭제와 사용자 삭제 시 해당 참여 관계를 모두 제거")
+  void apply_ChannelAndUserRemoved_RemovesMemberships() {
+    // given
+    UUID otherChannelId = UUID.randomUUID();
+    UUID otherMember = UUID.randomUUID();
+    given(readStatusRepository.streamAllNotificationEnabled()).willReturn(Stream.of(
+        new ChannelMemberView(channelId, member),
+        new ChannelMemberView(otherChannelId, member),
+        new ChannelMemberView(otherChannelId, otherMember)));
+    index.rebuild();
+
+    // when
+    index.apply(ChannelMembershipChangedEvent.channelRemoved(channelId));
+    index.apply(ChannelMembershipChangedEvent.userRemoved(member));
+
+    // then
+    assertThat(index.findNotificationTargets(channelId)).contains(Set.of());
+    assertThat(index.findNotificationTargets(otherChannelId)).contains(Set.of(otherMember));
+  }
+
+  @Test
+  @DisplayName("재구성 중에 들어온 변경도 새 인덱스에 반영")
+  void rebuild_WithConcurrentChange_KeepsChange() {
+    // given - DB를 읽는 도중 새 참여자가 추가된다
+    UUID joined = UUID.randomUUID();
+    given(readStatusRepository.streamAllNotificationEnabled()).willAnswer(invocation -> {
+      index.apply(new ChannelMembershipChangedEvent(channelId, joined, true));
+      return Stream.of(new ChannelMemberView(channelId, member));
+    });
+
+    // when
+    index.rebuild();
+
+    // then
+    assertThat(index.findNotificationTargets(channelId)).contains(Set.of(member, joined));
+  }
+
+  @Test
+  @DisplayName("참여자가 많은 채널도 모든 알림 대상을 반환")
+  void findNotificationTargets_LargeChannel_ReturnsAllMembers() {
+    // given
+    int memberships = 100_000;
+    List<ChannelMemberView> rows = IntStream.range(0, memberships)
+        .mapToObj(i -> new ChannelMemberView(channelId, UUID.randomUUID()))
+        .toList();
+    given(readStatusRepository.streamAllNotificationEnabled()).willReturn(rows.stream());
+
+    // when
+    index.rebuild();
+
+    // then
+    Optional<Set<UUID>> targets = index.findNotificationTargets(channelId);
+    assertThat(targets).isPresent();
+    assertThat(targets.get()).hasSize(memberships);
+    assertThat(index.getMembershipCount()).isEqualTo(memberships);
+  }
+}
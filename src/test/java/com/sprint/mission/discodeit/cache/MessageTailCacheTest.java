@@ -0,0 +1,160 @@
+package com.sprint.mission.discodeit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("MessageTailCache 테스트")
+class MessageTailCacheTest {
+
+  private final UUID channelId = UUID.randomUUID();
+  private final Instant now = Instant.now();
+
+  private MessageTailCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new MessageTailCache(true, 3, DataSize.ofMegabytes(1), Duration.ofMinutes(5),
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("채워진 채널은 새 메시지를 반영해 최신순으로 반환")
+  void findLatest_AfterPopulateAndPut_ReturnsNewestFirst() {
+    // given
+    MessageDto older = message(channelId, now.minusSeconds(2));
+    MessageDto newer = message(channelId, now.minusSeconds(1));
+    cache.populate(channelId, cache.version(channelId), slice(List.of(newer, older), false));
+
+    // when
+    MessageDto latest = message(channelId, now);
+    cache.put(latest);
+    Optional<Slice<MessageDto>> result = cache.findLatest(channelId, 2);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getContent()).containsExactly(latest, newer);
+    assertThat(result.get().hasNext()).isTrue();
+    assertThat(cache.getHitRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("조회 중 채널이 변경되면 캐시를 채우지 않음")
+  void populate_WithConcurrentMutation_IsIgnored() {
+    // given
+    long version = cache.version(channelId);
+    cache.put(message(channelId, now));
+
+    // when
+    cache.populate(channelId, version, slice(List.of(message(channelId, now.minusSeconds(1))),
+        false));
+
+    // then
+    assertThat(cache.findLatest(channelId, 1)).isEmpty();
+    assertThat(cache.getChannelCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("메모리 한도를 넘으면 가장 오래 사용되지 않은 채널을 제거")
+  void populate_OverMemoryBudget_EvictsLeastRecentlyUsedChannel() {
+    // given
+    MessageDto sample = message(channelId, now);
+    cache.populate(channelId, cache.version(channelId), slice(List.of(sample), false));
+    long perChannelBytes = cache.getMemoryBytes();
+    cache = new MessageTailCache(true, 3, DataSize.ofBytes(perChannelBytes * 2),
+        Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    cache.populate(first, cache.version(first), slice(List.of(message(first, now)), false));
+    cache.populate(second, cache.version(second), slice(List.of(message(second, now)), false));
+    cache.findLatest(first, 1);
+
+    // when
+    cache.populate(third, cache.version(third), slice(List.of(message(third, now)), false));
+
+    // then
+    assertThat(cache.findLatest(first, 1)).isPresent();
+    assertThat(cache.findLatest(second, 1)).isEmpty();
+    assertThat(cache.findLatest(third, 1)).isPresent();
+  }
+
+  @Test
+  @DisplayName("용량만큼 채운 채널은 다음 페이지가 있어도 캐시에서 처리")
+  void findLatest_AfterFullPopulate_HitsWithNextPage() {
+    // given
+    MessageDto first = message(channelId, now);
+    MessageDto second = message(channelId, now.minusSeconds(1));
+    MessageDto third = message(channelId, now.minusSeconds(2));
+    cache.populate(channelId, cache.version(channelId), slice(List.of(first, second, third), true));
+
+    // when
+    Optional<Slice<MessageDto>> result = cache.findLatest(channelId, 2);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getContent()).containsExactly(first, second);
+    assertThat(result.get().hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("같은 메시지가 다시 전달되어도 한 번만 보관")
+  void put_SameMessageTwice_KeepsSingleEntry() {
+    // given
+    MessageDto older = message(channelId, now.minusSeconds(1));
+    cache.populate(channelId, cache.version(channelId), slice(List.of(older), false));
+    MessageDto latest = message(channelId, now);
+
+    // when
+    cache.put(latest);
+    cache.put(latest);
+
+    // then
+    assertThat(cache.findLatest(channelId, 3)).hasValueSatisfying(page ->
+        assertThat(page.getContent()).containsExactly(latest, older));
+  }
+
+  @Test
+  @DisplayName("ttl이 지난 채널은 DB에서 다시 조회")
+  void findLatest_AfterTtl_Misses() {
+    // given
+    cache = new MessageTailCache(true, 3, DataSize.ofMegabytes(1), Duration.ZERO,
+        new SimpleMeterRegistry());
+    cache.populate(channelId, cache.version(channelId), slice(List.of(message(channelId, now)),
+        false));
+
+    // when
+    Optional<Slice<MessageDto>> result = cache.findLatest(channelId, 1);
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(cache.getChannelCount()).isZero();
+    assertThat(cache.getMemoryBytes()).isZero();
+  }
+
+  private MessageDto message(UUID channelId, Instant createdAt) {
+    return new MessageDto(UUID.randomUUID(), createdAt, createdAt, "content", channelId,
+        new UserDto(UUID.randomUUID(), "user", "user@example.com", null, null, Role.USER),
+        List.of());
+  }
+
+  private Slice<MessageDto> slice(List<MessageDto> content, boolean hasNext) {
+    return new SliceImpl<>(content, PageRequest.of(0, 50), hasNext);
+  }
+}
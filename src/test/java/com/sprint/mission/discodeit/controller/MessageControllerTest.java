@@ -18,10 +18,14 @@ import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
+import com.sprint.mission.discodeit.service.MessageImportService;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.MessageSyncService;
+import com.sprint.mission.discodeit.storage.UploadSpool;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +54,15 @@ class MessageControllerTest {
   @MockitoBean
   private MessageService messageService;
 
+  @MockitoBean
+  private MessageImportService messageImportService;
+
+  @MockitoBean
+  private MessageSyncService messageSyncService;
+
+  @MockitoBean
+  private UploadSpool uploadSpool;
+
   @Test
   @DisplayName("메시지 생성 성공 테스트")
   void createMessage_Success() throws Exception {
@@ -286,7 +299,8 @@ class MessageControllerTest {
         (long) messages.size() // totalElements
     );
 
-    given(messageService.findAllByChannelId(eq(channelId), eq(cursor), any(Pageable.class)))
+    given(messageService.findAllByChannelId(eq(channelId), eq(cursor.toString()),
+        eq(PageDirection.OLDER), any(Pageable.class)))
         .willReturn(pageResponse);
 
     // When & Then
@@ -22,6 +22,7 @@ import com.sprint.mission.discodeit.dto.request.UserStatusUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
+import com.sprint.mission.discodeit.service.UserPresenceService;
 import com.sprint.mission.discodeit.service.UserService;
 import java.time.Instant;
 import java.util.List;
@@ -48,6 +49,9 @@ class UserControllerTest {
   @MockitoBean
   private UserService userService;
 
+  @MockitoBean
+  private UserPresenceService userPresenceService;
+
 
   @Test
   @DisplayName("사용자 생성 성공 테스트")
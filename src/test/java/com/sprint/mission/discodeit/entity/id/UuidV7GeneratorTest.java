@@ -0,0 +1,80 @@
+package com.sprint.mission.discodeit.entity.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7Generator 테스트")
+class UuidV7GeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+  @Test
+  @DisplayName("버전 7, RFC 변형 비트와 현재 시각을 담는다")
+  void generate_ReturnsVersion7WithTimestamp() {
+    // given
+    UuidV7Generator generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // when
+    UUID uuid = generator.generate();
+
+    // then
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+  }
+
+  @Test
+  @DisplayName("같은 밀리초 안에서 카운터가 넘쳐도 항상 증가한다")
+  void generate_WithinSameMillisecond_IsMonotonic() {
+    // given
+    UuidV7Generator generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // when
+    List<UUID> uuids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      uuids.add(generator.generate());
+    }
+
+    // then
+    for (int i = 1; i < uuids.size(); i++) {
+      assertThat(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(),
+          uuids.get(i).getMostSignificantBits())).isNegative();
+    }
+  }
+
+  @Test
+  @DisplayName("여러 스레드에서 동시에 생성해도 중복되지 않는다")
+  void generate_Concurrently_IsUnique() throws InterruptedException {
+    // given
+    UuidV7Generator generator = new UuidV7Generator();
+    Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    for (int i = 0; i < 8; i++) {
+      executor.submit(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          uuids.add(generator.generate());
+        }
+      });
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(uuids).hasSize(80_000);
+  }
+}
@@ -2,8 +2,16 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.dto.data.ChannelCursor;
+import com.sprint.mission.discodeit.dto.data.ChannelVersionDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -12,8 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * ChannelRepository 슬라이스 테스트
@@ -37,10 +48,18 @@ class ChannelRepositoryTest {
     return channelRepository.save(channel);
   }
 
+  /**
+   * TestFixture: 사용자를 채널에 참여시킨다
+   */
+  private void joinChannel(User user, Channel channel) {
+    entityManager.persist(new ReadStatus(user, channel, Instant.now()));
+  }
+
   @Test
-  @DisplayName("타입이 PUBLIC이거나 ID 목록에 포함된 채널을 모두 조회할 수 있다")
-  void findAllByTypeOrIdIn_ReturnsChannels() {
+  @DisplayName("사용자가 참여 중인 비공개 채널만 조회할 수 있다")
+  void findAllByTypeAndParticipantId_ReturnsJoinedPrivateChannels() {
     // given
+    User user = entityManager.persist(new User("testUser", "test@example.com", "password", null));
     Channel publicChannel1 = createTestChannel(ChannelType.PUBLIC, "공개채널1");
     Channel publicChannel2 = createTestChannel(ChannelType.PUBLIC, "공개채널2");
     Channel privateChannel1 = createTestChannel(ChannelType.PRIVATE, "비공개채널1");
@@ -48,49 +67,174 @@ class ChannelRepositoryTest {
 
     channelRepository.saveAll(
         Arrays.asList(publicChannel1, publicChannel2, privateChannel1, privateChannel2));
+    joinChannel(user, privateChannel1);
 
     // 영속성 컨텍스트 초기화
     entityManager.flush();
     entityManager.clear();
 
     // when
-    List<UUID> selectedPrivateIds = List.of(privateChannel1.getId());
-    List<Channel> foundChannels = channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC,
-        selectedPrivateIds);
+    List<Channel> foundChannels = channelRepository.findAllByTypeAndParticipantId(
+        ChannelType.PRIVATE, user.getId());
 
     // then
-    assertThat(foundChannels).hasSize(3); // 공개채널 2개 + 선택된 비공개채널 1개
-
-    // 공개 채널 2개가 모두 포함되어 있는지 확인
-    assertThat(
-        foundChannels.stream().filter(c -> c.getType() == ChannelType.PUBLIC).count()).isEqualTo(2);
-
-    // 선택된 비공개 채널만 포함되어 있는지 확인
-    List<Channel> privateChannels = foundChannels.stream()
-        .filter(c -> c.getType() == ChannelType.PRIVATE)
-        .toList();
-    assertThat(privateChannels).hasSize(1);
-    assertThat(privateChannels.get(0).getId()).isEqualTo(privateChannel1.getId());
+    assertThat(foundChannels).extracting(Channel::getId)
+        .containsExactly(privateChannel1.getId());
   }
 
   @Test
-  @DisplayName("타입이 PUBLIC이 아니고 ID 목록이 비어있으면 비어있는 리스트를 반환한다")
-  void findAllByTypeOrIdIn_EmptyList_ReturnsEmptyList() {
+  @DisplayName("타입으로 공개 채널만 조회할 수 있다")
+  void findAllByType_ReturnsPublicChannels() {
     // given
-    Channel privateChannel1 = createTestChannel(ChannelType.PRIVATE, "비공개채널1");
-    Channel privateChannel2 = createTestChannel(ChannelType.PRIVATE, "비공개채널2");
-
-    channelRepository.saveAll(Arrays.asList(privateChannel1, privateChannel2));
+    Channel publicChannel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    createTestChannel(ChannelType.PRIVATE, "비공개채널");
 
     // 영속성 컨텍스트 초기화
     entityManager.flush();
     entityManager.clear();
 
     // when
-    List<Channel> foundChannels = channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC,
-        List.of());
+    List<Channel> foundChannels = channelRepository.findAllByType(ChannelType.PUBLIC);
+
+    // then
+    assertThat(foundChannels).extracting(Channel::getId).containsExactly(publicChannel.getId());
+  }
+
+  @Test
+  @DisplayName("여러 채널의 마지막 메시지 시각을 한 번에 조회할 수 있다")
+  void findLastMessageAtByIdIn_ReturnsLastMessageAtPerChannel() {
+    // given
+    Channel activeChannel = createTestChannel(ChannelType.PUBLIC, "활성채널");
+    Channel emptyChannel = createTestChannel(ChannelType.PUBLIC, "빈채널");
+
+    Instant lastMessageAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Message older = new Message("이전 메시지", activeChannel, null, new ArrayList<>());
+    Message latest = new Message("마지막 메시지", activeChannel, null, new ArrayList<>());
+    ReflectionTestUtils.setField(older, "createdAt", lastMessageAt.minusSeconds(60));
+    ReflectionTestUtils.setField(latest, "createdAt", lastMessageAt);
+    entityManager.persist(older);
+    entityManager.persist(latest);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<ChannelLastMessageView> views = channelRepository.findLastMessageAtByIdIn(
+        List.of(activeChannel.getId(), emptyChannel.getId()));
+
+    // then
+    assertThat(views).containsExactlyInAnyOrder(
+        new ChannelLastMessageView(activeChannel.getId(), lastMessageAt),
+        new ChannelLastMessageView(emptyChannel.getId(), null));
+  }
+
+  @Test
+  @DisplayName("접근 가능한 채널을 이름순 키셋 페이지로 조회할 수 있다")
+  void findAccessibleIdsOrderByName_ReturnsNextPageAfterCursor() {
+    // given
+    User user = entityManager.persist(new User("testUser", "test@example.com", "password", null));
+    Channel alpha = createTestChannel(ChannelType.PUBLIC, "alpha");
+    Channel beta = createTestChannel(ChannelType.PUBLIC, "beta");
+    Channel joined = createTestChannel(ChannelType.PRIVATE, "gamma");
+    createTestChannel(ChannelType.PRIVATE, "delta");
+    joinChannel(user, joined);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<UUID> firstPage = channelRepository.findAccessibleIdsOrderByName(user.getId(), "",
+        new UUID(0, 0), 2);
+    List<UUID> secondPage = channelRepository.findAccessibleIdsOrderByName(user.getId(), "beta",
+        beta.getId(), 2);
+
+    // then
+    assertThat(firstPage).containsExactly(alpha.getId(), beta.getId());
+    assertThat(secondPage).containsExactly(joined.getId());
+  }
+
+  @Test
+  @DisplayName("접근 가능한 채널을 마지막 메시지 시각 내림차순으로 조회하고 메시지 없는 채널은 마지막에 둔다")
+  void findAccessibleIdsOrderByLastMessageAt_OrdersByLatestMessage() {
+    // given
+    User user = entityManager.persist(new User("testUser", "test@example.com", "password", null));
+    Channel quiet = createTestChannel(ChannelType.PUBLIC, "조용한채널");
+    Channel older = createTestChannel(ChannelType.PUBLIC, "이전채널");
+    Channel latest = createTestChannel(ChannelType.PUBLIC, "최근채널");
+
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Message olderMessage = new Message("이전 메시지", older, null, new ArrayList<>());
+    Message latestMessage = new Message("최근 메시지", latest, null, new ArrayList<>());
+    ReflectionTestUtils.setField(olderMessage, "createdAt", now.minusSeconds(60));
+    ReflectionTestUtils.setField(latestMessage, "createdAt", now);
+    entityManager.persist(olderMessage);
+    entityManager.persist(latestMessage);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<UUID> firstPage = channelRepository.findAccessibleIdsOrderByLastMessageAt(user.getId(),
+        ChannelCursor.LAST_MESSAGE_AT_UPPER_BOUND, new UUID(-1, -1), 2);
+    List<UUID> secondPage = channelRepository.findAccessibleIdsOrderByLastMessageAt(user.getId(),
+        now.minusSeconds(60), older.getId(), 2);
+
+    // then
+    assertThat(firstPage).containsExactly(latest.getId(), older.getId());
+    assertThat(secondPage).containsExactly(quiet.getId());
+  }
+
+  @Test
+  @DisplayName("접근 가능한 채널의 id와 버전을 id 오름차순으로 조회할 수 있다")
+  void findVersionsByTypeOrParticipantId_ReturnsVersionsInIdOrder() {
+    // given
+    User user = entityManager.persist(new User("testUser", "test@example.com", "password", null));
+    Channel publicChannel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    Channel joined = createTestChannel(ChannelType.PRIVATE, "참여채널");
+    createTestChannel(ChannelType.PRIVATE, "미참여채널");
+    joinChannel(user, joined);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    Slice<ChannelVersionDto> versions = channelRepository.findVersionsByTypeOrParticipantId(
+        ChannelType.PUBLIC, user.getId(), new UUID(0, 0), PageRequest.of(0, 10));
+
+    // then
+    assertThat(versions.getContent()).extracting(ChannelVersionDto::id)
+        .containsExactlyInAnyOrder(publicChannel.getId(), joined.getId());
+    assertThat(versions.getContent()).allSatisfy(
+        version -> assertThat(version.version()).isNotNull());
+    assertThat(versions.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("채널 버전은 마지막 메시지와 참여자 변경을 반영한다")
+  void findVersionsByTypeOrParticipantId_ReflectsLastMessageAndParticipants() {
+    // given
+    User user = entityManager.persist(new User("testUser", "test@example.com", "password", null));
+    Channel publicChannel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    Channel joined = createTestChannel(ChannelType.PRIVATE, "참여채널");
+    joinChannel(user, joined);
+
+    Instant lastMessageAt = Instant.now().plusSeconds(3600).truncatedTo(ChronoUnit.MILLIS);
+    Message message = new Message("최근 메시지", publicChannel, null, new ArrayList<>());
+    ReflectionTestUtils.setField(message, "createdAt", lastMessageAt);
+    entityManager.persist(message);
+    Instant participantsChangedAt = Instant.now().plusSeconds(7200).truncatedTo(ChronoUnit.MILLIS);
+    ReflectionTestUtils.setField(joined, "participantsChangedAt", participantsChangedAt);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    Slice<ChannelVersionDto> versions = channelRepository.findVersionsByTypeOrParticipantId(
+        ChannelType.PUBLIC, user.getId(), new UUID(0, 0), PageRequest.of(0, 10));
 
     // then
-    assertThat(foundChannels).isEmpty();
+    assertThat(versions.getContent()).containsExactlyInAnyOrder(
+        new ChannelVersionDto(publicChannel.getId(), lastMessageAt),
+        new ChannelVersionDto(joined.getId(), participantsChangedAt));
   }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentUploadStatus;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository.AttachmentRow;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository.MessageRow;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * MessageBulkInsertRepository 슬라이스 테스트
+ */
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import(MessageBulkInsertRepository.class)
+class MessageBulkInsertRepositoryTest {
+
+  @Autowired
+  private MessageBulkInsertRepository messageBulkInsertRepository;
+
+  @Autowired
+  private ChannelRepository channelRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("배치로 저장한 메시지와 첨부파일을 JPA로 조회할 수 있다")
+  void insertMessages_WithAttachments_ArePersisted() {
+    // given
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "import", "가져오기"));
+    User author = userRepository.save(new User("importer", "importer@example.com", "password", null));
+    entityManager.flush();
+
+    UUID messageId = UUID.randomUUID();
+    UUID attachmentId = UUID.randomUUID();
+    Instant createdAt = Instant.parse("2020-01-01T00:00:00Z");
+
+    // when
+    messageBulkInsertRepository.insertMessages(List.of(
+        new MessageRow(messageId, createdAt, "과거 메시지", channel.getId(), author.getId()),
+        new MessageRow(UUID.randomUUID(), createdAt.plusSeconds(1), "작성자 없음", channel.getId(),
+            null)
+    ));
+    messageBulkInsertRepository.insertAttachments(List.of(
+        new AttachmentRow(attachmentId, messageId, createdAt, "old.png", 10L, "image/png")
+    ));
+    entityManager.clear();
+
+    // then
+    Message message = entityManager.find(Message.class, messageId);
+    assertThat(message.getCreatedAt().truncatedTo(ChronoUnit.MILLIS)).isEqualTo(createdAt);
+    assertThat(message.getAuthor().getId()).isEqualTo(author.getId());
+    assertThat(message.getAttachments()).extracting(BinaryContent::getId)
+        .containsExactly(attachmentId);
+    assertThat(message.getAttachments().get(0).getUploadStatus())
+        .isEqualTo(BinaryContentUploadStatus.SUCCESS);
+  }
+
+  @Test
+  @DisplayName("존재하는 사용자 id만 반환한다")
+  void findExistingUserIds_ReturnsOnlyExistingIds() {
+    // given
+    User user = userRepository.save(new User("existing", "existing@example.com", "password", null));
+    entityManager.flush();
+
+    // when
+    List<UUID> result = messageBulkInsertRepository.findExistingUserIds(
+        List.of(user.getId(), UUID.randomUUID()));
+
+    // then
+    assertThat(result).containsExactly(user.getId());
+  }
+
+  @Test
+  @DisplayName("이미 저장된 메시지 id만 조회한다")
+  void findExistingMessageIds() {
+    // given
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "import", "가져오기"));
+    entityManager.flush();
+    UUID existingId = UUID.randomUUID();
+    messageBulkInsertRepository.insertMessages(List.of(
+        new MessageRow(existingId, Instant.parse("2020-01-01T00:00:00Z"), "과거 메시지",
+            channel.getId(), null)));
+
+    // when
+    List<UUID> result = messageBulkInsertRepository.findExistingMessageIds(
+        List.of(existingId, UUID.randomUUID()));
+
+    // then
+    assertThat(result).containsExactly(existingId);
+  }
+}
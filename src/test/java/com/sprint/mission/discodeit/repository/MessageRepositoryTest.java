@@ -12,7 +12,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import org.hibernate.Hibernate;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +20,6 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -81,8 +80,8 @@ class MessageRepositoryTest {
   }
 
   @Test
-  @DisplayName("채널 ID와 생성 시간으로 메시지를 페이징하여 조회할 수 있다")
-  void findAllByChannelIdWithAuthor_ReturnsMessagesWithAuthor() {
+  @DisplayName("채널 ID로 최신 메시지를 페이징하여 조회할 수 있다")
+  void findLatestViewsByChannelId_ReturnsMessagesWithAuthor() {
     // given
     User user = createTestUser("testUser", "test@example.com");
     Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
@@ -100,11 +99,10 @@ class MessageRepositoryTest {
     entityManager.flush();
     entityManager.clear();
 
-    // when - 최신 메시지보다 이전 시간으로 조회
-    Slice<Message> messages = messageRepository.findAllByChannelIdWithAuthor(
+    // when - 커서 없이 최신 메시지부터 조회
+    Slice<MessageView> messages = messageRepository.findLatestViewsByChannelId(
         channel.getId(),
-        now.plus(1, ChronoUnit.MINUTES),  // 현재 시간보다 더 미래
-        PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"))
+        PageRequest.of(0, 2)
     );
 
     // then
@@ -114,13 +112,100 @@ class MessageRepositoryTest {
     assertThat(messages.hasNext()).isTrue();
 
     // 시간 역순(최신순)으로 정렬되어 있는지 확인
-    List<Message> content = messages.getContent();
-    assertThat(content.get(0).getCreatedAt()).isAfterOrEqualTo(content.get(1).getCreatedAt());
+    List<MessageView> content = messages.getContent();
+    assertThat(content.get(0).createdAt()).isAfterOrEqualTo(content.get(1).createdAt());
+
+    // 작성자와 프로필 정보가 같은 행에 함께 조회되었는지 확인
+    MessageView firstMessage = content.get(0);
+    assertThat(firstMessage.authorId()).isEqualTo(user.getId());
+    assertThat(firstMessage.authorUsername()).isEqualTo("testUser");
+    assertThat(firstMessage.profileId()).isEqualTo(user.getProfile().getId());
+    assertThat(firstMessage.profileFileName()).isEqualTo("profile.jpg");
+  }
+
+  @Test
+  @DisplayName("생성 시간이 같은 메시지도 키셋 커서로 누락/중복 없이 조회할 수 있다")
+  void findViewsByChannelIdBefore_SameCreatedAt_NoSkipOrDuplicate() {
+    // given
+    User user = createTestUser("testUser", "test@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
+
+    Instant sameTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    List<UUID> createdIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      createdIds.add(createTestMessage("메시지 " + i, channel, user, sameTime).getId());
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when - 페이지 크기 2로 끝까지 조회
+    List<UUID> fetchedIds = new ArrayList<>();
+    Slice<MessageView> page = messageRepository.findLatestViewsByChannelId(channel.getId(),
+        PageRequest.of(0, 2));
+    page.forEach(message -> fetchedIds.add(message.id()));
+    while (page.hasNext()) {
+      MessageView last = page.getContent().get(page.getNumberOfElements() - 1);
+      page = messageRepository.findViewsByChannelIdBefore(channel.getId(),
+          last.createdAt(), last.id(), PageRequest.of(0, 2));
+      page.forEach(message -> fetchedIds.add(message.id()));
+    }
+
+    // then
+    assertThat(fetchedIds).hasSize(5);
+    assertThat(fetchedIds).containsExactlyInAnyOrderElementsOf(createdIds);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 새 메시지를 오래된 순으로 조회할 수 있다")
+  void findViewsByChannelIdAfter_ReturnsNewerMessagesAscending() {
+    // given
+    User user = createTestUser("testUser", "test@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
 
-    // 저자 정보가 함께 로드되었는지 확인 (FETCH JOIN)
-    Message firstMessage = content.get(0);
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor())).isTrue();
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor().getProfile())).isTrue();
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Message oldMessage = createTestMessage("오래된 메시지", channel, user,
+        now.minus(10, ChronoUnit.MINUTES));
+    createTestMessage("새 메시지 1", channel, user, now.minus(5, ChronoUnit.MINUTES));
+    createTestMessage("새 메시지 2", channel, user, now);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    Slice<MessageView> messages = messageRepository.findViewsByChannelIdAfter(
+        channel.getId(), oldMessage.getCreatedAt(), oldMessage.getId(), PageRequest.of(0, 10));
+
+    // then
+    assertThat(messages.getContent()).extracting(MessageView::content)
+        .containsExactly("새 메시지 1", "새 메시지 2");
+  }
+
+  @Test
+  @DisplayName("여러 메시지의 첨부파일을 한 번에 조회할 수 있다")
+  void findAttachmentViewsByMessageIdIn_ReturnsAttachmentsOfGivenMessages() {
+    // given
+    User user = createTestUser("testUser", "test@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
+
+    Message withAttachments = messageRepository.save(new Message("첨부 메시지", channel, user,
+        new ArrayList<>(List.of(
+            new BinaryContent("a.png", 10L, "image/png"),
+            new BinaryContent("b.png", 20L, "image/png")))));
+    Message withoutAttachments = createTestMessage("일반 메시지", channel, user, null);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<MessageAttachmentView> attachments = messageRepository.findAttachmentViewsByMessageIdIn(
+        List.of(withAttachments.getId(), withoutAttachments.getId()));
+
+    // then
+    assertThat(attachments).extracting(MessageAttachmentView::messageId)
+        .containsOnly(withAttachments.getId());
+    assertThat(attachments).extracting(MessageAttachmentView::fileName)
+        .containsExactlyInAnyOrder("a.png", "b.png");
   }
 
   @Test
@@ -199,17 +284,15 @@ class MessageRepositoryTest {
 
     // then
     // 해당 채널의 메시지는 삭제되었는지 확인
-    List<Message> channelMessages = messageRepository.findAllByChannelIdWithAuthor(
+    List<MessageView> channelMessages = messageRepository.findLatestViewsByChannelId(
         channel.getId(),
-        Instant.now().plus(1, ChronoUnit.DAYS),
         PageRequest.of(0, 100)
     ).getContent();
     assertThat(channelMessages).isEmpty();
 
     // 다른 채널의 메시지는 그대로인지 확인
-    List<Message> otherChannelMessages = messageRepository.findAllByChannelIdWithAuthor(
+    List<MessageView> otherChannelMessages = messageRepository.findLatestViewsByChannelId(
         otherChannel.getId(),
-        Instant.now().plus(1, ChronoUnit.DAYS),
         PageRequest.of(0, 100)
     ).getContent();
     assertThat(otherChannelMessages).hasSize(1);
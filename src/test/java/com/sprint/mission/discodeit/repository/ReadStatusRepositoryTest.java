@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
 import java.time.Instant;
@@ -18,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * ReadStatusRepository 슬라이스 테스트
@@ -36,6 +38,9 @@ class ReadStatusRepositoryTest {
   @Autowired
   private ChannelRepository channelRepository;
 
+  @Autowired
+  private MessageRepository messageRepository;
+
   @Autowired
   private TestEntityManager entityManager;
 
@@ -194,4 +199,75 @@ class ReadStatusRepositoryTest {
         otherChannel.getId());
     assertThat(otherChannelReadStatuses).hasSize(1);
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("메시지 생성/삭제 시 아직 읽지 않은 다른 참여자의 안 읽은 메시지 수만 증감한다")
+  void incrementAndDecrementUnreadCounts_OnlyForOtherUnreadParticipants() {
+    // given
+    User author = createTestUser("author", "author@example.com");
+    User reader = createTestUser("reader", "reader@example.com");
+    User upToDateReader = createTestUser("upToDate", "upToDate@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "채널");
+
+    Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
+    ReadStatus authorStatus = createTestReadStatus(author, channel, yesterday);
+    ReadStatus readerStatus = createTestReadStatus(reader, channel, yesterday);
+    ReadStatus upToDateStatus = createTestReadStatus(upToDateReader, channel,
+        Instant.now().plus(1, ChronoUnit.HOURS));
+    Message message = messageRepository.save(new Message("안녕", channel, author, List.of()));
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    readStatusRepository.incrementUnreadCounts(channel.getId(), List.of(message.getId()));
+    entityManager.clear();
+
+    // then
+    assertThat(readStatusRepository.findById(readerStatus.getId()).orElseThrow()
+        .getUnreadCount()).isEqualTo(1);
+    assertThat(readStatusRepository.findById(authorStatus.getId()).orElseThrow()
+        .getUnreadCount()).isZero();
+    assertThat(readStatusRepository.findById(upToDateStatus.getId()).orElseThrow()
+        .getUnreadCount()).isZero();
+
+    // when
+    readStatusRepository.decrementUnreadCounts(message.getId());
+    entityManager.clear();
+
+    // then
+    assertThat(readStatusRepository.findById(readerStatus.getId()).orElseThrow()
+        .getUnreadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("모아서 늘릴 때는 안 읽은 메시지 수를 다시 계산한 기준 시각 이후에 작성된 메시지만 센다")
+  void incrementUnreadCountsSinceRecount_SkipsMessagesAlreadyRecounted() {
+    // given
+    User author = createTestUser("author", "author@example.com");
+    User reader = createTestUser("reader", "reader@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "채널");
+
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    ReadStatus readerStatus = createTestReadStatus(reader, channel, now.minus(1, ChronoUnit.DAYS));
+    Message recounted = new Message("다시 계산에 포함됨", channel, author, List.of());
+    Message newer = new Message("다시 계산 이후", channel, author, List.of());
+    ReflectionTestUtils.setField(recounted, "createdAt", now.minusSeconds(60));
+    ReflectionTestUtils.setField(newer, "createdAt", now.plusSeconds(60));
+    messageRepository.save(recounted);
+    messageRepository.save(newer);
+    readerStatus.updateUnreadCount(1, now);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    readStatusRepository.incrementUnreadCountsSinceRecount(channel.getId(),
+        List.of(recounted.getId(), newer.getId()));
+    entityManager.clear();
+
+    // then
+    assertThat(readStatusRepository.findById(readerStatus.getId()).orElseThrow()
+        .getUnreadCount()).isEqualTo(2);
+  }
+}
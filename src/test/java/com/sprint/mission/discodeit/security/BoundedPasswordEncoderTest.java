@@ -0,0 +1,80 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    encoder.destroy();
+  }
+
+  @Test
+  @DisplayName("전용 스레드 풀에서 해시를 만들고 검증한다")
+  void encodeAndMatches() {
+    // given
+    encoder = new BoundedPasswordEncoder(4, 2, 8, Duration.ofSeconds(5), meterRegistry);
+
+    // when
+    String encoded = encoder.encode("password");
+
+    // then
+    assertThat(encoded).startsWith("$2a$04$");
+    assertThat(encoder.matches("password", encoded)).isTrue();
+    assertThat(encoder.matches("wrong", encoded)).isFalse();
+  }
+
+  @Test
+  @DisplayName("저장된 해시의 cost가 설정과 다르면 높든 낮든 재해시 대상이다")
+  void upgradeEncoding_WhenCostDiffers() {
+    // given
+    encoder = new BoundedPasswordEncoder(5, 1, 8, Duration.ofSeconds(5), meterRegistry);
+
+    // when & then
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))).isTrue();
+    assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+    assertThat(encoder.upgradeEncoding(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 기다리지 않고 거절하며 로그인 경로에서는 인증 서비스 예외로 감싼다")
+  void rejectsWhenSaturated() throws InterruptedException {
+    // given: 스레드 1개, 대기열 1개에 느린 해시 작업을 계속 넣는다
+    encoder = new BoundedPasswordEncoder(14, 1, 1, Duration.ofSeconds(30), meterRegistry);
+    ExecutorService callers = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8; i++) {
+      CompletableFuture.runAsync(() -> encoder.encode("password"), callers);
+    }
+    while (meterRegistry.get(BoundedPasswordEncoder.METRIC_PREFIX + ".queue").gauge().value() < 1) {
+      Thread.sleep(10);
+    }
+
+    try {
+      // when & then
+      assertThatThrownBy(() -> encoder.matches("password", "$2a$14$invalidinvalidinvalidinvalidinv"))
+          .isInstanceOf(AuthenticationServiceException.class)
+          .hasCauseInstanceOf(PasswordHashingBusyException.class);
+      assertThat(meterRegistry.get(BoundedPasswordEncoder.METRIC_PREFIX + ".rejected")
+          .counter().count()).isGreaterThanOrEqualTo(1);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+}
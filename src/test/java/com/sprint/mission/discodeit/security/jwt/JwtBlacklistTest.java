@@ -0,0 +1,99 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.security.jwt.revocation.RevokedTokenFilter;
+import com.sprint.mission.discodeit.security.jwt.revocation.TokenFingerprint;
+import com.sprint.mission.discodeit.security.jwt.revocation.local.LocalTokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtBlacklistTest {
+
+  private final LocalTokenRevocationStore revocationStore = new LocalTokenRevocationStore();
+
+  private JwtBlacklist createNode() {
+    return new JwtBlacklist(revocationStore, 1000, new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("한 노드에서 폐기한 토큰은 저장소를 공유하는 다른 노드에서도 폐기된 것으로 보인다")
+  void put_PropagatesToOtherNodes() {
+    // given
+    JwtBlacklist nodeA = createNode();
+    JwtBlacklist nodeB = createNode();
+    String token = "header." + UUID.randomUUID() + ".signature";
+
+    // when
+    nodeA.put(token, Instant.now().plus(Duration.ofMinutes(10)));
+
+    // then
+    assertThat(nodeA.contains(token)).isTrue();
+    assertThat(nodeB.contains(token)).isTrue();
+    assertThat(nodeB.contains(token + "x")).isFalse();
+  }
+
+  @Test
+  @DisplayName("나중에 시작한 노드는 동기화 시 기존 폐기 목록을 적재하고 만료 항목은 버린다")
+  void resync_LoadsUnexpiredRevocations() {
+    // given
+    String active = "header." + UUID.randomUUID() + ".signature";
+    String expired = "header." + UUID.randomUUID() + ".signature";
+    JwtBlacklist nodeA = createNode();
+    nodeA.put(active, Instant.now().plus(Duration.ofMinutes(10)));
+    nodeA.put(expired, Instant.now().minusSeconds(1));
+    JwtBlacklist nodeB = createNode();
+
+    // when
+    nodeA.resync();
+    nodeB.resync();
+
+    // then
+    assertThat(nodeA.contains(active)).isTrue();
+    assertThat(nodeA.contains(expired)).isFalse();
+    assertThat(nodeB.contains(active)).isTrue();
+    assertThat(nodeB.contains(expired)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Bloom 필터는 넣은 토큰을 놓치지 않고 오탐률은 설정 범위 안에 있다")
+  void revokedTokenFilter_FalsePositiveRate() {
+    // given
+    RevokedTokenFilter filter = RevokedTokenFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.add(TokenFingerprint.of("revoked-" + i));
+    }
+
+    // when
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain("active-" + i)) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(filter.mightContain("revoked-" + i)).isTrue();
+    }
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  @DisplayName("토큰 지문은 문자열로 저장했다가 그대로 복원된다")
+  void tokenFingerprint_RoundTrip() {
+    // given
+    TokenFingerprint fingerprint = TokenFingerprint.of("header.payload.signature");
+
+    // when
+    TokenFingerprint parsed = TokenFingerprint.parse(fingerprint.toString());
+
+    // then
+    assertThat(parsed).isEqualTo(fingerprint);
+    assertThat(fingerprint.toString()).hasSize(32);
+  }
+}
@@ -0,0 +1,131 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.jwt.revocation.local.LocalTokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtServiceAuthenticateTest {
+
+  private static final String SECRET = "test-secret-test-secret-test-secret-test-secret";
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JwtBlacklist jwtBlacklist;
+  private JwtService jwtService;
+  private UserDto userDto;
+
+  @BeforeEach
+  void setUp() {
+    jwtBlacklist = new JwtBlacklist(new LocalTokenRevocationStore(), 1000, meterRegistry);
+    jwtService = new JwtService(null, null, null, objectMapper, jwtBlacklist,
+        new VerifiedTokenCache(100, meterRegistry));
+    ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+    userDto = new UserDto(UUID.randomUUID(), "testUser", "test@example.com", null, null,
+        Role.USER);
+  }
+
+  private String createToken(String secret, Instant expirationTime) throws Exception {
+    JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+        .subject(userDto.id().toString())
+        .jwtID(UUID.randomUUID().toString())
+        .claim(JwtService.ROLE_CLAIM, userDto.role().name())
+        .claim(JwtService.VERSION_CLAIM, 42L)
+        .issueTime(new Date())
+        .expirationTime(Date.from(expirationTime))
+        .build();
+    return sign(secret, claimsSet);
+  }
+
+  private String sign(String secret, JWTClaimsSet claimsSet) throws Exception {
+    SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+    signedJWT.sign(new MACSigner(secret));
+    return signedJWT.serialize();
+  }
+
+  private double cacheHits() {
+    return meterRegistry.get(VerifiedTokenCache.METRIC_PREFIX + ".requests")
+        .tag("result", "hit").counter().count();
+  }
+
+  @Test
+  @DisplayName("검증된 토큰은 두 번째 요청부터 캐시에서 인증된다")
+  void authenticate_CachesVerifiedToken() throws Exception {
+    // given
+    String token = createToken(SECRET, Instant.now().plus(Duration.ofMinutes(10)));
+
+    // when
+    JwtObject first = jwtService.authenticate(token).orElseThrow();
+    JwtObject second = jwtService.authenticate(token).orElseThrow();
+
+    // then
+    assertThat(first.userId()).isEqualTo(userDto.id());
+    assertThat(first.role()).isEqualTo(Role.USER);
+    assertThat(first.version()).isEqualTo(42L);
+    assertThat(second).isEqualTo(first);
+    assertThat(cacheHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("사용자 정보 전체를 담은 이전 형식의 토큰은 인증되지 않는다")
+  void authenticate_RejectsLegacyClaims() throws Exception {
+    // given
+    String legacy = sign(SECRET, new JWTClaimsSet.Builder()
+        .subject(userDto.username())
+        .claim("userDto", objectMapper.convertValue(userDto, Map.class))
+        .issueTime(new Date())
+        .expirationTime(Date.from(Instant.now().plus(Duration.ofMinutes(10))))
+        .build());
+
+    // when & then
+    assertThat(jwtService.authenticate(legacy)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("캐시된 토큰이라도 블랙리스트에 오르면 인증되지 않는다")
+  void authenticate_HonorsBlacklistForCachedToken() throws Exception {
+    // given
+    Instant expirationTime = Instant.now().plus(Duration.ofMinutes(10));
+    String token = createToken(SECRET, expirationTime);
+    jwtService.authenticate(token);
+
+    // when
+    jwtBlacklist.put(token, expirationTime);
+
+    // then
+    assertThat(jwtService.authenticate(token)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("서명이 다르거나 만료된 토큰은 인증되지 않고 캐시되지 않는다")
+  void authenticate_RejectsInvalidTokens() throws Exception {
+    // given
+    String forged = createToken("other-secret-other-secret-other-secret-other",
+        Instant.now().plus(Duration.ofMinutes(10)));
+    String expired = createToken(SECRET, Instant.now().minusSeconds(1));
+
+    // when & then
+    assertThat(jwtService.authenticate(forged)).isEmpty();
+    assertThat(jwtService.authenticate(expired)).isEmpty();
+    assertThat(jwtService.authenticate(expired)).isEmpty();
+    assertThat(cacheHits()).isZero();
+  }
+}
@@ -0,0 +1,120 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserSnapshotCacheTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private UserMapper userMapper;
+
+  private UserSnapshotCache userSnapshotCache;
+  private UUID userId;
+  private User user;
+  private UserDto userDto;
+
+  @BeforeEach
+  void setUp() {
+    userSnapshotCache = new UserSnapshotCache(userRepository, userMapper, 100,
+        Duration.ofMinutes(5), new SimpleMeterRegistry());
+    userId = UUID.randomUUID();
+    user = new User("testUser", "test@example.com", "password", null);
+    ReflectionTestUtils.setField(user, "id", userId);
+    ReflectionTestUtils.setField(user, "updatedAt", Instant.ofEpochMilli(1_000));
+    userDto = new UserDto(userId, "testUser", "test@example.com", null, null, Role.USER);
+  }
+
+  @Test
+  @DisplayName("같은 버전 이하의 토큰은 DB 조회 없이 캐시된 사용자 정보로 인증된다")
+  void get_ReturnsCachedSnapshot() {
+    // given
+    given(userRepository.findWithProfileById(userId)).willReturn(Optional.of(user));
+    given(userMapper.toDto(user)).willReturn(userDto);
+
+    // when
+    Optional<UserDto> first = userSnapshotCache.get(userId, 1_000);
+    Optional<UserDto> second = userSnapshotCache.get(userId, 500);
+
+    // then
+    assertThat(first).contains(userDto);
+    assertThat(second).contains(userDto);
+    verify(userRepository, times(1)).findWithProfileById(userId);
+  }
+
+  @Test
+  @DisplayName("토큰 버전이 캐시보다 새로우면 다시 조회하고, 제거된 항목도 다시 조회한다")
+  void get_ReloadsStaleOrEvictedSnapshot() {
+    // given
+    given(userRepository.findWithProfileById(userId)).willReturn(Optional.of(user));
+    given(userMapper.toDto(any(User.class))).willReturn(userDto);
+    userSnapshotCache.get(userId, 1_000);
+
+    // when
+    ReflectionTestUtils.setField(user, "updatedAt", Instant.ofEpochMilli(2_000));
+    userSnapshotCache.get(userId, 2_000);
+    userSnapshotCache.evict(userId);
+    userSnapshotCache.get(userId, 0);
+
+    // then
+    verify(userRepository, times(3)).findWithProfileById(userId);
+  }
+
+  @Test
+  @DisplayName("삭제된 사용자는 인증 주체를 찾지 못한다")
+  void get_WhenUserDeleted() {
+    // given
+    given(userRepository.findWithProfileById(userId)).willReturn(Optional.empty());
+
+    // when
+    Optional<UserDto> result = userSnapshotCache.get(userId, 0);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘겨 적재해도 크기는 제한되고, 가장 최근 사용자는 캐시된다")
+  void get_WhenFull_EvictsLeastRecentlyUsed() {
+    // given
+    given(userRepository.findWithProfileById(any(UUID.class))).willReturn(Optional.of(user));
+    given(userMapper.toDto(user)).willReturn(userDto);
+    for (int i = 0; i < 100; i++) {
+      userSnapshotCache.get(UUID.randomUUID(), 0);
+    }
+    UUID newestUserId = UUID.randomUUID();
+    userSnapshotCache.get(newestUserId, 0);
+
+    // when
+    Optional<UserDto> result = userSnapshotCache.get(newestUserId, 0);
+
+    // then
+    assertThat(result).contains(userDto);
+    assertThat(userSnapshotCache.size()).isLessThanOrEqualTo(100);
+    verify(userRepository, times(1)).findWithProfileById(newestUserId);
+  }
+}
@@ -0,0 +1,47 @@
+package com.sprint.mission.discodeit.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+  private JwtObject jwtObject(String token, Instant expirationTime) {
+    return new JwtObject(Instant.now(), expirationTime, UUID.randomUUID(), Role.USER, 1L, token);
+  }
+
+  @Test
+  @DisplayName("가득 차면 오래 쓰이지 않은 항목을 밀어내고 새 토큰은 계속 캐시한다")
+  void put_WhenFull_EvictsLeastRecentlyUsed() {
+    // given
+    VerifiedTokenCache cache = new VerifiedTokenCache(16, new SimpleMeterRegistry());
+    Instant expirationTime = Instant.now().plusSeconds(600);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      cache.put(jwtObject("token-" + i, expirationTime));
+    }
+
+    // then
+    assertThat(cache.size()).isLessThanOrEqualTo(16);
+    assertThat(cache.get("token-99")).hasValueSatisfying(
+        jwtObject -> assertThat(jwtObject.token()).isEqualTo("token-99"));
+  }
+
+  @Test
+  @DisplayName("만료된 항목은 조회되지 않고 제거된다")
+  void get_WhenExpired_RemovesEntry() {
+    // given
+    VerifiedTokenCache cache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+    cache.put(jwtObject("expired", Instant.now().minusSeconds(1)));
+
+    // when & then
+    assertThat(cache.get("expired")).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -0,0 +1,66 @@
+package com.sprint.mission.discodeit.security.jwt.session.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.security.jwt.JwtSession;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalJwtSessionStoreTest {
+
+  private final LocalJwtSessionStore store = new LocalJwtSessionStore();
+  private final UUID userId = UUID.randomUUID();
+
+  private JwtSession createSession(String accessToken, String refreshToken) {
+    return new JwtSession(userId, accessToken, refreshToken,
+        Instant.now().plus(Duration.ofMinutes(10)));
+  }
+
+  @Test
+  @DisplayName("refresh token을 갱신하면 새 토큰과 사용자 id로 조회되고 이전 토큰으로는 조회되지 않는다")
+  void save_RotatesRefreshToken() {
+    // given
+    JwtSession session = createSession("access-1", "refresh-1");
+    store.save(session, Duration.ofHours(1));
+
+    // when
+    session.update("access-2", "refresh-2", Instant.now().plus(Duration.ofMinutes(10)));
+    store.save(session, Duration.ofHours(1));
+
+    // then
+    assertThat(store.findByRefreshToken("refresh-1")).isEmpty();
+    assertThat(store.findByRefreshToken("refresh-2"))
+        .hasValueSatisfying(found -> assertThat(found.getAccessToken()).isEqualTo("access-2"));
+    assertThat(store.findByUserId(userId))
+        .hasValueSatisfying(found -> assertThat(found.getRefreshToken()).isEqualTo("refresh-2"));
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 세션은 조회되지 않는다")
+  void find_WhenExpired() {
+    // given
+    store.save(createSession("access-1", "refresh-1"), Duration.ZERO);
+
+    // when & then
+    assertThat(store.findByRefreshToken("refresh-1")).isEmpty();
+    assertThat(store.findByUserId(userId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("삭제한 세션은 두 키 모두로 조회되지 않는다")
+  void delete() {
+    // given
+    JwtSession session = createSession("access-1", "refresh-1");
+    store.save(session, Duration.ofHours(1));
+
+    // when
+    store.delete(store.findByUserId(userId).orElseThrow());
+
+    // then
+    assertThat(store.findByRefreshToken("refresh-1")).isEmpty();
+    assertThat(store.findByUserId(userId)).isEmpty();
+  }
+}
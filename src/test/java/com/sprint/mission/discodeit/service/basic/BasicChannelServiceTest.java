@@ -3,24 +3,33 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.sprint.mission.discodeit.dto.data.ChannelCursor;
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.request.ChannelSort;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelPurge;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
+import com.sprint.mission.discodeit.repository.ChannelPurgeRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import java.time.Instant;
@@ -34,6 +43,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +56,7 @@ class BasicChannelServiceTest {
   private ReadStatusRepository readStatusRepository;
 
   @Mock
-  private MessageRepository messageRepository;
+  private ChannelPurgeRepository channelPurgeRepository;
 
   @Mock
   private UserRepository userRepository;
@@ -54,6 +64,15 @@ class BasicChannelServiceTest {
   @Mock
   private ChannelMapper channelMapper;
 
+  @Mock
+  private ChannelListLoader channelListLoader;
+
+  @Mock
+  private PageResponseMapper pageResponseMapper;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private BasicChannelService channelService;
 
@@ -139,20 +158,20 @@ class BasicChannelServiceTest {
   }
 
   @Test
-  @DisplayName("사용자별 채널 목록 조회 성공")
+  @DisplayName("사용자별 채널 목록 조회 시 공개 채널과 비공개 채널 목록을 합쳐서 반환")
   void findAllByUserId_Success() {
     // given
-    List<ReadStatus> readStatuses = List.of(new ReadStatus(user, channel, Instant.now()));
-    given(readStatusRepository.findAllByUserId(eq(userId))).willReturn(readStatuses);
-    given(channelRepository.findAllByTypeOrIdIn(eq(ChannelType.PUBLIC), eq(List.of(channel.getId()))))
-        .willReturn(List.of(channel));
-    given(channelMapper.toDto(any(Channel.class))).willReturn(channelDto);
+    ChannelDto privateChannelDto = new ChannelDto(UUID.randomUUID(), ChannelType.PRIVATE, null,
+        null, List.of(), Instant.now());
+    given(channelListLoader.findPublicChannels()).willReturn(List.of(channelDto));
+    given(channelListLoader.findPrivateChannels(eq(userId)))
+        .willReturn(List.of(privateChannelDto));
 
     // when
     List<ChannelDto> result = channelService.findAllByUserId(userId);
 
     // then
-    assertThat(result).containsExactly(channelDto);
+    assertThat(result).containsExactly(channelDto, privateChannelDto);
   }
 
   @Test
@@ -204,25 +223,81 @@ class BasicChannelServiceTest {
   @DisplayName("채널 삭제 성공")
   void deleteChannel_Success() {
     // given
-    given(channelRepository.existsById(eq(channelId))).willReturn(true);
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
 
     // when
     channelService.delete(channelId);
 
     // then
-    verify(messageRepository).deleteAllByChannelId(eq(channelId));
+    assertThat(channel.getDeletedAt()).isNotNull();
     verify(readStatusRepository).deleteAllByChannelId(eq(channelId));
-    verify(channelRepository).deleteById(eq(channelId));
+    verify(channelPurgeRepository).save(any(ChannelPurge.class));
+    verify(channelRepository, never()).deleteById(any());
+    verify(eventPublisher).publishEvent(eq(new ChannelDeletedEvent(channelId, List.of())));
+  }
+
+  @Test
+  @DisplayName("비공개 채널 삭제 시 참여자 목록을 이벤트로 전달")
+  void deletePrivateChannel_PublishesParticipantIds() {
+    // given
+    Channel privateChannel = new Channel(ChannelType.PRIVATE, null, null);
+    ReflectionTestUtils.setField(privateChannel, "id", channelId);
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(privateChannel));
+    given(readStatusRepository.findUserIdsByChannelId(eq(channelId))).willReturn(List.of(userId));
+
+    // when
+    channelService.delete(channelId);
+
+    // then
+    verify(eventPublisher).publishEvent(eq(new ChannelDeletedEvent(channelId, List.of(userId))));
   }
 
   @Test
   @DisplayName("존재하지 않는 채널 삭제 시도 시 실패")
   void deleteChannel_WithNonExistentId_ThrowsException() {
     // given
-    given(channelRepository.existsById(eq(channelId))).willReturn(false);
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.empty());
 
     // when & then
     assertThatThrownBy(() -> channelService.delete(channelId))
         .isInstanceOf(ChannelNotFoundException.class);
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("채널 목록 페이지 조회 시 한 건 더 조회해 다음 페이지 여부와 커서를 만든다")
+  void findChannelPage_ByName_ReturnsPageWithNextCursor() {
+    // given
+    Channel secondChannel = new Channel(ChannelType.PUBLIC, "zChannel", channelDescription);
+    UUID secondChannelId = UUID.randomUUID();
+    ReflectionTestUtils.setField(secondChannel, "id", secondChannelId);
+
+    given(channelRepository.findAccessibleIdsOrderByName(eq(userId), eq(""), any(UUID.class),
+        eq(2))).willReturn(List.of(channelId, secondChannelId));
+    given(channelRepository.findAllById(eq(List.of(channelId)))).willReturn(List.of(channel));
+    given(channelMapper.toDtos(eq(List.of(channel)))).willReturn(List.of(channelDto));
+
+    String nextCursor = new ChannelCursor(channelId, channelName).encode();
+    PageResponse<ChannelDto> response = new PageResponse<>(List.of(channelDto), nextCursor, 1,
+        true, null);
+    given(pageResponseMapper.<ChannelDto>fromSlice(any(), eq(nextCursor))).willReturn(response);
+
+    // when
+    PageResponse<ChannelDto> result = channelService.findAllByUserId(userId, ChannelSort.NAME,
+        null, 1);
+
+    // then
+    assertThat(result).isEqualTo(response);
+    verify(channelRepository, never()).findAllById(eq(List.of(channelId, secondChannelId)));
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 채널 목록 페이지를 조회하면 예외가 발생한다")
+  void findChannelPage_WithMalformedCursor_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> channelService.findAllByUserId(userId, ChannelSort.LAST_MESSAGE_AT,
+        "not-a-cursor", 50))
+        .isInstanceOf(DiscodeitException.class);
+    verify(channelRepository, never()).findAccessibleIdsOrderByLastMessageAt(any(), any(), any(),
+        anyInt());
+  }
+}
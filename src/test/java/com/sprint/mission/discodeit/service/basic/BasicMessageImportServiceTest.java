@@ -0,0 +1,123 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.cache.MessageTailCache;
+import com.sprint.mission.discodeit.dto.request.MessageImportRequest;
+import com.sprint.mission.discodeit.dto.response.MessageImportResult;
+import com.sprint.mission.discodeit.entity.id.IdGenerator;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository;
+import com.sprint.mission.discodeit.repository.jdbc.MessageBulkInsertRepository.MessageRow;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BasicMessageImportServiceTest {
+
+  @Mock
+  private ChannelRepository channelRepository;
+
+  @Mock
+  private MessageBulkInsertRepository messageBulkInsertRepository;
+
+  @Mock
+  private MessageChangeRepository messageChangeRepository;
+
+  @Mock
+  private ReadStatusRepository readStatusRepository;
+
+  @Mock
+  private MessageTailCache messageTailCache;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private IdGenerator idGenerator;
+
+  private BasicMessageImportService messageImportService;
+  private UUID channelId;
+
+  @BeforeEach
+  void setUp() {
+    messageImportService = new BasicMessageImportService(channelRepository,
+        messageBulkInsertRepository, messageChangeRepository, readStatusRepository,
+        messageTailCache, transactionTemplate, idGenerator, 2);
+    channelId = UUID.randomUUID();
+    given(channelRepository.existsById(channelId)).willReturn(true);
+  }
+
+  @Test
+  @DisplayName("이미 저장된 id의 메시지는 건너뛰고 나머지만 저장한다")
+  void importMessages_WithExistingIds_SkipsCommittedMessages() {
+    // given
+    UUID committedId = UUID.randomUUID();
+    UUID newId = UUID.randomUUID();
+    given(messageBulkInsertRepository.findExistingMessageIds(List.of(committedId, newId)))
+        .willReturn(List.of(committedId));
+    runTransactions();
+
+    // when
+    MessageImportResult result = messageImportService.importMessages(channelId, List.of(
+        request(committedId), request(newId)).iterator());
+
+    // then
+    assertThat(result.importedMessages()).isEqualTo(1);
+    ArgumentCaptor<List<MessageRow>> rows = ArgumentCaptor.forClass(List.class);
+    verify(messageBulkInsertRepository).insertMessages(rows.capture());
+    assertThat(rows.getValue()).extracting(MessageRow::id).containsExactly(newId);
+  }
+
+  @Test
+  @DisplayName("null 줄은 400으로 거부하고 그 전까지 커밋된 메시지 수를 알려준다")
+  void importMessages_WithNullLine_ReportsCommittedCount() {
+    // given
+    runTransactions();
+
+    // when & then
+    assertThatThrownBy(() -> messageImportService.importMessages(channelId,
+        Arrays.asList(request(UUID.randomUUID()), request(null), null).iterator()))
+        .isInstanceOfSatisfying(DiscodeitException.class, e -> {
+          assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST);
+          assertThat(e.getDetails()).containsEntry("index", 2L)
+              .containsEntry("importedMessages", 2L);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void runTransactions() {
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    given(messageBulkInsertRepository.findExistingUserIds(anyList())).willReturn(List.of());
+  }
+
+  private MessageImportRequest request(UUID id) {
+    return new MessageImportRequest(id, null, "가져온 메시지", Instant.parse("2020-01-01T00:00:00Z"),
+        null);
+  }
+}
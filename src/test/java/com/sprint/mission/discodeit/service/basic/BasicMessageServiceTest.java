@@ -3,23 +3,33 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.sprint.mission.discodeit.cache.MessageTailCache;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
 import com.sprint.mission.discodeit.dto.data.UserDto;
-import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PageDirection;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
@@ -27,24 +37,36 @@ import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.MessageSearchHit;
+import com.sprint.mission.discodeit.repository.MessageView;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.UploadSpool;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class BasicMessageServiceTest {
@@ -52,21 +74,42 @@ class BasicMessageServiceTest {
   @Mock
   private MessageRepository messageRepository;
 
+  @Mock
+  private UnreadCountUpdater unreadCountUpdater;
+
+  @Mock
+  private MessageChangeRepository messageChangeRepository;
+
   @Mock
   private ChannelRepository channelRepository;
 
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ReadStatusRepository readStatusRepository;
+
   @Mock
   private MessageMapper messageMapper;
 
+  @Mock
+  private MessageViewAssembler messageViewAssembler;
+
   @Mock
   private BinaryContentStorage binaryContentStorage;
 
   @Mock
   private BinaryContentRepository binaryContentRepository;
 
+  @Mock
+  private UploadSpool uploadSpool;
+
+  @Mock
+  private MessageTailCache messageTailCache;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Mock
   private PageResponseMapper pageResponseMapper;
 
@@ -120,9 +163,9 @@ class BasicMessageServiceTest {
   void createMessage_Success() {
     // given
     MessageCreateRequest request = new MessageCreateRequest(content, channelId, authorId);
-    BinaryContentCreateRequest attachmentRequest = new BinaryContentCreateRequest("test.txt",
-        "text/plain", new byte[100]);
-    List<BinaryContentCreateRequest> attachmentRequests = List.of(attachmentRequest);
+    BinaryContentUploadRequest attachmentRequest = new BinaryContentUploadRequest("test.txt",
+        "text/plain", 100L, Path.of("spool", "test"));
+    List<BinaryContentUploadRequest> attachmentRequests = List.of(attachmentRequest);
 
     given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
     given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
@@ -133,14 +176,26 @@ class BasicMessageServiceTest {
     });
     given(messageRepository.save(any(Message.class))).willReturn(message);
     given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
+    given(binaryContentStorage.putAsync(eq(attachment.getId()), eq(attachmentRequest.spoolFile())))
+        .willReturn(CompletableFuture.completedFuture(attachment.getId()));
 
     // when
-    MessageDto result = messageService.create(request, attachmentRequests);
+    TransactionSynchronizationManager.initSynchronization();
+    MessageDto result;
+    try {
+      result = messageService.create(request, attachmentRequests);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
 
     // then
     assertThat(result).isEqualTo(messageDto);
     verify(messageRepository).save(any(Message.class));
-    verify(binaryContentStorage).put(eq(attachment.getId()), any(byte[].class));
+    verify(binaryContentStorage).putAsync(eq(attachment.getId()),
+        eq(attachmentRequest.spoolFile()));
+    verify(uploadSpool).release(attachmentRequest);
   }
 
   @Test
@@ -198,10 +253,9 @@ class BasicMessageServiceTest {
   void findAllByChannelId_Success() {
     // given
     int pageSize = 2; // 페이지 크기를 2로 설정
-    Instant createdAt = Instant.now();
     Pageable pageable = PageRequest.of(0, pageSize);
 
-    // 여러 메시지 생성 (페이지 사이즈보다 많게)
+    // 여러 메시지 생성 (페이지 사이즈보다 많게), 두 메시지는 생성 시간이 같다
     Message message1 = new Message(content + "1", channel, author, List.of(attachment));
     Message message2 = new Message(content + "2", channel, author, List.of(attachment));
     Message message3 = new Message(content + "3", channel, author, List.of(attachment));
@@ -210,10 +264,9 @@ class BasicMessageServiceTest {
     ReflectionTestUtils.setField(message2, "id", UUID.randomUUID());
     ReflectionTestUtils.setField(message3, "id", UUID.randomUUID());
 
-    // 각 메시지에 해당하는 DTO 생성
-    Instant message1CreatedAt = Instant.now().minusSeconds(30);
+    Instant message1CreatedAt = Instant.now().minusSeconds(10);
     Instant message2CreatedAt = Instant.now().minusSeconds(20);
-    Instant message3CreatedAt = Instant.now().minusSeconds(10);
+    Instant message3CreatedAt = message2CreatedAt;
 
     ReflectionTestUtils.setField(message1, "createdAt", message1CreatedAt);
     ReflectionTestUtils.setField(message2, "createdAt", message2CreatedAt);
@@ -239,42 +292,38 @@ class BasicMessageServiceTest {
         List.of(attachmentDto)
     );
 
-    // 첫 페이지 결과 세팅 (2개 메시지)
-    List<Message> firstPageMessages = List.of(message1, message2);
-    List<MessageDto> firstPageDtos = List.of(messageDto1, messageDto2);
-
-    // 첫 페이지는 다음 페이지가 있고, 커서는 message2의 생성 시간이어야 함
-    SliceImpl<Message> firstPageSlice = new SliceImpl<>(firstPageMessages, pageable, true);
+    // 첫 페이지 결과 세팅 (2개 메시지), 커서는 message2의 (createdAt, id)
+    SliceImpl<MessageView> firstPageViews = new SliceImpl<>(
+        List.of(view(messageDto1), view(messageDto2)), pageable, true);
+    SliceImpl<MessageDto> firstPageSlice = new SliceImpl<>(List.of(messageDto1, messageDto2),
+        pageable, true);
+    String firstPageCursor = new MessageCursor(message2CreatedAt, message2.getId()).encode();
     PageResponse<MessageDto> firstPageResponse = new PageResponse<>(
-        firstPageDtos,
-        message2CreatedAt,
+        List.of(messageDto1, messageDto2),
+        firstPageCursor,
         pageSize,
         true,
         null
     );
 
-    // 모의 객체 설정
-    given(
-        messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(createdAt), eq(pageable)))
-        .willReturn(firstPageSlice);
-    given(messageMapper.toDto(eq(message1))).willReturn(messageDto1);
-    given(messageMapper.toDto(eq(message2))).willReturn(messageDto2);
-    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message2CreatedAt)))
+    given(messageRepository.findLatestViewsByChannelId(eq(channelId), eq(pageable)))
+        .willReturn(firstPageViews);
+    given(messageViewAssembler.toDtos(eq(firstPageViews))).willReturn(firstPageSlice);
+    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(firstPageCursor)))
         .willReturn(firstPageResponse);
 
     // when
-    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, createdAt,
-        pageable);
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        PageDirection.OLDER, pageable);
 
     // then
     assertThat(result).isEqualTo(firstPageResponse);
     assertThat(result.content()).hasSize(pageSize);
     assertThat(result.hasNext()).isTrue();
-    assertThat(result.nextCursor()).isEqualTo(message2CreatedAt);
+    assertThat(result.nextCursor()).isEqualTo(firstPageCursor);
 
-    // 두 번째 페이지 테스트
+    // 두 번째 페이지 테스트: 같은 생성 시간을 가진 message3도 id 기준으로 이어서 조회된다
     // given
-    List<Message> secondPageMessages = List.of(message3);
     MessageDto messageDto3 = new MessageDto(
         message3.getId(),
         message3CreatedAt,
@@ -284,30 +333,30 @@ class BasicMessageServiceTest {
         new UserDto(authorId, "testUser", "test@example.com", null, true, Role.USER),
         List.of(attachmentDto)
     );
-    List<MessageDto> secondPageDtos = List.of(messageDto3);
 
-    // 두 번째 페이지는 다음 페이지가 없음
-    SliceImpl<Message> secondPageSlice = new SliceImpl<>(secondPageMessages, pageable, false);
+    SliceImpl<MessageView> secondPageViews = new SliceImpl<>(List.of(view(messageDto3)),
+        pageable, false);
+    SliceImpl<MessageDto> secondPageSlice = new SliceImpl<>(List.of(messageDto3), pageable,
+        false);
+    String secondPageCursor = new MessageCursor(message3CreatedAt, message3.getId()).encode();
     PageResponse<MessageDto> secondPageResponse = new PageResponse<>(
-        secondPageDtos,
-        message3CreatedAt,
+        List.of(messageDto3),
+        secondPageCursor,
         pageSize,
         false,
         null
     );
 
-    // 두 번째 페이지 모의 객체 설정
-    given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(message2CreatedAt),
-        eq(pageable)))
-        .willReturn(secondPageSlice);
-    given(messageMapper.toDto(eq(message3))).willReturn(messageDto3);
-    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message3CreatedAt)))
+    given(messageRepository.findViewsByChannelIdBefore(eq(channelId),
+        eq(message2CreatedAt), eq(message2.getId()), eq(pageable)))
+        .willReturn(secondPageViews);
+    given(messageViewAssembler.toDtos(eq(secondPageViews))).willReturn(secondPageSlice);
+    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(secondPageCursor)))
         .willReturn(secondPageResponse);
 
     // when - 두 번째 페이지 요청 (첫 페이지의 커서 사용)
     PageResponse<MessageDto> secondResult = messageService.findAllByChannelId(channelId,
-        message2CreatedAt,
-        pageable);
+        firstPageCursor, PageDirection.OLDER, pageable);
 
     // then - 두 번째 페이지 검증
     assertThat(secondResult).isEqualTo(secondPageResponse);
@@ -315,6 +364,177 @@ class BasicMessageServiceTest {
     assertThat(secondResult.hasNext()).isFalse(); // 더 이상 다음 페이지 없음
   }
 
+  @Test
+  @DisplayName("캐시된 채널의 첫 페이지는 DB를 조회하지 않음")
+  void findAllByChannelId_WithCachedTail_SkipsRepository() {
+    // given
+    Pageable pageable = PageRequest.of(0, 50);
+    SliceImpl<MessageDto> cachedSlice = new SliceImpl<>(List.of(messageDto), pageable, false);
+    String nextCursor = MessageCursor.from(messageDto).encode();
+    PageResponse<MessageDto> response = new PageResponse<>(List.of(messageDto), nextCursor, 50,
+        false, null);
+
+    given(messageTailCache.findLatest(eq(channelId), eq(50))).willReturn(Optional.of(cachedSlice));
+    given(pageResponseMapper.<MessageDto>fromSlice(eq(cachedSlice), eq(nextCursor)))
+        .willReturn(response);
+
+    // when
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        PageDirection.OLDER, pageable);
+
+    // then
+    assertThat(result).isEqualTo(response);
+    verifyNoInteractions(messageRepository);
+  }
+
+  @Test
+  @DisplayName("캐시에 없는 채널은 캐시 용량만큼 조회해 채우고 요청한 크기만 반환")
+  void findAllByChannelId_WithoutCachedTail_FillsCacheCapacity() {
+    // given
+    Pageable pageable = PageRequest.of(0, 1);
+    MessageDto older = new MessageDto(UUID.randomUUID(), messageDto.createdAt().minusSeconds(1),
+        null, "older", channelId, messageDto.author(), List.of());
+    SliceImpl<MessageView> views = new SliceImpl<>(List.of(view(messageDto), view(older)),
+        PageRequest.of(0, 3), false);
+    SliceImpl<MessageDto> latest = new SliceImpl<>(List.of(messageDto, older),
+        PageRequest.of(0, 3), false);
+
+    given(messageTailCache.getFillSize()).willReturn(3);
+    given(messageRepository.findLatestViewsByChannelId(eq(channelId), eq(PageRequest.of(0, 3))))
+        .willReturn(views);
+    given(messageViewAssembler.toDtos(eq(views))).willReturn(latest);
+
+    // when
+    messageService.findAllByChannelId(channelId, null, PageDirection.OLDER, pageable);
+
+    // then
+    verify(messageTailCache).populate(eq(channelId), eq(0L), eq(latest));
+    ArgumentCaptor<Slice<MessageDto>> page = ArgumentCaptor.forClass(Slice.class);
+    verify(pageResponseMapper).<MessageDto>fromSlice(page.capture(), any());
+    assertThat(page.getValue().getContent()).containsExactly(messageDto);
+    assertThat(page.getValue().hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("메시지 검색 시 관련도순 결과와 다음 페이지 커서를 반환")
+  void searchMessages_Success() {
+    // given
+    UUID viewerId = UUID.randomUUID();
+    MessageSearchHit hit = searchHit(messageId, 0.5f, messageDto.createdAt());
+    MessageSearchHit extraHit = searchHit(UUID.randomUUID(), 0.1f, Instant.now());
+    MessageSearchCursor first = MessageSearchCursor.FIRST;
+    String nextCursor = new MessageSearchCursor(0.5f, messageDto.createdAt(), messageId)
+        .encode();
+    PageResponse<MessageDto> response = new PageResponse<>(List.of(messageDto), nextCursor, 1,
+        true, null);
+
+    given(messageRepository.search(eq(viewerId), eq("배포"), eq(channelId), isNull(),
+        eq(first.rank()), eq(first.createdAt()), eq(first.id()), eq(2)))
+        .willReturn(List.of(hit, extraHit));
+    given(messageViewAssembler.findAllByIdIn(eq(List.of(messageId))))
+        .willReturn(List.of(messageDto));
+    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(nextCursor))).willReturn(response);
+
+    // when
+    PageResponse<MessageDto> result = messageService.search(viewerId, "배포", channelId, null,
+        null, 1);
+
+    // then
+    assertThat(result).isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("검색 이후 삭제된 메시지는 결과에서 빠지고, 커서는 검색 결과 기준으로 이어진다")
+  void searchMessages_WhenMessageDeletedAfterSearch_SkipsHit() {
+    // given
+    UUID viewerId = UUID.randomUUID();
+    UUID deletedMessageId = UUID.randomUUID();
+    Instant deletedCreatedAt = Instant.now();
+    MessageSearchHit hit = searchHit(messageId, 0.5f, messageDto.createdAt());
+    MessageSearchHit deletedHit = searchHit(deletedMessageId, 0.3f, deletedCreatedAt);
+    MessageSearchCursor first = MessageSearchCursor.FIRST;
+    String nextCursor = new MessageSearchCursor(0.3f, deletedCreatedAt, deletedMessageId)
+        .encode();
+
+    given(messageRepository.search(eq(viewerId), eq("배포"), isNull(), isNull(),
+        eq(first.rank()), eq(first.createdAt()), eq(first.id()), eq(3)))
+        .willReturn(List.of(hit, deletedHit));
+    given(messageViewAssembler.findAllByIdIn(eq(List.of(messageId, deletedMessageId))))
+        .willReturn(List.of(messageDto));
+
+    // when
+    messageService.search(viewerId, "배포", null, null, null, 2);
+
+    // then
+    ArgumentCaptor<Slice<MessageDto>> page = ArgumentCaptor.forClass(Slice.class);
+    verify(pageResponseMapper).<MessageDto>fromSlice(page.capture(), eq(nextCursor));
+    assertThat(page.getValue().getContent()).containsExactly(messageDto);
+    assertThat(page.getValue().hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("메시지 검색 크기가 1보다 작으면 실패")
+  void searchMessages_WithNonPositiveSize_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> messageService.search(UUID.randomUUID(), "배포", null, null, null, 0))
+        .isInstanceOfSatisfying(DiscodeitException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST));
+  }
+
+  @Test
+  @DisplayName("메시지 검색 크기는 최대값으로 제한")
+  void searchMessages_WithLargeSize_ClampsToMax() {
+    // given
+    UUID viewerId = UUID.randomUUID();
+    MessageSearchCursor first = MessageSearchCursor.FIRST;
+    given(messageRepository.search(eq(viewerId), eq("배포"), isNull(), isNull(),
+        eq(first.rank()), eq(first.createdAt()), eq(first.id()),
+        eq(BasicMessageService.MAX_SEARCH_SIZE + 1)))
+        .willReturn(List.of());
+    given(messageViewAssembler.findAllByIdIn(eq(List.of()))).willReturn(List.of());
+
+    // when
+    messageService.search(viewerId, "배포", null, null, null, 10_000);
+
+    // then
+    verify(pageResponseMapper).<MessageDto>fromSlice(
+        argThat(slice -> slice.getSize() == BasicMessageService.MAX_SEARCH_SIZE), isNull());
+  }
+
+  private MessageView view(MessageDto dto) {
+    return new MessageView(dto.id(), dto.createdAt(), dto.updatedAt(), dto.content(),
+        dto.channelId(), dto.author().id(), dto.author().username(), dto.author().email(),
+        dto.author().role(), null, null, null, null, null);
+  }
+
+  private MessageSearchHit searchHit(UUID id, float rank, Instant createdAt) {
+    return new MessageSearchHit() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public Float getRank() {
+        return rank;
+      }
+
+      @Override
+      public Instant getCreatedAt() {
+        return createdAt;
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 메시지 목록 조회 시 실패")
+  void findAllByChannelId_WithMalformedCursor_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> messageService.findAllByChannelId(channelId, "not-a-cursor",
+        PageDirection.OLDER, PageRequest.of(0, 50)))
+        .isInstanceOf(DiscodeitException.class);
+  }
+
   @Test
   @DisplayName("메시지 수정 성공")
   void updateMessage_Success() {
@@ -330,6 +550,8 @@ class BasicMessageServiceTest {
 
     // then
     assertThat(result).isEqualTo(messageDto);
+    verify(messageChangeRepository).append(eq(channel.getId()), eq(messageId),
+        eq(MessageChangeType.UPDATED), any(Instant.class));
   }
 
   @Test
@@ -354,6 +576,9 @@ class BasicMessageServiceTest {
     messageService.delete(messageId);
 
     // then
+    verify(messageChangeRepository).appendAll(eq(List.of(messageId)),
+        eq(MessageChangeType.DELETED), any(Instant.class));
+    verify(readStatusRepository).decrementUnreadCounts(eq(messageId));
     verify(messageRepository).deleteById(eq(messageId));
   }
 
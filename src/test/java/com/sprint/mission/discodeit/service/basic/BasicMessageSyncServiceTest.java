@@ -0,0 +1,182 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+import com.sprint.mission.discodeit.dto.data.MessageChangeCursor;
+import com.sprint.mission.discodeit.dto.data.MessageChangeDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.response.MessageChangesResponse;
+import com.sprint.mission.discodeit.entity.MessageChange;
+import com.sprint.mission.discodeit.entity.MessageChangeType;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.repository.MessageChangeRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class BasicMessageSyncServiceTest {
+
+  @Mock
+  private MessageChangeRepository messageChangeRepository;
+
+  @Mock
+  private MessageViewAssembler messageViewAssembler;
+
+  private BasicMessageSyncService messageSyncService;
+
+  private final UUID channelId = UUID.randomUUID();
+  private final Instant settled = Instant.now().minusSeconds(60);
+
+  @BeforeEach
+  void setUp() {
+    messageSyncService = new BasicMessageSyncService(messageChangeRepository,
+        messageViewAssembler, Duration.ofDays(30));
+  }
+
+  @Test
+  @DisplayName("커서 없이 조회하면 변경 이력 없이 진행 중인 트랜잭션 직전 위치를 커서로 반환")
+  void findChanges_WithoutCursor_ReturnsHorizonCursor() {
+    // given
+    given(messageChangeRepository.findVisibleXidHorizon()).willReturn(42L);
+
+    // when
+    MessageChangesResponse response = messageSyncService.findChanges(channelId, null, 100);
+
+    // then
+    assertThat(response.changes()).isEmpty();
+    MessageChangeCursor cursor = MessageChangeCursor.decode(response.nextCursor());
+    assertThat(cursor.xid()).isEqualTo(42L);
+    assertThat(cursor.seq()).isZero();
+    assertThat(response.resyncRequired()).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 메시지의 이력은 마지막 것만 현재 상태로 반환하고, 끝까지 읽으면 커서를 horizon으로 옮김")
+  void findChanges_CollapsesAndAdvancesToHorizon() {
+    // given
+    UUID editedId = UUID.randomUUID();
+    UUID deletedId = UUID.randomUUID();
+    MessageDto editedDto = new MessageDto(editedId, settled, settled, "edited", channelId, null,
+        List.of());
+
+    given(messageChangeRepository.findVisibleXidHorizon()).willReturn(200L);
+    given(messageChangeRepository.findAllByChannelIdAfter(eq(channelId), eq(100L), eq(0L),
+        eq(200L), any(Pageable.class))).willReturn(List.of(
+        change(100, 1, MessageChangeType.CREATED, editedId),
+        change(101, 2, MessageChangeType.UPDATED, editedId),
+        change(102, 3, MessageChangeType.DELETED, deletedId)));
+    given(messageViewAssembler.findAllByIdIn(List.of(editedId))).willReturn(List.of(editedDto));
+
+    // when
+    MessageChangesResponse response = messageSyncService.findChanges(channelId,
+        cursor(100, 0, settled), 100);
+
+    // then
+    assertThat(response.changes()).containsExactly(
+        new MessageChangeDto(2, MessageChangeType.UPDATED, editedId, editedDto),
+        new MessageChangeDto(3, MessageChangeType.DELETED, deletedId, null));
+    assertThat(MessageChangeCursor.decode(response.nextCursor()).xid()).isEqualTo(200L);
+    assertThat(response.hasNext()).isFalse();
+    assertThat(response.resyncRequired()).isFalse();
+  }
+
+  @Test
+  @DisplayName("다음 페이지가 있으면 마지막으로 반환한 이력 위치를 커서로 반환")
+  void findChanges_WithNextPage_ReturnsLastPosition() {
+    // given
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    given(messageChangeRepository.findVisibleXidHorizon()).willReturn(200L);
+    given(messageChangeRepository.findAllByChannelIdAfter(eq(channelId), eq(100L), eq(0L),
+        eq(200L), any(Pageable.class))).willReturn(List.of(
+        change(150, 9, MessageChangeType.DELETED, first),
+        change(160, 4, MessageChangeType.DELETED, second)));
+
+    // when
+    MessageChangesResponse response = messageSyncService.findChanges(channelId,
+        cursor(100, 0, settled), 1);
+
+    // then
+    assertThat(response.changes()).extracting(MessageChangeDto::messageId).containsExactly(first);
+    MessageChangeCursor cursor = MessageChangeCursor.decode(response.nextCursor());
+    assertThat(cursor.xid()).isEqualTo(150L);
+    assertThat(cursor.seq()).isEqualTo(9L);
+    assertThat(response.hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("수정 이력의 메시지가 이미 삭제되었으면 삭제로 반환")
+  void findChanges_WhenMessageGone_ReturnsDeleted() {
+    // given
+    UUID messageId = UUID.randomUUID();
+    given(messageChangeRepository.findVisibleXidHorizon()).willReturn(200L);
+    given(messageChangeRepository.findAllByChannelIdAfter(eq(channelId), eq(100L), eq(0L),
+        eq(200L), any(Pageable.class))).willReturn(List.of(
+        change(120, 7, MessageChangeType.UPDATED, messageId)));
+    given(messageViewAssembler.findAllByIdIn(List.of(messageId))).willReturn(List.of());
+
+    // when
+    MessageChangesResponse response = messageSyncService.findChanges(channelId,
+        cursor(100, 0, settled), 100);
+
+    // then
+    assertThat(response.changes()).containsExactly(
+        new MessageChangeDto(7, MessageChangeType.DELETED, messageId, null));
+  }
+
+  @Test
+  @DisplayName("커서가 보관 기간보다 오래되었으면 전체 재조회 필요")
+  void findChanges_WithExpiredCursor_RequiresResync() {
+    // given
+    given(messageChangeRepository.findVisibleXidHorizon()).willReturn(200L);
+    given(messageChangeRepository.findAllByChannelIdAfter(eq(channelId), eq(10L), eq(0L),
+        eq(200L), any(Pageable.class))).willReturn(List.of());
+
+    // when
+    MessageChangesResponse response = messageSyncService.findChanges(channelId,
+        cursor(10, 0, Instant.now().minus(Duration.ofDays(31))), 100);
+
+    // then
+    assertThat(response.resyncRequired()).isTrue();
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 조회 시 실패")
+  void findChanges_WithMalformedCursor_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> messageSyncService.findChanges(channelId, "not-a-cursor", 100))
+        .isInstanceOf(DiscodeitException.class);
+    verifyNoInteractions(messageChangeRepository, messageViewAssembler);
+  }
+
+  private String cursor(long xid, long seq, Instant issuedAt) {
+    return new MessageChangeCursor(xid, seq, issuedAt).encode();
+  }
+
+  private MessageChange change(long xid, long seq, MessageChangeType type, UUID messageId) {
+    MessageChange change = mock(MessageChange.class,
+        withSettings().strictness(Strictness.LENIENT));
+    given(change.getXid()).willReturn(xid);
+    given(change.getSeq()).willReturn(seq);
+    given(change.getType()).willReturn(type);
+    given(change.getMessageId()).willReturn(messageId);
+    return change;
+  }
+}
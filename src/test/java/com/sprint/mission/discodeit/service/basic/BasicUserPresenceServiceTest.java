@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.event.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.presence.local.LocalPresenceStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class BasicUserPresenceServiceTest {
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private LocalPresenceStore presenceStore;
+  private BasicUserPresenceService presenceService;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    presenceStore = new LocalPresenceStore();
+    presenceService = new BasicUserPresenceService(presenceStore, eventPublisher,
+        Duration.ofSeconds(45), new SimpleMeterRegistry());
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("첫 연결 시 바로 온라인이 되고 알림은 다음 하트비트에서 한 번만 발행된다")
+  void connected_MarksOnlineAndPublishesOnHeartbeat() {
+    // when
+    presenceService.connected(userId);
+    presenceService.connected(userId);
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).containsExactly(userId);
+    verify(eventPublisher, never()).publishEvent(any(UserPresenceChangedEvent.class));
+
+    // when
+    presenceService.heartbeat();
+    presenceService.heartbeat();
+
+    // then
+    verify(eventPublisher, times(1)).publishEvent(
+        new UserPresenceChangedEvent(Set.of(userId), Set.of()));
+  }
+
+  @Test
+  @DisplayName("하트비트 사이의 변경은 이벤트 하나로 모이고 그 사이에 끊긴 연결은 알리지 않는다")
+  void heartbeat_CoalescesChangesIntoOneEvent() {
+    // given
+    UUID otherUserId = UUID.randomUUID();
+    UUID transientUserId = UUID.randomUUID();
+
+    // when
+    presenceService.connected(userId);
+    presenceService.connected(otherUserId);
+    presenceService.connected(transientUserId);
+    presenceService.disconnected(transientUserId);
+    presenceService.heartbeat();
+
+    // then
+    verify(eventPublisher, times(1)).publishEvent(any(UserPresenceChangedEvent.class));
+    verify(eventPublisher).publishEvent(
+        new UserPresenceChangedEvent(Set.of(userId, otherUserId), Set.of()));
+    assertThat(presenceStore.findOnlineUserIds(Instant.now()))
+        .containsExactlyInAnyOrder(userId, otherUserId);
+  }
+
+  @Test
+  @DisplayName("모든 연결이 끊기면 다음 하트비트에서 오프라인이 된다")
+  void disconnected_GoesOfflineAfterLastConnection() {
+    // given
+    presenceService.connected(userId);
+    presenceService.connected(userId);
+
+    // when
+    presenceService.disconnected(userId);
+    presenceService.heartbeat();
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).containsExactly(userId);
+
+    // when
+    presenceService.disconnected(userId);
+    presenceService.heartbeat();
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).isEmpty();
+    verify(eventPublisher).publishEvent(new UserPresenceChangedEvent(Set.of(), Set.of(userId)));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 접속 정보는 만료 시각이 지나면 오프라인으로 반영된다")
+  void heartbeat_ReflectsOtherNodesUntilTtlExpires() {
+    // given
+    UUID remoteUserId = UUID.randomUUID();
+    presenceStore.touch("other-node", List.of(remoteUserId), Instant.now().plusSeconds(60));
+
+    // when
+    presenceService.heartbeat();
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).containsExactly(remoteUserId);
+    verify(eventPublisher).publishEvent(
+        new UserPresenceChangedEvent(Set.of(remoteUserId), Set.of()));
+
+    // given: 다른 노드가 하트비트를 보내지 못해 만료됨
+    presenceStore.touch("other-node", List.of(remoteUserId), Instant.now().minusSeconds(1));
+
+    // when
+    presenceService.heartbeat();
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).isEmpty();
+    verify(eventPublisher).publishEvent(
+        new UserPresenceChangedEvent(Set.of(), Set.of(remoteUserId)));
+  }
+
+  @Test
+  @DisplayName("연결이 없던 사용자의 연결 해제는 무시한다")
+  void disconnected_WithoutConnection_IsIgnored() {
+    // when
+    presenceService.disconnected(userId);
+    presenceService.heartbeat();
+
+    // then
+    assertThat(presenceService.findOnlineUserIds()).isEmpty();
+    verify(eventPublisher, never()).publishEvent(any(UserPresenceChangedEvent.class));
+  }
+}
@@ -2,21 +2,33 @@ package com.sprint.mission.discodeit.service.basic;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.sprint.mission.discodeit.dto.data.UserCursor;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.UserPresenceService;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,9 +45,21 @@ class BasicUserServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ChannelRepository channelRepository;
+
   @Mock
   private UserMapper userMapper;
 
+  @Mock
+  private UserDirectoryLoader userDirectoryLoader;
+
+  @Mock
+  private UserPresenceService userPresenceService;
+
+  @Mock
+  private PageResponseMapper pageResponseMapper;
+
   @InjectMocks
   private BasicUserService userService;
 
@@ -169,6 +193,7 @@ class BasicUserServiceTest {
     userService.delete(userId);
 
     // then
+    verify(channelRepository).markParticipantsChangedByUserId(eq(userId), any());
     verify(userRepository).deleteById(eq(userId));
   }
 
@@ -182,4 +207,56 @@ class BasicUserServiceTest {
     assertThatThrownBy(() -> userService.delete(userId))
         .isInstanceOf(UserNotFoundException.class);
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("전체 사용자 조회 시 캐시된 프로필에 접속 여부를 합친다")
+  void findAllUsers_MergesPresenceIntoCachedProfiles() {
+    // given
+    UUID offlineUserId = UUID.randomUUID();
+    UserDto profile = new UserDto(userId, username, email, null, null, Role.USER);
+    UserDto offlineProfile = new UserDto(offlineUserId, "offlineUser", "offline@example.com",
+        null, null, Role.USER);
+    given(userDirectoryLoader.findAllProfiles()).willReturn(List.of(profile, offlineProfile));
+    given(userPresenceService.findOnlineUserIds()).willReturn(Set.of(userId));
+
+    // when
+    List<UserDto> result = userService.findAll();
+
+    // then
+    assertThat(result).extracting(UserDto::id, UserDto::online)
+        .containsExactly(tuple(userId, true), tuple(offlineUserId, false));
+  }
+
+  @Test
+  @DisplayName("사용자 목록 페이지 조회 시 한 건 더 조회해 다음 페이지 여부와 커서를 만든다")
+  void findUserPage_ReturnsPageWithNextCursor() {
+    // given
+    UserDto profile = new UserDto(userId, username, email, null, null, Role.USER);
+    UserDto nextProfile = new UserDto(UUID.randomUUID(), "zUser", "z@example.com", null, null,
+        Role.USER);
+    given(userDirectoryLoader.findProfilesAfter(eq(""), eq(BasicUserService.MAX_PAGE_SIZE + 1)))
+        .willReturn(List.of(profile, nextProfile));
+
+    String nextCursor = new UserCursor(username).encode();
+    PageResponse<UserDto> response = new PageResponse<>(List.of(profile), nextCursor, 1, true,
+        null);
+    given(pageResponseMapper.<UserDto>fromSlice(any(), eq(nextCursor))).willReturn(response);
+
+    // when
+    PageResponse<UserDto> result = userService.findAll(null, 1);
+
+    // then
+    assertThat(result).isEqualTo(response);
+    verify(userPresenceService, never()).findOnlineUserIds();
+  }
+
+  @Test
+  @DisplayName("사용자 목록 페이지 크기가 1보다 작으면 400으로 거부한다")
+  void findUserPage_WithNonPositiveSize_ThrowsInvalidRequest() {
+    // when & then
+    assertThatThrownBy(() -> userService.findAll(null, 0))
+        .isInstanceOfSatisfying(DiscodeitException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST));
+    verify(userDirectoryLoader, never()).findProfilesAfter(any(), anyInt());
+  }
+}
@@ -0,0 +1,111 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * 공개 채널 이름 변경 직후 접속 중인 사용자 전체가 채널 목록을 다시 요청하는 상황(stampede)에서의 DB 조회 수를 검증한다.
+ */
+@SpringJUnitConfig(ChannelListLoaderTest.CacheTestConfig.class)
+@DisplayName("ChannelListLoader 캐시 테스트")
+class ChannelListLoaderTest {
+
+  private static final int CONNECTED_USERS = 10_000;
+
+  @Autowired
+  private ChannelListLoader channelListLoader;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockitoBean
+  private ChannelRepository channelRepository;
+
+  @MockitoBean
+  private ChannelMapper channelMapper;
+
+  private final List<UUID> userIds = IntStream.range(0, CONNECTED_USERS)
+      .mapToObj(i -> UUID.randomUUID())
+      .toList();
+
+  @BeforeEach
+  void setUp() {
+    ChannelDto publicChannel = new ChannelDto(UUID.randomUUID(), ChannelType.PUBLIC, "general",
+        "description", new ArrayList<>(), Instant.now());
+    given(channelMapper.toDtos(anyList())).willReturn(List.of(publicChannel));
+  }
+
+  @Test
+  @DisplayName("공개 채널 변경 후 1만 명이 동시에 다시 조회해도 공개 채널 목록은 한 번만 DB에서 읽음")
+  void findAll_AfterPublicChannelRename_LoadsPublicChannelsOnce() throws Exception {
+    // given - 접속 중인 모든 사용자의 채널 목록이 캐시된 상태
+    loadChannelLists();
+
+    // when - 공개 채널 이름 변경 (BasicChannelService.update의 @CacheEvict와 같은 범위)
+    cacheManager.getCache(ChannelListLoader.PUBLIC_CHANNELS).evict("all");
+    loadChannelLists();
+
+    // then - 사용자별 비공개 채널 항목은 유지되고, 공개 채널 목록만 한 번 더 조회된다
+    verify(channelRepository, times(2)).findAllByType(eq(ChannelType.PUBLIC));
+    verify(channelRepository, times(CONNECTED_USERS))
+        .findAllByTypeAndParticipantId(eq(ChannelType.PRIVATE), any(UUID.class));
+  }
+
+  private void loadChannelLists() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (UUID userId : userIds) {
+        results.add(executor.submit(() -> channelListLoader.findPublicChannels().size()
+            + channelListLoader.findPrivateChannels(userId).size()));
+      }
+      for (Future<Integer> result : results) {
+        assertThat(result.get()).isEqualTo(2);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Configuration
+  @EnableCaching
+  @Import(ChannelListLoader.class)
+  static class CacheTestConfig {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new ConcurrentMapCacheManager(ChannelListLoader.PUBLIC_CHANNELS,
+          ChannelListLoader.PRIVATE_CHANNELS_BY_USER);
+    }
+  }
+}
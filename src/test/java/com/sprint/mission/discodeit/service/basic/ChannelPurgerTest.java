@@ -0,0 +1,134 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelPurge;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelPurgeRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import(ChannelPurger.class)
+@TestPropertySource(properties = "discodeit.channel.purge.chunk-size=2")
+class ChannelPurgerTest {
+
+  @Autowired
+  private ChannelPurger channelPurger;
+
+  @Autowired
+  private ChannelRepository channelRepository;
+
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private BinaryContentRepository binaryContentRepository;
+
+  @Autowired
+  private ChannelPurgeRepository channelPurgeRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @MockitoBean
+  private BinaryContentStorage binaryContentStorage;
+
+  @Test
+  @DisplayName("삭제된 채널의 메시지와 첨부파일을 청크 단위로 모두 정리한다")
+  void purge_DeletesMessagesAttachmentsAndChannel() {
+    // given
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "삭제", "삭제할 채널"));
+    Channel otherChannel = channelRepository.save(new Channel(ChannelType.PUBLIC, "유지", "유지할 채널"));
+    BinaryContent attachment = new BinaryContent("file.png", 10L, "image/png");
+    messageRepository.save(new Message("1", channel, null, List.of(attachment)));
+    messageRepository.save(new Message("2", channel, null, List.of()));
+    messageRepository.save(new Message("3", channel, null, List.of()));
+    messageRepository.save(new Message("유지", otherChannel, null, List.of()));
+
+    UUID channelId = channel.getId();
+    channel.markDeleted();
+    channelPurgeRepository.save(new ChannelPurge(channelId));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    channelPurger.purge(channelId);
+    entityManager.clear();
+
+    // then
+    assertThat(messageRepository.findAll()).extracting(Message::getContent).containsExactly("유지");
+    assertThat(binaryContentRepository.findById(attachment.getId())).isEmpty();
+    verify(binaryContentStorage).delete(attachment.getId());
+
+    ChannelPurge purge = channelPurgeRepository.findAll().get(0);
+    assertThat(purge.getPurgedMessages()).isEqualTo(3);
+    assertThat(purge.getPurgedAttachments()).isEqualTo(1);
+    assertThat(purge.getCompletedAt()).isNotNull();
+    assertThat(entityManager.getEntityManager()
+        .createNativeQuery("SELECT count(*) FROM channels WHERE id = :id")
+        .setParameter("id", channelId)
+        .getSingleResult()).isEqualTo(0L);
+  }
+
+  @Test
+  @DisplayName("다른 노드가 선점한 정리 작업은 처리하지 않는다")
+  void purge_WhenClaimedByOtherNode_Skips() {
+    // given
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "삭제", "삭제할 채널"));
+    messageRepository.save(new Message("1", channel, null, List.of()));
+    UUID channelId = channel.getId();
+    channel.markDeleted();
+    channelPurgeRepository.save(new ChannelPurge(channelId));
+    entityManager.flush();
+    Instant now = Instant.now();
+    channelPurgeRepository.claim(channelId, UUID.randomUUID(), now.plusSeconds(60), now);
+    entityManager.clear();
+
+    // when
+    channelPurger.purge(channelId);
+    entityManager.clear();
+
+    // then
+    assertThat(messageRepository.findAll()).hasSize(1);
+    assertThat(channelPurgeRepository.findAll().get(0).getCompletedAt()).isNull();
+  }
+
+  @Test
+  @DisplayName("삭제된 채널의 메시지는 정리 전에도 조회되지 않는다")
+  void findLatestViewsByChannelId_WhenChannelDeleted_ReturnsEmpty() {
+    // given
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "삭제", "삭제할 채널"));
+    Message message = messageRepository.save(new Message("1", channel, null, List.of()));
+    channel.markDeleted();
+    entityManager.flush();
+    entityManager.clear();
+
+    // when & then
+    assertThat(messageRepository.findLatestViewsByChannelId(channel.getId(),
+        PageRequest.of(0, 10))).isEmpty();
+    assertThat(messageRepository.findViewsByIdIn(List.of(message.getId()))).isEmpty();
+  }
+}
@@ -0,0 +1,145 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.service.MessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageGroupCommitter 테스트")
+class MessageGroupCommitterTest {
+
+  private final MessageService messageService = mock(MessageService.class);
+  private MessageGroupCommitter committer;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    committer.stop();
+  }
+
+  @Test
+  @DisplayName("대기 시간 안에 들어온 메시지는 한 번에 저장되고 각자 결과를 받음")
+  void send_WithinWindow_CommitsAsOneBatch() throws Exception {
+    // given
+    committer = startCommitter(Duration.ofMillis(200));
+    MessageCreateRequest first = request();
+    MessageCreateRequest second = request();
+    MessageDto firstDto = messageDto(first);
+    MessageDto secondDto = messageDto(second);
+    given(messageService.createAll(eq(List.of(first, second))))
+        .willReturn(List.of(firstDto, secondDto));
+
+    // when
+    CompletableFuture<MessageDto> firstResult = committer.send(first);
+    CompletableFuture<MessageDto> secondResult = committer.send(second);
+
+    // then
+    assertThat(firstResult.get(5, TimeUnit.SECONDS)).isEqualTo(firstDto);
+    assertThat(secondResult.get(5, TimeUnit.SECONDS)).isEqualTo(secondDto);
+    verify(messageService, never()).create(eq(first), anyList());
+  }
+
+  @Test
+  @DisplayName("일괄 저장 실패 시 실패한 요청만 예외로 완료")
+  void send_WhenBatchFails_RetriesEachMessage() throws Exception {
+    // given
+    committer = startCommitter(Duration.ofMillis(200));
+    MessageCreateRequest valid = request();
+    MessageCreateRequest invalid = request();
+    MessageDto validDto = messageDto(valid);
+    ChannelNotFoundException exception = ChannelNotFoundException.withId(invalid.channelId());
+    given(messageService.createAll(anyList())).willThrow(exception);
+    given(messageService.create(eq(valid), anyList())).willReturn(validDto);
+    given(messageService.create(eq(invalid), anyList())).willThrow(exception);
+
+    // when
+    CompletableFuture<MessageDto> validResult = committer.send(valid);
+    CompletableFuture<MessageDto> invalidResult = committer.send(invalid);
+
+    // then
+    assertThat(validResult.get(5, TimeUnit.SECONDS)).isEqualTo(validDto);
+    assertThatThrownBy(() -> invalidResult.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(exception);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 바로 저장하지 않고 전송을 거절")
+  void send_WhenQueueFull_RejectsWithoutDirectCreate() throws Exception {
+    // given
+    committer = startCommitter(1, Duration.ZERO, 1);
+    MessageCreateRequest inFlight = request();
+    MessageCreateRequest queued = request();
+    MessageCreateRequest rejected = request();
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(messageService.createAll(anyList())).willAnswer(invocation -> {
+      flushing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return invocation.<List<MessageCreateRequest>>getArgument(0).stream()
+          .map(this::messageDto)
+          .toList();
+    });
+
+    // when
+    CompletableFuture<MessageDto> inFlightResult = committer.send(inFlight);
+    assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<MessageDto> queuedResult = committer.send(queued);
+    CompletableFuture<MessageDto> rejectedResult = committer.send(rejected);
+    release.countDown();
+
+    // then
+    assertThatThrownBy(() -> rejectedResult.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .cause()
+        .isInstanceOfSatisfying(DiscodeitException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MESSAGE_SEND_BUSY));
+    assertThat(inFlightResult.get(5, TimeUnit.SECONDS).channelId()).isEqualTo(inFlight.channelId());
+    assertThat(queuedResult.get(5, TimeUnit.SECONDS).channelId()).isEqualTo(queued.channelId());
+    verify(messageService, never()).create(any(), anyList());
+  }
+
+  private MessageGroupCommitter startCommitter(Duration maxWait) {
+    return startCommitter(2, maxWait, 100);
+  }
+
+  private MessageGroupCommitter startCommitter(int maxBatchSize, Duration maxWait,
+      int queueCapacity) {
+    MessageGroupCommitter committer = new MessageGroupCommitter(messageService, true, maxBatchSize,
+        maxWait, queueCapacity, Duration.ofMillis(10), new SimpleMeterRegistry());
+    committer.start();
+    return committer;
+  }
+
+  private MessageCreateRequest request() {
+    return new MessageCreateRequest("content", UUID.randomUUID(), UUID.randomUUID());
+  }
+
+  private MessageDto messageDto(MessageCreateRequest request) {
+    return new MessageDto(UUID.randomUUID(), Instant.now(), Instant.now(), request.content(),
+        request.channelId(), null, List.of());
+  }
+}
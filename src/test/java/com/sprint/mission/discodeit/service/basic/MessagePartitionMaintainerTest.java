@@ -0,0 +1,71 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.repository.jdbc.MessagePartitionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MessagePartitionMaintainerTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T00:00:00Z"),
+      ZoneOffset.UTC);
+
+  @Mock
+  private MessagePartitionRepository messagePartitionRepository;
+
+  @Test
+  @DisplayName("없는 미래 파티션만 만들고, 보관 기간이 지난 파티션을 분리한다")
+  void maintain_CreatesMissingPartitionsAndArchivesOldOnes() {
+    // given
+    MessagePartitionMaintainer maintainer = new MessagePartitionMaintainer(
+        messagePartitionRepository, 2, 12, "message_archive", CLOCK);
+    given(messagePartitionRepository.isPartitioned()).willReturn(true);
+    given(messagePartitionRepository.findPartitionNames()).willReturn(List.of(
+        "messages_default", "messages_p202509", "messages_p202510", "messages_p202610"));
+
+    // when
+    maintainer.maintain();
+
+    // then
+    verify(messagePartitionRepository).createPartition("messages_p202611",
+        Instant.parse("2026-11-01T00:00:00Z"), Instant.parse("2026-12-01T00:00:00Z"));
+    verify(messagePartitionRepository).createPartition("messages_p202612",
+        Instant.parse("2026-12-01T00:00:00Z"), Instant.parse("2027-01-01T00:00:00Z"));
+    verify(messagePartitionRepository, never()).createPartition(eq("messages_p202610"), any(),
+        any());
+    verify(messagePartitionRepository).archivePartition("messages_p202509", "message_archive");
+    verify(messagePartitionRepository, never()).archivePartition(eq("messages_p202510"),
+        anyString());
+    verify(messagePartitionRepository, never()).archivePartition(eq("messages_default"),
+        anyString());
+  }
+
+  @Test
+  @DisplayName("messages가 파티션 테이블이 아니면 아무것도 하지 않는다")
+  void maintain_WithUnpartitionedTable_DoesNothing() {
+    // given
+    MessagePartitionMaintainer maintainer = new MessagePartitionMaintainer(
+        messagePartitionRepository, 2, 12, "message_archive", CLOCK);
+    given(messagePartitionRepository.isPartitioned()).willReturn(false);
+
+    // when
+    maintainer.maintain();
+
+    // then
+    verify(messagePartitionRepository, never()).findPartitionNames();
+  }
+}
@@ -0,0 +1,101 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountUpdaterTest {
+
+  @Mock
+  private ReadStatusRepository readStatusRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private UnreadCountUpdater unreadCountUpdater;
+
+  @BeforeEach
+  void setUp() {
+    unreadCountUpdater = new UnreadCountUpdater(readStatusRepository, transactionTemplate);
+  }
+
+  @Test
+  @DisplayName("같은 채널의 새 메시지는 한 번에 반영하고, 반영 전에 삭제된 메시지는 제외")
+  @SuppressWarnings("unchecked")
+  void flush_MergesMessagesPerChannel() {
+    // given
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    UUID channelId = UUID.randomUUID();
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID deleted = UUID.randomUUID();
+    unreadCountUpdater.increment(channelId, List.of(first));
+    unreadCountUpdater.increment(channelId, List.of(second, deleted));
+
+    // when
+    boolean canceled = unreadCountUpdater.cancel(deleted);
+    unreadCountUpdater.flush();
+    unreadCountUpdater.flush();
+
+    // then
+    assertThat(canceled).isTrue();
+    assertThat(unreadCountUpdater.cancel(first)).isFalse();
+    verify(readStatusRepository).incrementUnreadCountsSinceRecount(channelId,
+        List.of(first, second));
+    verifyNoMoreInteractions(readStatusRepository);
+  }
+
+  @Test
+  @DisplayName("반영 중인 메시지를 삭제하면 증가가 끝날 때까지 기다린 뒤 줄이도록 알린다")
+  @SuppressWarnings("unchecked")
+  void cancel_WhileFlushing_WaitsAndReturnsFalse() throws Exception {
+    // given
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      flushing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    UUID channelId = UUID.randomUUID();
+    UUID messageId = UUID.randomUUID();
+    unreadCountUpdater.increment(channelId, List.of(messageId));
+    CompletableFuture<Void> flush = CompletableFuture.runAsync(unreadCountUpdater::flush);
+    assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    CompletableFuture<Boolean> canceled =
+        CompletableFuture.supplyAsync(() -> unreadCountUpdater.cancel(messageId));
+
+    // then
+    Thread.sleep(100);
+    assertThat(canceled).isNotDone();
+    release.countDown();
+    assertThat(canceled.get(5, TimeUnit.SECONDS)).isFalse();
+    flush.get(5, TimeUnit.SECONDS);
+    verify(readStatusRepository).incrementUnreadCountsSinceRecount(channelId, List.of(messageId));
+  }
+}
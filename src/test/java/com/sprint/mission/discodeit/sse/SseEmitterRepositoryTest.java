@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseEmitterRepositoryTest {
+
+  private final SseEmitterRepository sseEmitterRepository = new SseEmitterRepository();
+
+  @Test
+  @DisplayName("수신자 목록에 해당하는 연결만 중복 없이 조회한다")
+  void findAllByReceiverIdsIn() {
+    // given
+    UUID receiverA = UUID.randomUUID();
+    UUID receiverB = UUID.randomUUID();
+    SseEmitter emitterA1 = sseEmitterRepository.save(receiverA, new SseEmitter());
+    SseEmitter emitterA2 = sseEmitterRepository.save(receiverA, new SseEmitter());
+    sseEmitterRepository.save(receiverB, new SseEmitter());
+
+    // when
+    List<SseEmitter> result = sseEmitterRepository.findAllByReceiverIdsIn(
+        List.of(receiverA, receiverA, UUID.randomUUID()));
+
+    // then
+    assertThat(result).containsExactly(emitterA1, emitterA2);
+  }
+
+  @Test
+  @DisplayName("수신자의 마지막 연결이 해제되면 항목도 제거된다")
+  void delete_RemovesEmptyReceiver() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    SseEmitter first = sseEmitterRepository.save(receiverId, new SseEmitter());
+    SseEmitter second = sseEmitterRepository.save(receiverId, new SseEmitter());
+
+    // when
+    sseEmitterRepository.delete(receiverId, first);
+    sseEmitterRepository.delete(receiverId, first);
+    int countAfterFirst = sseEmitterRepository.count();
+    sseEmitterRepository.delete(receiverId, second);
+
+    // then
+    assertThat(countAfterFirst).isEqualTo(1);
+    assertThat(sseEmitterRepository.findByReceiverId(receiverId)).isEmpty();
+    assertThat(sseEmitterRepository.countReceivers()).isZero();
+    assertThat(sseEmitterRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("같은 수신자의 등록과 해제가 동시에 일어나도 연결이 유실되지 않는다")
+  void save_ConcurrentWithDelete() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    try {
+      CompletableFuture.allOf(IntStream.range(0, 1_000)
+          .mapToObj(i -> CompletableFuture.runAsync(() -> {
+            SseEmitter transientEmitter = sseEmitterRepository.save(receiverId, new SseEmitter());
+            sseEmitterRepository.save(receiverId, new SseEmitter());
+            sseEmitterRepository.delete(receiverId, transientEmitter);
+          }, executor))
+          .toArray(CompletableFuture[]::new)).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    // then
+    assertThat(sseEmitterRepository.findByReceiverId(receiverId))
+        .hasValueSatisfying(emitters -> assertThat(emitters).hasSize(1_000));
+    assertThat(sseEmitterRepository.count()).isEqualTo(1_000);
+  }
+}
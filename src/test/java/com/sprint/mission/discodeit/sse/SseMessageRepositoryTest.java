@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class SseMessageRepositoryTest {
+
+  private SseMessageRepository createRepository(DataSize retentionSize) {
+    return new SseMessageRepository(new ObjectMapper(), Duration.ofMinutes(5), retentionSize,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("수신자에게 보낸 이벤트와 브로드캐스트 이벤트를 번호 순으로 다시 보낸다")
+  void findAllBySequenceAfterAndReceiverId() {
+    // given
+    SseMessageRepository sseMessageRepository = createRepository(DataSize.ofMegabytes(1));
+    UUID receiverA = UUID.randomUUID();
+    UUID receiverB = UUID.randomUUID();
+    long lastEventId = sseMessageRepository.getLastSequence();
+    SseMessage first = sseMessageRepository.save(
+        SseMessage.create(receiverA, "notifications", Map.of("content", "first")));
+    SseMessage broadcast = sseMessageRepository.save(
+        SseMessage.createBroadcast("channels.refresh", "broadcast"));
+    sseMessageRepository.save(SseMessage.create(receiverB, "notifications", "other"));
+    SseMessage second = sseMessageRepository.save(
+        SseMessage.create(List.of(receiverA, receiverB), "notifications", "second"));
+
+    // when
+    Optional<List<SseMessage>> all =
+        sseMessageRepository.findAllBySequenceAfterAndReceiverId(lastEventId, receiverA);
+    Optional<List<SseMessage>> afterFirst =
+        sseMessageRepository.findAllBySequenceAfterAndReceiverId(first.getSequence(), receiverA);
+
+    // then
+    assertThat(all).hasValueSatisfying(messages ->
+        assertThat(messages).containsExactly(first, broadcast, second));
+    assertThat(afterFirst).hasValueSatisfying(messages ->
+        assertThat(messages).containsExactly(broadcast, second));
+    assertThat(first.getEventData()).isEqualTo("{\"content\":\"first\"}");
+  }
+
+  @Test
+  @DisplayName("보관 용량을 넘겨 제거된 이벤트 이후를 요청하면 재동기화가 필요하다")
+  void findAllBySequenceAfterAndReceiverId_WhenEvicted() {
+    // given
+    SseMessageRepository sseMessageRepository = createRepository(DataSize.ofBytes(2000));
+    UUID receiverId = UUID.randomUUID();
+    long lastEventId = sseMessageRepository.getLastSequence();
+    String data = "a".repeat(300);
+    SseMessage first = sseMessageRepository.save(
+        SseMessage.create(receiverId, "notifications", data));
+    for (int i = 0; i < 3; i++) {
+      sseMessageRepository.save(SseMessage.create(receiverId, "notifications", data));
+    }
+
+    // when
+    Optional<List<SseMessage>> evicted =
+        sseMessageRepository.findAllBySequenceAfterAndReceiverId(lastEventId, receiverId);
+    Optional<List<SseMessage>> retained =
+        sseMessageRepository.findAllBySequenceAfterAndReceiverId(first.getSequence(), receiverId);
+
+    // then
+    assertThat(evicted).isEmpty();
+    assertThat(retained).hasValueSatisfying(messages -> assertThat(messages).hasSize(3));
+  }
+
+  @Test
+  @DisplayName("이 노드가 발급하지 않은 번호는 재동기화가 필요하다")
+  void findAllBySequenceAfterAndReceiverId_WhenUnknownSequence() {
+    // given
+    SseMessageRepository sseMessageRepository = createRepository(DataSize.ofMegabytes(1));
+    UUID receiverId = UUID.randomUUID();
+    SseMessage message = sseMessageRepository.save(
+        SseMessage.create(receiverId, "notifications", "data"));
+
+    // when
+    Optional<List<SseMessage>> latest =
+        sseMessageRepository.findAllBySequenceAfterAndReceiverId(message.getSequence(), receiverId);
+
+    // then
+    assertThat(latest).hasValueSatisfying(messages -> assertThat(messages).isEmpty());
+    assertThat(sseMessageRepository.findAllBySequenceAfterAndReceiverId(
+        message.getSequence() + 1, receiverId)).isEmpty();
+    assertThat(sseMessageRepository.findAllBySequenceAfterAndReceiverId(0, receiverId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다른 노드나 이전 실행이 발급한 이벤트 id는 번호가 같아도 받아들이지 않는다")
+  void parseEventId_RejectsForeignEpoch() {
+    // given
+    SseMessageRepository sseMessageRepository = createRepository(DataSize.ofMegabytes(1));
+    SseMessageRepository otherNode = createRepository(DataSize.ofMegabytes(1));
+    SseMessage message = sseMessageRepository.save(
+        SseMessage.create(UUID.randomUUID(), "notifications", "data"));
+
+    // when & then
+    assertThat(sseMessageRepository.parseEventId(message.getEventId()))
+        .contains(message.getSequence());
+    assertThat(otherNode.parseEventId(message.getEventId())).isEmpty();
+    assertThat(sseMessageRepository.parseEventId(String.valueOf(message.getSequence())))
+        .isEmpty();
+  }
+}
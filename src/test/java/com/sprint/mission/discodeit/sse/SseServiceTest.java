@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.service.UserPresenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseServiceTest {
+
+  private SseEmitterRepository sseEmitterRepository;
+  private SseMessageRepository sseMessageRepository;
+  private SseService sseService;
+  private final List<RecordingSseEmitter> emitters = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    sseMessageRepository = new SseMessageRepository(new ObjectMapper(), Duration.ofMinutes(5),
+        DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    sseEmitterRepository = new SseEmitterRepository();
+    sseService = new SseService(sseEmitterRepository, sseMessageRepository,
+        mock(UserPresenceService.class)) {
+      @Override
+      SseEmitter createEmitter() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        emitters.add(emitter);
+        return emitter;
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("연결이 끊긴 동안 보낸 이벤트는 재연결 시 다시 받는다")
+  void connect_AfterDisconnect_ReplaysTargetedEvents() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    SseEmitter first = sseService.connect(receiverId, null);
+    String lastEventId = sseMessageRepository.getLastEventId();
+    // 연결 종료 콜백과 같이 연결 목록에서 제거한다.
+    sseEmitterRepository.delete(receiverId, first);
+
+    // when
+    sseService.send(receiverId, "notifications", "while-disconnected");
+    sseService.connect(receiverId, lastEventId);
+
+    // then
+    assertThat(emitters.get(1).sentData())
+        .contains("while-disconnected")
+        .doesNotContain(SseService.RESYNC_REQUIRED_EVENT);
+  }
+
+  @Test
+  @DisplayName("다른 실행이 발급한 이벤트 id로 재연결하면 재동기화를 요청한다")
+  void connect_WithForeignEventId_RequestsResync() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    sseService.send(receiverId, "notifications", "data");
+    String foreignEventId = "other:" + sseMessageRepository.getLastSequence();
+
+    // when
+    sseService.connect(receiverId, foreignEventId);
+
+    // then
+    assertThat(emitters.get(0).sentData()).contains(SseService.RESYNC_REQUIRED_EVENT);
+  }
+
+  private static class RecordingSseEmitter extends SseEmitter {
+
+    private final List<Object> sent = new ArrayList<>();
+
+    @Override
+    public synchronized void send(Set<DataWithMediaType> items) {
+      items.forEach(item -> sent.add(item.getData()));
+    }
+
+    // 이벤트는 "id:", "event:" 같은 필드와 데이터가 여러 항목으로 나뉘어 있으므로 하나로 합쳐 비교한다.
+    String sentData() {
+      return String.join("", sent.stream().map(String::valueOf).toList());
+    }
+  }
+}
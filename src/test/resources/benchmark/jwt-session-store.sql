@@ -0,0 +1,68 @@
+-- JWT 세션 저장소 토큰 재발급 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db redis
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/jwt-session-store.sql
+--
+-- 세션 정리가 없던 때처럼 만료된 세션 100만 건이 쌓인 jwt_sessions에서 토큰 재발급이 실행하는
+-- SQL(refresh token으로 조회 + 세 컬럼 갱신)의 실행 시간을 본다. 토큰 컬럼의 UNIQUE 인덱스는
+-- 수백 바이트짜리 키를 가지므로 행이 늘수록 인덱스 깊이와 갱신 비용이 커진다. 마지막 DELETE는
+-- 채운 세션을 지우며 정리 쿼리 비용을 함께 보여 준다.
+--
+-- 재발급 처리량은 애플리케이션을 저장소별로 띄워 같은 방법으로 측정한다.
+--   JWT_SESSION_STORE=jpa  ./gradlew bootRun   # 비교 기준
+--   JWT_SESSION_STORE=redis ./gradlew bootRun
+--
+--   curl -s -c jar -b jar localhost:8080/api/auth/csrf-token > /dev/null
+--   XSRF=$(awk '/XSRF-TOKEN/ {print $7}' jar)
+--   curl -s -c jar -b jar -H "X-XSRF-TOKEN: $XSRF" -H 'Content-Type: application/json' \
+--     -d '{"username":"bench1","password":"password"}' localhost:8080/api/auth/login > /dev/null
+--   time (for i in $(seq 1 1000); do curl -s -o /dev/null -c jar -b jar -H "X-XSRF-TOKEN: $XSRF" \
+--     -X POST localhost:8080/api/auth/refresh; done)
+--
+-- 1000 / (경과 시간) 을 초당 재발급 수로 본다. refresh token은 매번 바뀌므로 쿠키 파일(jar)을
+-- 갱신하며 요청해야 한다. 측정 전 이 스크립트로 jwt_sessions에 만료 세션을 채워 두고, jpa 저장소는
+-- 정리 작업이 돌지 않도록 JWT_SESSION_CLEANUP_INTERVAL_MS를 측정 시간보다 길게 둔다.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO jwt_sessions (id, created_at, updated_at, user_id, access_token, refresh_token,
+                          expiration_time)
+SELECT gen_random_uuid(),
+       now() - interval '30 days',
+       now() - interval '30 days',
+       gen_random_uuid(),
+       'bench-access.' || md5(g::text) || repeat('a', 240),
+       'bench-refresh.' || md5(g::text) || repeat('r', 240),
+       now() - interval '30 days'
+FROM generate_series(1, 1000000) AS g;
+
+COMMIT;
+
+ANALYZE jwt_sessions;
+
+SELECT pg_size_pretty(pg_total_relation_size('jwt_sessions')) AS jwt_sessions_size;
+
+-- 재발급: refresh token으로 조회
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT *
+FROM jwt_sessions
+WHERE refresh_token = 'bench-refresh.' || md5('500000') || repeat('r', 240);
+
+-- 재발급: 새 토큰으로 갱신 (두 UNIQUE 인덱스 모두 갱신)
+BEGIN;
+EXPLAIN (ANALYZE, BUFFERS)
+UPDATE jwt_sessions
+SET access_token    = 'bench-access.new' || repeat('a', 240),
+    refresh_token   = 'bench-refresh.new' || repeat('r', 240),
+    expiration_time = now() + interval '10 minutes',
+    updated_at      = now()
+WHERE refresh_token = 'bench-refresh.' || md5('500000') || repeat('r', 240);
+ROLLBACK;
+
+-- JpaJwtSessionStore.cleanUp이 실행하는 정리 쿼리
+EXPLAIN (ANALYZE, BUFFERS)
+DELETE FROM jwt_sessions
+WHERE COALESCE(updated_at, created_at) < now() - interval '14 days';
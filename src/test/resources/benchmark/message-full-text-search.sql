@@ -0,0 +1,81 @@
+-- 메시지 전문 검색 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/message-full-text-search.sql
+--
+-- 100개 채널에 1,000만 건의 메시지를 생성한 뒤 MessageRepository#search 와 같은 쿼리의 실행 계획과
+-- 실행 시간을 측정한다. 희귀 단어 / 흔한 단어 / 채널 한정 검색을 각각 확인하며, 모두 idx_messages_content_tsv
+-- (Bitmap Index Scan)를 사용해야 한다. 비교용으로 LIKE 검색(전체 스캔)도 실행한다.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO users (id, created_at, username, email, password, role)
+VALUES ('00000000-0000-0000-0000-0000000000a1', now(), 'search-benchmark',
+        'search-benchmark@example.com', 'x', 'USER');
+
+INSERT INTO channels (id, created_at, name, description, type)
+SELECT ('00000000-0000-0000-0000-' || lpad(to_hex(g), 12, '0'))::uuid, now(),
+       'search-benchmark-' || g, 'full-text search benchmark', 'PUBLIC'
+FROM generate_series(1, 100) AS g;
+
+-- 단어 사전: 흔한 단어 10개(약 10%씩 등장), 희귀 단어는 메시지 번호를 포함해 거의 한 번씩 등장
+INSERT INTO messages (id, created_at, content, channel_id, author_id)
+SELECT gen_random_uuid(),
+       timestamptz '2024-01-01' + (g * interval '1 second'),
+       (ARRAY ['안녕하세요', '배포', '회의', '점심', '리뷰', '버그', '테스트', '장애', '일정', '공지'])[1 + g % 10]
+           || ' message ' || g || ' rare' || (g % 100000),
+       ('00000000-0000-0000-0000-' || lpad(to_hex(1 + g % 100), 12, '0'))::uuid,
+       '00000000-0000-0000-0000-0000000000a1'
+FROM generate_series(1, 10000000) AS g;
+
+COMMIT;
+
+ANALYZE messages;
+
+\set viewer '00000000-0000-0000-0000-0000000000a1'
+
+-- 희귀 단어 (약 100건)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.rank
+FROM (SELECT m.id, m.created_at, ts_rank(m.content_tsv, q.query) AS rank
+      FROM messages m
+               CROSS JOIN websearch_to_tsquery('simple', 'rare4242') AS q(query)
+               JOIN channels c ON c.id = m.channel_id AND c.deleted_at IS NULL
+      WHERE m.content_tsv @@ q.query
+        AND (c.type = 'PUBLIC' OR EXISTS (SELECT 1
+                                          FROM read_statuses rs
+                                          WHERE rs.channel_id = c.id
+                                            AND rs.user_id = :'viewer'))) r
+ORDER BY r.rank DESC, r.created_at DESC, r.id DESC
+LIMIT 21;
+
+-- 흔한 단어 + 채널 한정 (약 10,000건)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.rank
+FROM (SELECT m.id, m.created_at, ts_rank(m.content_tsv, q.query) AS rank
+      FROM messages m
+               CROSS JOIN websearch_to_tsquery('simple', '배포') AS q(query)
+               JOIN channels c ON c.id = m.channel_id AND c.deleted_at IS NULL
+      WHERE m.content_tsv @@ q.query
+        AND m.channel_id = '00000000-0000-0000-0000-000000000002'
+        AND (c.type = 'PUBLIC' OR EXISTS (SELECT 1
+                                          FROM read_statuses rs
+                                          WHERE rs.channel_id = c.id
+                                            AND rs.user_id = :'viewer'))) r
+ORDER BY r.rank DESC, r.created_at DESC, r.id DESC
+LIMIT 21;
+
+-- 비교용: LIKE 검색 (Seq Scan)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id
+FROM messages m
+WHERE m.content LIKE '%rare4242%'
+ORDER BY m.created_at DESC
+LIMIT 21;
+
+-- 정리
+DELETE FROM channels WHERE description = 'full-text search benchmark';
+DELETE FROM users WHERE id = '00000000-0000-0000-0000-0000000000a1';
@@ -0,0 +1,63 @@
+-- 메시지 키셋 페이지네이션 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/message-keyset-pagination.sql
+--
+-- 1,000만 건의 메시지를 가진 단일 채널에서 첫 페이지와 10,000번째 페이지(페이지 크기 50)의
+-- 조회 지연 시간을 비교한다. 키셋 방식은 두 페이지 모두 인덱스 범위 스캔 + LIMIT 51로 끝나므로
+-- 실행 시간이 거의 같아야 하며, 비교용 OFFSET 방식은 건너뛴 행 수에 비례해 느려진다.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO channels (id, created_at, name, description, type)
+VALUES ('00000000-0000-0000-0000-0000000000b1', now(), 'benchmark', 'keyset benchmark', 'PUBLIC');
+
+-- 같은 created_at을 가진 메시지가 섞이도록 1초에 10건씩 생성한다.
+INSERT INTO messages (id, created_at, content, channel_id)
+SELECT gen_random_uuid(),
+       timestamptz '2024-01-01' + ((g / 10) * interval '1 second'),
+       'message ' || g,
+       '00000000-0000-0000-0000-0000000000b1'
+FROM generate_series(1, 10000000) AS g;
+
+COMMIT;
+
+ANALYZE messages;
+
+-- 1페이지 (커서 없음)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM messages m
+WHERE m.channel_id = '00000000-0000-0000-0000-0000000000b1'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 10,000페이지: 50 * 9,999 번째 행을 커서로 사용
+SELECT created_at AS cursor_created_at, id AS cursor_id
+FROM messages
+WHERE channel_id = '00000000-0000-0000-0000-0000000000b1'
+ORDER BY created_at DESC, id DESC
+OFFSET 499949 LIMIT 1
+\gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM messages m
+WHERE m.channel_id = '00000000-0000-0000-0000-0000000000b1'
+  AND (m.created_at, m.id) < (:'cursor_created_at', :'cursor_id')
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 비교용: OFFSET 방식 10,000페이지
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM messages m
+WHERE m.channel_id = '00000000-0000-0000-0000-0000000000b1'
+ORDER BY m.created_at DESC, m.id DESC
+OFFSET 499950 LIMIT 51;
+
+-- 정리
+DELETE FROM channels WHERE id = '00000000-0000-0000-0000-0000000000b1';
@@ -0,0 +1,106 @@
+-- 메시지 페이지 프로젝션 조회 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/message-page-projection.sql
+--
+-- 기존 엔티티 경로는 페이지 조회(messages + users + binary_contents FETCH JOIN) 후 첨부파일을
+-- @BatchSize로 지연 로딩했고, 엔티티마다 스냅샷과 프록시를 만든 뒤 MessageMapper로 다시 복사했다.
+-- 프로젝션 경로는 MessageDto에 필요한 컬럼만 조회하는 쿼리 1회 + 페이지 전체 첨부파일 조회 1회로 끝난다.
+-- 이 스크립트는 두 경로가 실제로 실행하는 SQL의 실행 시간과 전송 컬럼 수를 비교한다.
+--
+-- JVM 쪽 할당량은 애플리케이션을 띄운 상태에서 같은 페이지를 반복 조회하며 측정한다.
+--   curl -s localhost:8080/actuator/metrics/jvm.gc.memory.allocated   # 측정 전
+--   for i in $(seq 1 1000); do curl -s -o /dev/null -b "$COOKIE" \
+--     "localhost:8080/api/messages?channelId=00000000-0000-0000-0000-0000000000d1&size=50"; done
+--   curl -s localhost:8080/actuator/metrics/jvm.gc.memory.allocated   # 측정 후
+-- (측정 전/후 차이) / 1000 을 페이지당 할당량으로 보고, 변경 전 커밋과 같은 방법으로 비교한다.
+-- 메시지 꼬리 캐시가 켜져 있으면 DB 조회가 일어나지 않으므로 discodeit.message.tail-cache.enabled=false로 측정한다.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO channels (id, created_at, name, description, type)
+VALUES ('00000000-0000-0000-0000-0000000000d1', now(), 'benchmark', 'projection benchmark', 'PUBLIC');
+
+-- 프로필 이미지가 있는 사용자 100명
+INSERT INTO binary_contents (id, created_at, file_name, size, content_type, upload_status)
+SELECT ('00000000-0000-0000-0001-' || lpad(to_hex(g), 12, '0'))::uuid, now(),
+       'profile' || g || '.png', 1024, 'image/png', 'SUCCESS'
+FROM generate_series(1, 100) AS g;
+
+INSERT INTO users (id, created_at, username, email, password, profile_id, role)
+SELECT ('00000000-0000-0000-0002-' || lpad(to_hex(g), 12, '0'))::uuid, now(),
+       'bench' || g, 'bench' || g || '@example.com', repeat('x', 60),
+       ('00000000-0000-0000-0001-' || lpad(to_hex(g), 12, '0'))::uuid, 'USER'
+FROM generate_series(1, 100) AS g;
+
+INSERT INTO messages (id, created_at, content, channel_id, author_id)
+SELECT ('00000000-0000-0000-0003-' || lpad(to_hex(g), 12, '0'))::uuid,
+       timestamptz '2024-01-01' + g * interval '1 second',
+       'message ' || g,
+       '00000000-0000-0000-0000-0000000000d1',
+       ('00000000-0000-0000-0002-' || lpad(to_hex(g % 100 + 1), 12, '0'))::uuid
+FROM generate_series(1, 100000) AS g;
+
+-- 메시지 5건 중 1건에 첨부파일 2개
+INSERT INTO binary_contents (id, created_at, file_name, size, content_type, upload_status)
+SELECT ('00000000-0000-0000-0004-' || lpad(to_hex(g * 2 + k), 12, '0'))::uuid, now(),
+       'file' || g || '-' || k || '.png', 2048, 'image/png', 'SUCCESS'
+FROM generate_series(1, 100000) AS g, generate_series(0, 1) AS k
+WHERE g % 5 = 0;
+
+INSERT INTO message_attachments (message_id, attachment_id)
+SELECT ('00000000-0000-0000-0003-' || lpad(to_hex(g), 12, '0'))::uuid,
+       ('00000000-0000-0000-0004-' || lpad(to_hex(g * 2 + k), 12, '0'))::uuid
+FROM generate_series(1, 100000) AS g, generate_series(0, 1) AS k
+WHERE g % 5 = 0;
+
+COMMIT;
+
+ANALYZE messages;
+ANALYZE users;
+ANALYZE binary_contents;
+ANALYZE message_attachments;
+
+-- 변경 전: 엔티티 FETCH JOIN (모든 컬럼, 비밀번호 해시 포함)
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT m.*, a.*, p.*
+FROM messages m
+         LEFT JOIN users a ON a.id = m.author_id
+         LEFT JOIN binary_contents p ON p.id = a.profile_id
+WHERE m.channel_id = '00000000-0000-0000-0000-0000000000d1'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 변경 후: MessageView 프로젝션 (MessageDto에 필요한 컬럼만)
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT m.id, m.created_at, m.updated_at, m.content, m.channel_id,
+       a.id, a.username, a.email, a.role,
+       p.id, p.file_name, p.size, p.content_type, p.upload_status
+FROM messages m
+         LEFT JOIN users a ON a.id = m.author_id
+         LEFT JOIN binary_contents p ON p.id = a.profile_id
+WHERE m.channel_id = '00000000-0000-0000-0000-0000000000d1'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 페이지 전체 첨부파일 조회 (두 번째이자 마지막 쿼리)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT ma.message_id, b.id, b.file_name, b.size, b.content_type, b.upload_status
+FROM message_attachments ma
+         JOIN binary_contents b ON b.id = ma.attachment_id
+WHERE ma.message_id IN (SELECT m.id
+                        FROM messages m
+                        WHERE m.channel_id = '00000000-0000-0000-0000-0000000000d1'
+                        ORDER BY m.created_at DESC, m.id DESC
+                        LIMIT 51);
+
+-- 정리
+DELETE FROM message_attachments
+WHERE message_id IN (SELECT id FROM messages WHERE channel_id = '00000000-0000-0000-0000-0000000000d1');
+DELETE FROM channels WHERE id = '00000000-0000-0000-0000-0000000000d1';
+DELETE FROM binary_contents WHERE id::text LIKE '00000000-0000-0000-0004-%';
+DELETE FROM users WHERE id::text LIKE '00000000-0000-0000-0002-%';
+DELETE FROM binary_contents WHERE id::text LIKE '00000000-0000-0000-0001-%';
@@ -0,0 +1,155 @@
+-- 메시지 파티셔닝 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/message-partitioning.sql
+--
+-- 24개월에 걸친 5,000만 건의 메시지를 단일 테이블(bench.messages_flat)과 월별 파티션 테이블
+-- (bench.messages_partitioned)에 각각 적재한 뒤 다음을 비교한다.
+--   1) 최근 메시지 10만 건 INSERT 시간
+--   2) 최근 채널 첫 페이지(LIMIT 51) 조회: 파티션 테이블은 최신 파티션부터 순서대로 스캔하고 LIMIT에서 멈춰야 한다.
+--   3) 키셋 커서 페이지 조회: created_at 조건으로 커서 이후 파티션이 제외(partition pruning)되어야 한다.
+--   4) 테이블/인덱스 크기와 최근 파티션의 VACUUM 시간
+--   5) 기본 파티션에 같은 달의 행이 있을 때 파티션 생성(행 이동) 시간
+-- 애플리케이션 테이블과 같은 컬럼과 인덱스를 사용하며, 외래 키는 제외한다.
+
+\timing on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.messages_flat
+(
+    id          uuid                     NOT NULL,
+    created_at  timestamp with time zone NOT NULL,
+    updated_at  timestamp with time zone,
+    content     text,
+    channel_id  uuid                     NOT NULL,
+    author_id   uuid,
+    content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED,
+    PRIMARY KEY (id, created_at)
+);
+
+CREATE TABLE bench.messages_partitioned
+(
+    LIKE bench.messages_flat INCLUDING GENERATED,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE bench.messages_partitioned_default PARTITION OF bench.messages_partitioned DEFAULT;
+
+DO
+$$
+    DECLARE
+        month_start timestamptz;
+    BEGIN
+        FOR i IN 0..24
+            LOOP
+                month_start := timestamptz '2024-11-01 00:00:00+00' + (i * interval '1 month');
+                EXECUTE format(
+                        'CREATE TABLE bench.messages_p%s PARTITION OF bench.messages_partitioned '
+                            || 'FOR VALUES FROM (%L) TO (%L)',
+                        to_char(month_start AT TIME ZONE 'UTC', 'YYYYMM'),
+                        month_start, month_start + interval '1 month');
+            END LOOP;
+    END
+$$;
+
+-- 1,000개 채널에 2024-11-01부터 24개월 동안 고르게 분포한 5,000만 건
+INSERT INTO bench.messages_flat (id, created_at, content, channel_id)
+SELECT gen_random_uuid(),
+       timestamptz '2024-11-01 00:00:00+00' + (g * interval '1 second' * 1.26),
+       'message ' || g,
+       ('00000000-0000-0000-0000-' || lpad((g % 1000)::text, 12, '0'))::uuid
+FROM generate_series(1, 50000000) AS g;
+
+INSERT INTO bench.messages_partitioned (id, created_at, content, channel_id)
+SELECT id, created_at, content, channel_id
+FROM bench.messages_flat;
+
+CREATE INDEX ON bench.messages_flat (channel_id, created_at DESC, id DESC);
+CREATE INDEX ON bench.messages_partitioned (channel_id, created_at DESC, id DESC);
+
+ANALYZE bench.messages_flat;
+ANALYZE bench.messages_partitioned;
+
+-- 1) 최근 메시지 10만 건 INSERT
+INSERT INTO bench.messages_flat (id, created_at, content, channel_id)
+SELECT gen_random_uuid(), timestamptz '2026-10-15 00:00:00+00' + (g * interval '1 millisecond'),
+       'recent ' || g, ('00000000-0000-0000-0000-' || lpad((g % 1000)::text, 12, '0'))::uuid
+FROM generate_series(1, 100000) AS g;
+
+INSERT INTO bench.messages_partitioned (id, created_at, content, channel_id)
+SELECT gen_random_uuid(), timestamptz '2026-10-15 00:00:00+00' + (g * interval '1 millisecond'),
+       'recent ' || g, ('00000000-0000-0000-0000-' || lpad((g % 1000)::text, 12, '0'))::uuid
+FROM generate_series(1, 100000) AS g;
+
+-- 2) 최근 채널 첫 페이지
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM bench.messages_flat m
+WHERE m.channel_id = '00000000-0000-0000-0000-000000000007'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM bench.messages_partitioned m
+WHERE m.channel_id = '00000000-0000-0000-0000-000000000007'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 3) 키셋 커서 페이지 (3일 전 커서)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM bench.messages_flat m
+WHERE m.channel_id = '00000000-0000-0000-0000-000000000007'
+  AND (m.created_at, m.id) < (timestamptz '2026-10-12 00:00:00+00', 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+  AND m.created_at >= timestamptz '2026-10-01 00:00:00+00'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.*
+FROM bench.messages_partitioned m
+WHERE m.channel_id = '00000000-0000-0000-0000-000000000007'
+  AND (m.created_at, m.id) < (timestamptz '2026-10-12 00:00:00+00', 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+  AND m.created_at >= timestamptz '2026-10-01 00:00:00+00'
+ORDER BY m.created_at DESC, m.id DESC
+LIMIT 51;
+
+-- 4) 크기와 VACUUM 비용: 단일 테이블은 전체 이력을, 파티션 테이블은 최근 파티션만 정리한다.
+SELECT relname,
+       pg_size_pretty(pg_table_size(oid))   AS table_size,
+       pg_size_pretty(pg_indexes_size(oid)) AS index_size
+FROM pg_class
+WHERE relnamespace = 'bench'::regnamespace
+  AND relname IN ('messages_flat', 'messages_p202610')
+ORDER BY relname;
+
+VACUUM (ANALYZE) bench.messages_flat;
+VACUUM (ANALYZE) bench.messages_p202610;
+
+-- 5) 기본 파티션에 같은 달의 행이 있을 때 파티션 생성: MessagePartitionRepository.createPartition과 같은 순서로
+--    기본 파티션의 쓰기를 막고 10만 건을 옮긴다. 이동 시간 동안 기본 파티션 쓰기가 대기한다.
+INSERT INTO bench.messages_partitioned (id, created_at, content, channel_id)
+SELECT gen_random_uuid(), timestamptz '2027-01-01 00:00:00+00' + (g * interval '1 second'),
+       'imported ' || g, ('00000000-0000-0000-0000-' || lpad((g % 1000)::text, 12, '0'))::uuid
+FROM generate_series(1, 100000) AS g;
+
+BEGIN;
+LOCK TABLE bench.messages_partitioned_default IN EXCLUSIVE MODE;
+CREATE TEMP TABLE messages_p202701_moved ON COMMIT DROP AS
+SELECT id, created_at, updated_at, content, channel_id, author_id
+FROM bench.messages_partitioned_default
+WHERE created_at >= '2027-01-01 00:00:00+00' AND created_at < '2027-02-01 00:00:00+00';
+DELETE FROM bench.messages_partitioned_default
+WHERE created_at >= '2027-01-01 00:00:00+00' AND created_at < '2027-02-01 00:00:00+00';
+CREATE TABLE bench.messages_p202701 PARTITION OF bench.messages_partitioned
+    FOR VALUES FROM ('2027-01-01 00:00:00+00') TO ('2027-02-01 00:00:00+00');
+INSERT INTO bench.messages_partitioned (id, created_at, updated_at, content, channel_id, author_id)
+SELECT id, created_at, updated_at, content, channel_id, author_id
+FROM messages_p202701_moved;
+COMMIT;
+
+DROP SCHEMA bench CASCADE;
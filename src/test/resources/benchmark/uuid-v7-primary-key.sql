@@ -0,0 +1,90 @@
+-- UUIDv4 vs UUIDv7 기본 키 벤치마크 (PostgreSQL)
+--
+-- 실행 방법:
+--   docker compose up -d db
+--   psql -h localhost -U $POSTGRES_USER -d discodeit -f src/test/resources/benchmark/uuid-v7-primary-key.sql
+--
+-- 같은 구조의 두 테이블에 1,000만 건을 1만 건 단위 트랜잭션으로 적재하며 INSERT 시간과 WAL 발생량,
+-- 기본 키 인덱스 크기와 리프 페이지 밀도를 비교한다. v4는 매 INSERT가 무작위 리프 페이지에 들어가 페이지 분할과
+-- 전체 페이지 쓰기(full page write)가 늘어나고, v7은 항상 인덱스 오른쪽 끝에 추가된다.
+-- uuid_v7() 함수는 애플리케이션의 UuidV7Generator와 같은 비트 배치(48비트 밀리초 + 버전 7 + 난수)를 만든다.
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE FUNCTION bench.uuid_v7(ts timestamptz) RETURNS uuid AS
+$$
+SELECT encode(
+               set_bit(
+                       set_bit(
+                               overlay(uuid_send(gen_random_uuid())
+                                       PLACING substring(int8send((extract(epoch FROM ts) * 1000)::bigint) FROM 3)
+                                       FROM 1 FOR 6),
+                               52, 1),
+                       53, 1),
+               'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE bench.messages_v4
+(
+    id         uuid PRIMARY KEY,
+    created_at timestamp with time zone NOT NULL,
+    content    text,
+    channel_id uuid                     NOT NULL
+);
+CREATE TABLE bench.messages_v7 (LIKE bench.messages_v4 INCLUDING ALL);
+
+CREATE PROCEDURE bench.load(table_name text, use_v7 boolean, total int, batch int)
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    wal_before pg_lsn := pg_current_wal_lsn();
+    started    timestamptz := clock_timestamp();
+BEGIN
+    FOR i IN 0..(total / batch) - 1
+        LOOP
+            EXECUTE format(
+                    'INSERT INTO bench.%I (id, created_at, content, channel_id) '
+                        || 'SELECT CASE WHEN $1 THEN bench.uuid_v7(clock_timestamp()) ELSE gen_random_uuid() END, '
+                        || 'clock_timestamp(), ''message '' || g, ''00000000-0000-0000-0000-000000000001'' '
+                        || 'FROM generate_series(1, $2) AS g',
+                    table_name) USING use_v7, batch;
+            COMMIT;
+        END LOOP;
+    RAISE NOTICE '%: % rows, elapsed=%, wal=%', table_name, total, clock_timestamp() - started,
+        pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), wal_before));
+END
+$$;
+
+CALL bench.load('messages_v4', false, 10000000, 10000);
+CALL bench.load('messages_v7', true, 10000000, 10000);
+
+-- 기본 키 인덱스 크기와 리프 밀도 (v7은 오른쪽 끝 분할로 리프가 거의 가득 찬다)
+SELECT 'v4'                                                  AS generator,
+       pg_size_pretty(pg_relation_size('bench.messages_v4_pkey')) AS pk_size,
+       avg_leaf_density,
+       leaf_fragmentation
+FROM pgstatindex('bench.messages_v4_pkey')
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench.messages_v7_pkey')),
+       avg_leaf_density,
+       leaf_fragmentation
+FROM pgstatindex('bench.messages_v7_pkey');
+
+-- 최근 데이터 조회 시 버퍼 적중: 최근 10만 건의 id로 조회
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM bench.messages_v4 m
+WHERE m.id IN (SELECT id FROM bench.messages_v4 ORDER BY created_at DESC LIMIT 100000);
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM bench.messages_v7 m
+WHERE m.id IN (SELECT id FROM bench.messages_v7 ORDER BY created_at DESC LIMIT 100000);
+
+DROP SCHEMA bench CASCADE;